@@ -19,6 +19,20 @@
 CREATE DATABASE IF NOT EXISTS `portfolio_shopping_mall` /*!40100 DEFAULT CHARACTER SET utf8mb4 COLLATE utf8mb4_general_ci */;
 USE `portfolio_shopping_mall`;
 
+-- 테이블 portfolio_shopping_mall.batch_job_checkpoints 구조 내보내기
+CREATE TABLE IF NOT EXISTS `batch_job_checkpoints` (
+  `job_name` varchar(100) NOT NULL,
+  `last_processed_id` bigint(20) NOT NULL DEFAULT 0,
+  `cutoff_date` datetime DEFAULT NULL,
+  `status` enum('RUNNING','COMPLETED') NOT NULL DEFAULT 'COMPLETED',
+  `processed_count` int(11) NOT NULL DEFAULT 0,
+  `started_at` datetime DEFAULT NULL,
+  `updated_at` timestamp NOT NULL DEFAULT current_timestamp() ON UPDATE current_timestamp(),
+  PRIMARY KEY (`job_name`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
+-- 내보낼 데이터가 선택되어 있지 않습니다.
+
 -- 테이블 portfolio_shopping_mall.categories 구조 내보내기
 CREATE TABLE IF NOT EXISTS `categories` (
   `category_id` int(11) NOT NULL AUTO_INCREMENT,
@@ -35,6 +49,17 @@ CREATE TABLE IF NOT EXISTS `categories` (
 
 -- 내보낼 데이터가 선택되어 있지 않습니다.
 
+-- 테이블 portfolio_shopping_mall.dashboard_counters 구조 내보내기
+CREATE TABLE IF NOT EXISTS `dashboard_counters` (
+  `counter_name` varchar(50) NOT NULL,
+  `slot` tinyint(4) NOT NULL,
+  `counter_value` decimal(19,2) NOT NULL DEFAULT 0.00,
+  `updated_at` timestamp NOT NULL DEFAULT current_timestamp() ON UPDATE current_timestamp(),
+  PRIMARY KEY (`counter_name`,`slot`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
+-- 내보낼 데이터가 선택되어 있지 않습니다.
+
 -- 테이블 portfolio_shopping_mall.delivery_histories 구조 내보내기
 CREATE TABLE IF NOT EXISTS `delivery_histories` (
   `delivery_history_id` int(11) NOT NULL AUTO_INCREMENT,
@@ -54,6 +79,30 @@ CREATE TABLE IF NOT EXISTS `delivery_histories` (
 
 -- 내보낼 데이터가 선택되어 있지 않습니다.
 
+-- 테이블 portfolio_shopping_mall.email_outbox 구조 내보내기
+CREATE TABLE IF NOT EXISTS `email_outbox` (
+  `email_outbox_id` bigint(20) NOT NULL AUTO_INCREMENT,
+  `email_type` varchar(30) NOT NULL,
+  `recipient` varchar(255) NOT NULL,
+  `subject` varchar(255) NOT NULL,
+  `html_content` mediumtext NOT NULL,
+  `process_status` enum('PENDING','PROCESSING','SENT','FAILED') NOT NULL DEFAULT 'PENDING',
+  `attempts` int(11) NOT NULL DEFAULT 0,
+  `claim_token` varchar(250) DEFAULT NULL,
+  `locked_until` datetime(3) DEFAULT NULL,
+  `next_attempt_at` datetime(3) NOT NULL DEFAULT current_timestamp(3),
+  `last_error` varchar(500) DEFAULT NULL,
+  `created_at` datetime(3) NOT NULL DEFAULT current_timestamp(3),
+  `sent_at` datetime(3) DEFAULT NULL,
+  `updated_at` timestamp NOT NULL DEFAULT current_timestamp() ON UPDATE current_timestamp(),
+  PRIMARY KEY (`email_outbox_id`),
+  KEY `process_status` (`process_status`,`next_attempt_at`),
+  KEY `sent_at` (`process_status`,`sent_at`),
+  KEY `claim_token` (`claim_token`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
+-- 내보낼 데이터가 선택되어 있지 않습니다.
+
 -- 테이블 portfolio_shopping_mall.inventory_histories 구조 내보내기
 CREATE TABLE IF NOT EXISTS `inventory_histories` (
   `inventory_history_id` int(11) NOT NULL AUTO_INCREMENT,
@@ -89,6 +138,26 @@ CREATE TABLE IF NOT EXISTS `login_histories` (
 
 -- 내보낼 데이터가 선택되어 있지 않습니다.
 
+-- 테이블 portfolio_shopping_mall.order_summaries 구조 내보내기
+CREATE TABLE IF NOT EXISTS `order_summaries` (
+  `order_id` int(11) NOT NULL,
+  `user_id` int(11) DEFAULT NULL,
+  `merchant_uid` varchar(50) DEFAULT NULL,
+  `item_count` int(11) NOT NULL DEFAULT 0,
+  `total_quantity` int(11) NOT NULL DEFAULT 0,
+  `first_product_name` varchar(100) DEFAULT NULL,
+  `status_mix` varchar(500) DEFAULT NULL,
+  `current_total_price` decimal(10,2) NOT NULL DEFAULT 0.00,
+  `ordered_at` timestamp NOT NULL DEFAULT current_timestamp(),
+  `updated_at` timestamp NOT NULL DEFAULT current_timestamp() ON UPDATE current_timestamp(),
+  PRIMARY KEY (`order_id`),
+  KEY `user_id` (`user_id`,`ordered_at`,`order_id`),
+  KEY `ordered_at` (`ordered_at`,`order_id`),
+  CONSTRAINT `FK_order_summaries_orders` FOREIGN KEY (`order_id`) REFERENCES `orders` (`order_id`) ON UPDATE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
+-- 내보낼 데이터가 선택되어 있지 않습니다.
+
 -- 테이블 portfolio_shopping_mall.orders 구조 내보내기
 CREATE TABLE IF NOT EXISTS `orders` (
   `order_id` int(11) NOT NULL AUTO_INCREMENT,
@@ -108,6 +177,7 @@ CREATE TABLE IF NOT EXISTS `orders` (
   PRIMARY KEY (`order_id`),
   KEY `merchant_uid` (`merchant_uid`),
   KEY `orders_ibfk_1` (`user_id`),
+  KEY `created_at` (`created_at`,`order_id`),
   CONSTRAINT `orders_ibfk_1` FOREIGN KEY (`user_id`) REFERENCES `users` (`user_id`) ON UPDATE CASCADE
 ) ENGINE=InnoDB AUTO_INCREMENT=5 DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
 
@@ -134,6 +204,7 @@ CREATE TABLE IF NOT EXISTS `order_products` (
   PRIMARY KEY (`order_product_id`) USING BTREE,
   KEY `order_items_ibfk_1` (`order_id`),
   KEY `order_products_ibfk_2` (`product_item_id`) USING BTREE,
+  KEY `status` (`status`,`order_product_id`),
   CONSTRAINT `FK_order_products_product_items` FOREIGN KEY (`product_item_id`) REFERENCES `product_items` (`product_item_id`) ON UPDATE CASCADE,
   CONSTRAINT `order_products_ibfk_1` FOREIGN KEY (`order_id`) REFERENCES `orders` (`order_id`) ON UPDATE CASCADE
 ) ENGINE=InnoDB AUTO_INCREMENT=27 DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
@@ -162,21 +233,31 @@ CREATE TABLE IF NOT EXISTS `payment_histories` (
   `imp_uid` varchar(100) DEFAULT NULL,
   `merchant_uid` varchar(100) DEFAULT NULL,
   `order_id` int(11) DEFAULT NULL,
+  `pg_tid` varchar(100) DEFAULT NULL,
+  `name` varchar(200) DEFAULT NULL,
   `status` enum('READY','PAID','FAILED','CANCELLED','PARTIAL_CANCELLED') DEFAULT NULL,
-  `payment_method` enum('card','trans','vbank','phone','kakaopay','naverpay','tosspay') DEFAULT NULL,
-  `amount` decimal(10,2) DEFAULT NULL,
-  `customer_name` varchar(50) DEFAULT NULL,
-  `customer_email` varchar(50) DEFAULT NULL,
-  `customer_phone` text DEFAULT NULL,
-  `requested_at` datetime DEFAULT NULL,
-  `payment_data` text DEFAULT NULL,
+  `pay_method` enum('KAKAOPAY','NAVERPAY','TOSSPAY','POINT','CARD') DEFAULT NULL,
+  `pg_provider` varchar(50) DEFAULT NULL,
+  `emb_pg_provider` varchar(50) DEFAULT NULL,
+  `paid_amount` decimal(10,2) DEFAULT NULL,
+  `buyer_name` varchar(50) DEFAULT NULL,
+  `buyer_email` varchar(100) DEFAULT NULL,
+  `buyer_tel` text DEFAULT NULL,
+  `buyer_addr` varchar(255) DEFAULT NULL,
+  `buyer_postcode` varchar(10) DEFAULT NULL,
+  `paid_at` datetime DEFAULT NULL,
+  `custom_data` text DEFAULT NULL,
+  `receipt_url` varchar(255) DEFAULT NULL,
   `error_code` varchar(50) DEFAULT NULL,
-  `error_message` text DEFAULT NULL,
+  `error_msg` text DEFAULT NULL,
   `created_at` timestamp NULL DEFAULT current_timestamp(),
   `updated_at` timestamp NULL DEFAULT current_timestamp() ON UPDATE current_timestamp(),
   PRIMARY KEY (`payment_history_id`),
   KEY `merchant_uid` (`merchant_uid`),
   KEY `imp_uid` (`imp_uid`) USING BTREE,
+  KEY `buyer_email` (`buyer_email`),
+  KEY `paid_at` (`paid_at`,`payment_history_id`),
+  KEY `created_at` (`created_at`,`payment_history_id`),
   KEY `FK_payment_histories_orders` (`order_id`),
   CONSTRAINT `FK_payment_histories_orders` FOREIGN KEY (`order_id`) REFERENCES `orders` (`order_id`) ON UPDATE CASCADE,
   CONSTRAINT `FK_payment_histories_orders_2` FOREIGN KEY (`merchant_uid`) REFERENCES `orders` (`merchant_uid`) ON UPDATE CASCADE
@@ -184,6 +265,36 @@ CREATE TABLE IF NOT EXISTS `payment_histories` (
 
 -- 내보낼 데이터가 선택되어 있지 않습니다.
 
+-- 테이블 portfolio_shopping_mall.payment_webhook_inbox 구조 내보내기
+CREATE TABLE IF NOT EXISTS `payment_webhook_inbox` (
+  `webhook_inbox_id` bigint(20) NOT NULL AUTO_INCREMENT,
+  `imp_uid` varchar(50) NOT NULL,
+  `merchant_uid` varchar(50) NOT NULL,
+  `status` varchar(20) NOT NULL,
+  `payment_status` varchar(50) DEFAULT NULL,
+  `amount` bigint(20) DEFAULT NULL,
+  `cancel_amount` bigint(20) DEFAULT NULL,
+  `paid_at` bigint(20) DEFAULT NULL,
+  `failed_at` bigint(20) DEFAULT NULL,
+  `cancelled_at` bigint(20) DEFAULT NULL,
+  `process_status` enum('PENDING','PROCESSING','DONE','FAILED') NOT NULL DEFAULT 'PENDING',
+  `attempts` int(11) NOT NULL DEFAULT 0,
+  `claim_token` varchar(250) DEFAULT NULL,
+  `locked_until` datetime(3) DEFAULT NULL,
+  `next_attempt_at` datetime(3) NOT NULL DEFAULT current_timestamp(3),
+  `last_error` varchar(500) DEFAULT NULL,
+  `received_at` datetime(3) NOT NULL DEFAULT current_timestamp(3),
+  `processed_at` datetime(3) DEFAULT NULL,
+  `updated_at` timestamp NOT NULL DEFAULT current_timestamp() ON UPDATE current_timestamp(),
+  PRIMARY KEY (`webhook_inbox_id`),
+  UNIQUE KEY `imp_uid_status` (`imp_uid`,`status`),
+  KEY `process_status` (`process_status`,`next_attempt_at`),
+  KEY `merchant_uid` (`merchant_uid`,`process_status`),
+  KEY `claim_token` (`claim_token`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
+-- 내보낼 데이터가 선택되어 있지 않습니다.
+
 -- 테이블 portfolio_shopping_mall.products 구조 내보내기
 CREATE TABLE IF NOT EXISTS `products` (
   `product_id` int(11) NOT NULL AUTO_INCREMENT,
@@ -248,6 +359,23 @@ CREATE TABLE IF NOT EXISTS `product_items` (
 
 -- 내보낼 데이터가 선택되어 있지 않습니다.
 
+-- 테이블 portfolio_shopping_mall.review_rating_aggregates 구조 내보내기
+CREATE TABLE IF NOT EXISTS `review_rating_aggregates` (
+  `target_type` enum('PRODUCT','PRODUCT_ITEM') NOT NULL,
+  `target_id` int(11) NOT NULL,
+  `review_count` int(11) NOT NULL DEFAULT 0,
+  `rating_sum` int(11) NOT NULL DEFAULT 0,
+  `rating_1_count` int(11) NOT NULL DEFAULT 0,
+  `rating_2_count` int(11) NOT NULL DEFAULT 0,
+  `rating_3_count` int(11) NOT NULL DEFAULT 0,
+  `rating_4_count` int(11) NOT NULL DEFAULT 0,
+  `rating_5_count` int(11) NOT NULL DEFAULT 0,
+  `updated_at` timestamp NOT NULL DEFAULT current_timestamp() ON UPDATE current_timestamp(),
+  PRIMARY KEY (`target_type`,`target_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
+-- 내보낼 데이터가 선택되어 있지 않습니다.
+
 -- 테이블 portfolio_shopping_mall.reviews 구조 내보내기
 CREATE TABLE IF NOT EXISTS `reviews` (
   `review_id` int(11) NOT NULL AUTO_INCREMENT,
@@ -271,6 +399,74 @@ CREATE TABLE IF NOT EXISTS `reviews` (
 
 -- 내보낼 데이터가 선택되어 있지 않습니다.
 
+-- 테이블 portfolio_shopping_mall.sales_rollups 구조 내보내기
+CREATE TABLE IF NOT EXISTS `sales_rollups` (
+  `period_type` enum('HOUR','DAY') NOT NULL,
+  `period_start` datetime NOT NULL,
+  `category_id` int(11) NOT NULL DEFAULT 0,
+  `order_count` int(11) NOT NULL DEFAULT 0,
+  `item_quantity` int(11) NOT NULL DEFAULT 0,
+  `item_amount` decimal(19,2) NOT NULL DEFAULT 0.00,
+  `paid_count` int(11) NOT NULL DEFAULT 0,
+  `paid_amount` decimal(19,2) NOT NULL DEFAULT 0.00,
+  `cancelled_count` int(11) NOT NULL DEFAULT 0,
+  `cancelled_amount` decimal(19,2) NOT NULL DEFAULT 0.00,
+  `updated_at` timestamp NOT NULL DEFAULT current_timestamp() ON UPDATE current_timestamp(),
+  PRIMARY KEY (`period_type`,`category_id`,`period_start`),
+  KEY `period_start` (`period_type`,`period_start`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
+-- 내보낼 데이터가 선택되어 있지 않습니다.
+
+-- 테이블 portfolio_shopping_mall.scheduled_job_leases 구조 내보내기
+CREATE TABLE IF NOT EXISTS `scheduled_job_leases` (
+  `job_name` varchar(100) NOT NULL,
+  `owner_id` varchar(200) DEFAULT NULL,
+  `fencing_token` bigint(20) NOT NULL DEFAULT 0,
+  `lease_until` datetime(3) DEFAULT NULL,
+  `updated_at` timestamp NOT NULL DEFAULT current_timestamp() ON UPDATE current_timestamp(),
+  PRIMARY KEY (`job_name`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
+-- 내보낼 데이터가 선택되어 있지 않습니다.
+
+-- 테이블 portfolio_shopping_mall.stock_ledger 구조 내보내기
+CREATE TABLE IF NOT EXISTS `stock_ledger` (
+  `stock_ledger_id` bigint(20) NOT NULL AUTO_INCREMENT,
+  `product_item_id` int(11) NOT NULL,
+  `order_product_id` int(11) DEFAULT NULL,
+  `movement_type` enum('INBOUND','OUTBOUND','RESERVE','RESERVE_RELEASE','ORDER_RESERVE','ORDER_RECOVERY','PURCHASE_CONFIRMATION','PAYMENT_RECOVERY','RECONCILIATION') NOT NULL,
+  `stock_delta` int(11) NOT NULL DEFAULT 0,
+  `reserved_delta` int(11) NOT NULL DEFAULT 0,
+  `sales_delta` int(11) NOT NULL DEFAULT 0,
+  `snapshot_seq` bigint(20) DEFAULT NULL,
+  `created_at` timestamp NOT NULL DEFAULT current_timestamp(),
+  PRIMARY KEY (`stock_ledger_id`),
+  KEY `product_item_id` (`product_item_id`,`snapshot_seq`),
+  KEY `snapshot_seq` (`snapshot_seq`),
+  KEY `created_at` (`created_at`),
+  CONSTRAINT `FK_stock_ledger_product_items` FOREIGN KEY (`product_item_id`) REFERENCES `product_items` (`product_item_id`) ON UPDATE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
+-- 내보낼 데이터가 선택되어 있지 않습니다.
+
+-- 테이블 portfolio_shopping_mall.stock_snapshots 구조 내보내기
+CREATE TABLE IF NOT EXISTS `stock_snapshots` (
+  `stock_snapshot_id` bigint(20) NOT NULL AUTO_INCREMENT,
+  `product_item_id` int(11) NOT NULL,
+  `snapshot_seq` bigint(20) NOT NULL DEFAULT 0,
+  `stock_quantity` int(11) NOT NULL DEFAULT 0,
+  `reserved_quantity` int(11) NOT NULL DEFAULT 0,
+  `sales_count` int(11) NOT NULL DEFAULT 0,
+  `created_at` timestamp NOT NULL DEFAULT current_timestamp(),
+  PRIMARY KEY (`stock_snapshot_id`),
+  KEY `product_item_id` (`product_item_id`,`created_at`),
+  KEY `snapshot_seq` (`snapshot_seq`),
+  CONSTRAINT `FK_stock_snapshots_product_items` FOREIGN KEY (`product_item_id`) REFERENCES `product_items` (`product_item_id`) ON UPDATE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
+-- 내보낼 데이터가 선택되어 있지 않습니다.
+
 -- 테이블 portfolio_shopping_mall.users 구조 내보내기
 CREATE TABLE IF NOT EXISTS `users` (
   `user_id` int(11) NOT NULL AUTO_INCREMENT,
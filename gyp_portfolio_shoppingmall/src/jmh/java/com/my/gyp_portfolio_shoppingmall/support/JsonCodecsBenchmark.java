@@ -0,0 +1,103 @@
+package com.my.gyp_portfolio_shoppingmall.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.my.gyp_portfolio_shoppingmall.dto.PaymentDto.PaymentCustomDataDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.ProductDto.ImageUrlManifestDTO;
+
+// 공유 ObjectMapper/ObjectReader(JsonCodecs)와 호출마다 ObjectMapper를 만들던 기존 방식, Blackbird 모듈 적용 시 비교
+// 실행: ./gradlew jmh (할당량은 gc 프로파일러의 gc.alloc.rate.norm 으로 확인)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonCodecsBenchmark {
+
+	private static final String IMAGE_URL_MANIFEST = "{\"urls\":["
+		+ "\"/uploads/products/20240101/a1b2c3d4-main.jpg\","
+		+ "\"/uploads/products/20240101/e5f6a7b8-detail1.jpg\","
+		+ "\"/uploads/products/20240101/c9d0e1f2-detail2.jpg\"]}";
+	// 포트원 custom_data(주문 정보 JSON이 문자열로 한 번 더 감싸져 전달됨)
+	private static final String PAYMENT_CUSTOM_DATA = "\"{\\\"totalPrice\\\":52000,\\\"shippingFee\\\":3000}\"";
+
+	private JsonCodecs jsonCodecs;
+	private JsonCodecs blackbirdJsonCodecs;
+
+	@Setup
+	public void setUp() {
+		// 스프링 부트가 구성하는 ObjectMapper와 같은 빌더 사용
+		jsonCodecs = new JsonCodecs(Jackson2ObjectMapperBuilder.json().build());
+		blackbirdJsonCodecs = new JsonCodecs(Jackson2ObjectMapperBuilder.json().modulesToInstall(new BlackbirdModule()).build());
+	}
+
+	@Benchmark
+	public ImageUrlManifestDTO readImageUrlManifest() throws JsonProcessingException {
+		return jsonCodecs.readImageUrlManifest(IMAGE_URL_MANIFEST);
+	}
+
+	@Benchmark
+	public ImageUrlManifestDTO readImageUrlManifestWithBlackbird() throws JsonProcessingException {
+		return blackbirdJsonCodecs.readImageUrlManifest(IMAGE_URL_MANIFEST);
+	}
+
+	// 기존 ProductService.parseImageUrls 방식
+	@Benchmark
+	public List<String> readImageUrlManifestPerCallMapper() throws JsonProcessingException {
+		ObjectMapper mapper = new ObjectMapper();
+		JsonNode root = mapper.readTree(IMAGE_URL_MANIFEST);
+		List<String> urls = new ArrayList<>();
+		if (root.has("urls") && root.get("urls").isArray()) {
+			root.get("urls").forEach(url -> {
+				if (url.isTextual()) {
+					urls.add(url.asText());
+				}
+			});
+		}
+		return urls;
+	}
+
+	@Benchmark
+	public PaymentCustomDataDTO readPaymentCustomData() throws JsonProcessingException {
+		return jsonCodecs.readPaymentCustomData(PAYMENT_CUSTOM_DATA);
+	}
+
+	@Benchmark
+	public PaymentCustomDataDTO readPaymentCustomDataWithBlackbird() throws JsonProcessingException {
+		return blackbirdJsonCodecs.readPaymentCustomData(PAYMENT_CUSTOM_DATA);
+	}
+
+	// 기존 PaymentService custom_data 처리 방식
+	@Benchmark
+	public PaymentCustomDataDTO readPaymentCustomDataPerCallMapper() throws JsonProcessingException {
+		ObjectMapper objectMapper = new ObjectMapper();
+		JsonNode jsonNode = objectMapper.readTree(objectMapper.readTree(PAYMENT_CUSTOM_DATA).asText());
+		PaymentCustomDataDTO customData = new PaymentCustomDataDTO();
+		JsonNode totalPriceNode = jsonNode.get("totalPrice");
+		JsonNode shippingFeeNode = jsonNode.get("shippingFee");
+		if (totalPriceNode != null && shippingFeeNode != null) {
+			customData.setTotalPrice(totalPriceNode.asLong());
+			customData.setShippingFee(shippingFeeNode.asLong());
+		}
+		return customData;
+	}
+}
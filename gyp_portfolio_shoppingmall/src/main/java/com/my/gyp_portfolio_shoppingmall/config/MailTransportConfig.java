@@ -0,0 +1,34 @@
+package com.my.gyp_portfolio_shoppingmall.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import com.my.gyp_portfolio_shoppingmall.support.SmtpTransportPool;
+
+@Configuration
+public class MailTransportConfig {
+
+    // 릴레이 정책(동시 연결 수, 연결당 최대 발송 수)
+    @Value("${email.smtp.pool-size:3}")
+    private int poolSize;
+
+    @Value("${email.smtp.max-messages-per-connection:100}")
+    private int maxMessagesPerConnection;
+
+    // 유휴 연결 폐기 / 재사용 전 NOOP 확인 기준 시간
+    @Value("${email.smtp.max-idle-ms:60000}")
+    private long maxIdleMillis;
+
+    @Value("${email.smtp.validate-after-idle-ms:5000}")
+    private long validateAfterIdleMillis;
+
+    // spring.mail.* 설정으로 만든 세션과 접속 정보를 그대로 사용
+    @Bean(destroyMethod = "close")
+    public SmtpTransportPool smtpTransportPool(JavaMailSenderImpl mailSender) {
+        return new SmtpTransportPool(mailSender.getSession(), mailSender.getProtocol(), mailSender.getHost(),
+            mailSender.getPort(), mailSender.getUsername(), mailSender.getPassword(),
+            poolSize, maxMessagesPerConnection, maxIdleMillis, validateAfterIdleMillis);
+    }
+}
\ No newline at end of file
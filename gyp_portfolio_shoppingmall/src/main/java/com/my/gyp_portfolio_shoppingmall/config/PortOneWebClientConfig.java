@@ -0,0 +1,69 @@
+package com.my.gyp_portfolio_shoppingmall.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.netty.channel.ChannelOption;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+@Configuration
+public class PortOneWebClientConfig {
+
+    @Value("${iamport.api.base-url}")
+    private String portOneBaseUrl;
+
+    // 포트원 API 전용 최대 연결 수(동시 호출 제한과 맞춤)
+    @Value("${portone.client.max-concurrent-calls:50}")
+    private int maxConnections;
+
+    // 연결 / 풀 대기 / 응답 대기 제한 시간
+    @Value("${http.client.connect-timeout-ms:2000}")
+    private int connectTimeoutMillis;
+
+    @Value("${http.client.connection-request-timeout-ms:1000}")
+    private long connectionRequestTimeoutMillis;
+
+    @Value("${http.client.read-timeout-ms:5000}")
+    private long readTimeoutMillis;
+
+    // 유휴 연결 정리 주기
+    @Value("${http.client.idle-eviction-ms:30000}")
+    private long idleEvictionMillis;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider portOneConnectionProvider() {
+        return ConnectionProvider.builder("portone")
+            .maxConnections(maxConnections)
+            .pendingAcquireTimeout(Duration.ofMillis(connectionRequestTimeoutMillis))
+            .maxIdleTime(Duration.ofMillis(idleEvictionMillis))
+            .evictInBackground(Duration.ofMillis(idleEvictionMillis))
+            .build();
+    }
+
+    // 포트원 응답 역직렬화는 웹 계층과 같은 ObjectMapper 사용(타입별 역직렬화기 캐시 공유)
+    @Bean
+    public WebClient portOneWebClient(ConnectionProvider portOneConnectionProvider, ObjectMapper objectMapper) {
+        HttpClient httpClient = HttpClient.create(portOneConnectionProvider)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+            .responseTimeout(Duration.ofMillis(readTimeoutMillis));
+
+        return WebClient.builder()
+            .baseUrl(portOneBaseUrl)
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
+            .codecs(codecs -> {
+                codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+            })
+            .build();
+    }
+}
\ No newline at end of file
@@ -1,14 +1,105 @@
 package com.my.gyp_portfolio_shoppingmall.config;
 
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpHost;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 @Configuration
 public class RestTemplateConfig {
 
+    // 전체 / 호스트별 최대 연결 수
+    @Value("${http.client.max-total:100}")
+    private int maxTotal;
+
+    @Value("${http.client.max-per-route:20}")
+    private int maxPerRoute;
+
+    // 포트원 API 호스트 전용 최대 연결 수
+    @Value("${http.client.portone-max-per-route:50}")
+    private int portOneMaxPerRoute;
+
+    @Value("${iamport.api.base-url}")
+    private String portOneBaseUrl;
+
+    // 연결 / 풀 대기 / 응답 대기 제한 시간
+    @Value("${http.client.connect-timeout-ms:2000}")
+    private int connectTimeoutMillis;
+
+    @Value("${http.client.connection-request-timeout-ms:1000}")
+    private int connectionRequestTimeoutMillis;
+
+    @Value("${http.client.read-timeout-ms:5000}")
+    private int readTimeoutMillis;
+
+    // 유휴 연결 정리 및 재사용 전 검증 주기
+    @Value("${http.client.idle-eviction-ms:30000}")
+    private long idleEvictionMillis;
+
+    @Value("${http.client.validate-after-inactivity-ms:2000}")
+    private int validateAfterInactivityMillis;
+
+    // 서버가 Keep-Alive 시간을 주지 않을 때 사용하는 유지 시간
+    @Value("${http.client.default-keep-alive-ms:30000}")
+    private long defaultKeepAliveMillis;
+
+    @Bean
+    public PoolingHttpClientConnectionManager httpClientConnectionManager() {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+        connectionManager.setValidateAfterInactivity(validateAfterInactivityMillis);
+
+        // 라우트는 기본 포트가 적용된 호스트 기준으로 구분됨
+        URI portOneUri = URI.create(portOneBaseUrl);
+        boolean secure = "https".equalsIgnoreCase(portOneUri.getScheme());
+        int port = portOneUri.getPort() > 0 ? portOneUri.getPort() : (secure ? 443 : 80);
+        HttpHost portOneHost = new HttpHost(portOneUri.getHost(), port, portOneUri.getScheme());
+        connectionManager.setMaxPerRoute(new HttpRoute(portOneHost, null, secure), portOneMaxPerRoute);
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient httpClient(PoolingHttpClientConnectionManager httpClientConnectionManager) {
+        RequestConfig requestConfig = RequestConfig.custom()
+            .setConnectTimeout(connectTimeoutMillis)
+            .setConnectionRequestTimeout(connectionRequestTimeoutMillis)
+            .setSocketTimeout(readTimeoutMillis)
+            .build();
+
+        return HttpClients.custom()
+            .setConnectionManager(httpClientConnectionManager)
+            .setDefaultRequestConfig(requestConfig)
+            .setKeepAliveStrategy((response, context) -> {
+                long keepAliveMillis = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                return keepAliveMillis > 0 ? keepAliveMillis : defaultKeepAliveMillis;
+            })
+            .evictExpiredConnections()
+            .evictIdleConnections(idleEvictionMillis, TimeUnit.MILLISECONDS)
+            .build();
+    }
+
+    // JSON 변환은 웹 계층과 같은 ObjectMapper 사용
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(CloseableHttpClient httpClient, ObjectMapper objectMapper) {
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+        restTemplate.getMessageConverters().replaceAll(converter -> converter instanceof MappingJackson2HttpMessageConverter
+            ? new MappingJackson2HttpMessageConverter(objectMapper)
+            : converter);
+        return restTemplate;
     }
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.my.gyp_portfolio_shoppingmall.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    // 스케줄 작업 스레드 수(1초 이하 주기 작업이 새벽 배치/대사 작업 뒤에 밀리지 않도록 작업 수에 맞춤)
+    @Value("${scheduling.pool-size:8}")
+    private int poolSize;
+
+    // 종료 시 실행 중인 작업 대기 시간
+    @Value("${scheduling.await-termination-seconds:30}")
+    private int awaitTerminationSeconds;
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduling-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(awaitTerminationSeconds);
+        return scheduler;
+    }
+}
@@ -0,0 +1,87 @@
+package com.my.gyp_portfolio_shoppingmall.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.my.gyp_portfolio_shoppingmall.dto.DashboardDto.DashboardSnapshotDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.DashboardDto.SalesRollupDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.DashboardDto.SalesRollupSearchDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.EmailDto.EmailDispatchMetricsDTO;
+import com.my.gyp_portfolio_shoppingmall.service.DashboardService;
+import com.my.gyp_portfolio_shoppingmall.service.EmailOutboxService;
+import com.my.gyp_portfolio_shoppingmall.service.SalesRollupService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("api/dashboard")
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+    private final SalesRollupService salesRollupService;
+    private final EmailOutboxService emailOutboxService;
+
+    // 관리자 대시보드 요약 조회(집계 카운터 기준, 짧은 시간 캐시)
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @GetMapping("/snapshotForAdmin")
+    public ResponseEntity<?> getDashboardSnapshot() {
+        try {
+            DashboardSnapshotDTO snapshot = dashboardService.getSnapshot();
+            return ResponseEntity.ok(snapshot);
+        } catch (Exception e) {
+            log.error("대시보드 요약 조회 처리 중 알 수 없는 오류가 발생했습니다.", e);
+            return ResponseEntity.internalServerError().body("알 수 없는 오류로 대시보드 요약 조회에 실패했습니다.");
+        }
+    }
+
+    // 대시보드 카운터 점검 및 보정(원본 테이블 집계와 비교)
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @PostMapping("/verifyCountersForAdmin")
+    public ResponseEntity<?> verifyDashboardCounters() {
+        try {
+            int correctedCount = dashboardService.verifyCounters();
+            return ResponseEntity.ok(correctedCount);
+        } catch (Exception e) {
+            log.error("대시보드 카운터 점검 처리 중 알 수 없는 오류가 발생했습니다.", e);
+            return ResponseEntity.internalServerError().body("알 수 없는 오류로 대시보드 카운터 점검에 실패했습니다.");
+        }
+    }
+
+    // 시간/일 단위 매출 집계 조회(전체 또는 카테고리별)
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @GetMapping("/salesRollupsForAdmin")
+    public ResponseEntity<?> getSalesRollups(@ModelAttribute SalesRollupSearchDTO searchDTO) {
+        try {
+            List<SalesRollupDTO> rollups = salesRollupService.getSalesRollups(searchDTO);
+            return ResponseEntity.ok(rollups);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            log.error("매출 집계 조회 처리 중 알 수 없는 오류가 발생했습니다.", e);
+            return ResponseEntity.internalServerError().body("알 수 없는 오류로 매출 집계 조회에 실패했습니다.");
+        }
+    }
+
+    // 이메일 발송기 지표 조회(발송 건수, 발송 지연, 대기열, SMTP 연결 풀)
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @GetMapping("/emailDispatchMetricsForAdmin")
+    public ResponseEntity<?> getEmailDispatchMetrics() {
+        try {
+            EmailDispatchMetricsDTO metrics = emailOutboxService.getMetrics();
+            return ResponseEntity.ok(metrics);
+        } catch (Exception e) {
+            log.error("이메일 발송 지표 조회 처리 중 알 수 없는 오류가 발생했습니다.", e);
+            return ResponseEntity.internalServerError().body("알 수 없는 오류로 이메일 발송 지표 조회에 실패했습니다.");
+        }
+    }
+}
\ No newline at end of file
@@ -1,7 +1,10 @@
 package com.my.gyp_portfolio_shoppingmall.controller;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -9,19 +12,28 @@ import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.my.gyp_portfolio_shoppingmall.dto.OrderDto.DeliveryInfoDTO;
 import com.my.gyp_portfolio_shoppingmall.dto.OrderDto.NewOrderDTO;
 import com.my.gyp_portfolio_shoppingmall.dto.OrderDto.OrderDTO;
 import com.my.gyp_portfolio_shoppingmall.dto.OrderDto.OrderListForAdminDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.OrderDto.OrderListForAdminPageDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.OrderDto.OrderProductBulkTransitionDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.OrderDto.OrderProductBulkTransitionResultDTO;
 import com.my.gyp_portfolio_shoppingmall.dto.OrderDto.OrderProductDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.OrderDto.OrderSummaryPageDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.OrderDto.OrderSummarySearchDTO;
 import com.my.gyp_portfolio_shoppingmall.dto.OrderDto.UserOrderHistoryDTO;
 import com.my.gyp_portfolio_shoppingmall.exception.OptimisticLockingException;
 import com.my.gyp_portfolio_shoppingmall.exception.OrderException;
 import com.my.gyp_portfolio_shoppingmall.exception.ProductException;
 import com.my.gyp_portfolio_shoppingmall.exception.UserException;
+import com.my.gyp_portfolio_shoppingmall.service.ExportService;
 import com.my.gyp_portfolio_shoppingmall.service.OrderService;
+import com.my.gyp_portfolio_shoppingmall.service.OrderSummaryService;
 import com.my.gyp_portfolio_shoppingmall.vo.DeliveryHistory;
 
 import lombok.RequiredArgsConstructor;
@@ -34,6 +46,8 @@ import lombok.extern.slf4j.Slf4j;
 public class OrderController {
     
     private final OrderService orderService;
+    private final OrderSummaryService orderSummaryService;
+    private final ExportService exportService;
 
     // 주문 접수
     @PreAuthorize("hasRole('ROLE_USER')")
@@ -84,6 +98,8 @@ public class OrderController {
             return ResponseEntity.ok("주문 상태 업데이트가 완료되었습니다.");
         } catch (OrderException.OrderNotFoundException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (OrderException.OrderProductNotFoundException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         } catch (OrderException.OrderProductRequestException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         } catch (OptimisticLockingException e) {
@@ -136,6 +152,23 @@ public class OrderController {
         }
     }
 
+    // 관리자용 주문 상품 상태 일괄 전이(준비중 / 배송중 / 배송완료, 줄 단위 충돌 보고)
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @PostMapping("/bulkTransitionOrderProductStatus")
+    public ResponseEntity<?> bulkTransitionOrderProductStatus(@RequestBody OrderProductBulkTransitionDTO bulkTransitionDTO) {
+        try {
+            OrderProductBulkTransitionResultDTO result = orderService.bulkTransitionOrderProductStatus(bulkTransitionDTO);
+            return ResponseEntity.ok(result);
+        } catch (OrderException.OrderProductRequestException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (OptimisticLockingException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            log.error("주문 상품 상태 일괄 전이 처리 중 알 수 없는 오류가 발생했습니다.", e);
+            return ResponseEntity.internalServerError().body("알 수 없는 오류로 주문 상품 상태 일괄 전이에 실패했습니다.");
+        }
+    }
+
     // 주문 내역 업데이트(배송완료 -> 구매확정 / 회원 본인 & 관리자 접근 가능)
     @PreAuthorize("hasRole('ROLE_USER') or hasRole('ROLE_ADMIN')")
     @PostMapping("/updateOrderStatusToDeliveryConfirmed")
@@ -172,6 +205,19 @@ public class OrderController {
         }
     }
 
+    // 회원 주문 요약 목록 조회(회원 본인만 접근 가능, 키셋 페이징)
+    @PreAuthorize("hasRole('ROLE_USER')")
+    @GetMapping("/orderSummaries")
+    public ResponseEntity<?> getOrderSummaries(@ModelAttribute OrderSummarySearchDTO orderSummarySearchDTO) {
+        try {
+            OrderSummaryPageDTO orderSummaryPageDTO = orderService.getUserOrderSummaries(orderSummarySearchDTO);
+            return ResponseEntity.ok(orderSummaryPageDTO);
+        } catch (Exception e) {
+            log.error("주문 요약 목록 조회 처리 중 알 수 없는 오류가 발생했습니다.", e);
+            return ResponseEntity.internalServerError().body("알 수 없는 오류로 주문 요약 목록 조회에 실패했습니다.");
+        }
+    }
+
     // 단일 주문 상세 조회(회원 본인 & 관리자 접근 가능)
     @PreAuthorize("hasRole('ROLE_USER') or hasRole('ROLE_ADMIN')")
     @GetMapping("/orderDetail")
@@ -192,14 +238,65 @@ public class OrderController {
     @GetMapping("/orderListForAdmin")
     public ResponseEntity<?> getOrderListForAdmin(@ModelAttribute OrderListForAdminDTO orderListForAdminDTO) {
         try {
-            List<UserOrderHistoryDTO> orderListForAdminDTOList = orderService.getOrderListForAdmin(orderListForAdminDTO);
-            return ResponseEntity.ok(orderListForAdminDTOList);
+            OrderListForAdminPageDTO orderListForAdminPageDTO = orderService.getOrderListForAdmin(orderListForAdminDTO);
+            return ResponseEntity.ok(orderListForAdminPageDTO);
         } catch (Exception e) {
             log.error("주문 목록 조회 처리 중 알 수 없는 오류가 발생했습니다.", e);
             return ResponseEntity.internalServerError().body("알 수 없는 오류로 주문 목록 조회에 실패했습니다.");
         }
     }
 
+    // 관리자용 주문 CSV 내보내기(검색 조건 포함, 주문 상품 단위 스트리밍)
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @GetMapping("/exportOrdersForAdmin")
+    public ResponseEntity<?> exportOrdersForAdmin(
+        @ModelAttribute OrderListForAdminDTO orderListForAdminDTO,
+        @RequestParam(required = false) List<String> decryptColumns
+    ) {
+        try {
+            exportService.validateOrderExport(orderListForAdminDTO, decryptColumns);
+            StreamingResponseBody body = outputStream -> 
+                exportService.exportOrders(orderListForAdminDTO, decryptColumns, outputStream);
+            return ResponseEntity.ok()
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"orders.csv\"")
+                .body(body);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            log.error("주문 CSV 내보내기 처리 중 알 수 없는 오류가 발생했습니다.", e);
+            return ResponseEntity.internalServerError().body("알 수 없는 오류로 주문 CSV 내보내기에 실패했습니다.");
+        }
+    }
+
+    // 관리자용 주문 요약 목록 조회(검색 조건 포함, 키셋 페이징)
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @GetMapping("/orderSummariesForAdmin")
+    public ResponseEntity<?> getOrderSummariesForAdmin(@ModelAttribute OrderListForAdminDTO orderListForAdminDTO) {
+        try {
+            OrderSummaryPageDTO orderSummaryPageDTO = orderService.getOrderSummariesForAdmin(orderListForAdminDTO);
+            return ResponseEntity.ok(orderSummaryPageDTO);
+        } catch (Exception e) {
+            log.error("주문 요약 목록 조회 처리 중 알 수 없는 오류가 발생했습니다.", e);
+            return ResponseEntity.internalServerError().body("알 수 없는 오류로 주문 요약 목록 조회에 실패했습니다.");
+        }
+    }
+
+    // 기존 주문의 주문 요약 생성
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @PostMapping("/backfillOrderSummaries")
+    public ResponseEntity<?> backfillOrderSummaries() {
+        try {
+            int refreshedCount = orderSummaryService.backfillOrderSummaries();
+            return ResponseEntity.ok(refreshedCount);
+        } catch (OrderException.OrderSummaryBackfillInProgressException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            log.error("주문 요약 백필 처리 중 알 수 없는 오류가 발생했습니다.", e);
+            return ResponseEntity.internalServerError().body("알 수 없는 오류로 주문 요약 백필에 실패했습니다.");
+        }
+    }
+
     // 회원 주문 상품 취소/반품/교환 요청
     @PreAuthorize("hasRole('ROLE_USER')")
     @PostMapping("/updateOrderProductRequest")
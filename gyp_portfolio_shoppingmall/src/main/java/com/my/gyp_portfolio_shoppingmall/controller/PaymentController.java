@@ -1,8 +1,13 @@
 package com.my.gyp_portfolio_shoppingmall.controller;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -12,17 +17,23 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.my.gyp_portfolio_shoppingmall.dto.PaymentDto.CancelRequestDTO;
 import com.my.gyp_portfolio_shoppingmall.dto.PaymentDto.PaymentDataDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.PaymentDto.PaymentHistoryPageDTO;
 import com.my.gyp_portfolio_shoppingmall.dto.PaymentDto.PaymentHistorySearchDTO;
 import com.my.gyp_portfolio_shoppingmall.dto.PaymentDto.PaymentInfoDTO;
 import com.my.gyp_portfolio_shoppingmall.dto.PaymentDto.PaymentPrepareRequestDTO;
 import com.my.gyp_portfolio_shoppingmall.dto.PaymentDto.PortOneWebhookDTO;
 import com.my.gyp_portfolio_shoppingmall.exception.PaymentException;
 import com.my.gyp_portfolio_shoppingmall.exception.PortOneException;
+import com.my.gyp_portfolio_shoppingmall.service.ExportService;
+import com.my.gyp_portfolio_shoppingmall.service.PaymentReconciliationService;
 import com.my.gyp_portfolio_shoppingmall.service.PaymentService;
+import com.my.gyp_portfolio_shoppingmall.service.PaymentWebhookInboxService;
 import com.my.gyp_portfolio_shoppingmall.support.PaymentLogSupport;
 import com.my.gyp_portfolio_shoppingmall.vo.PaymentHistory;
 
@@ -36,6 +47,9 @@ import lombok.extern.slf4j.Slf4j;
 public class PaymentController {
     
     private final PaymentService paymentService;
+    private final ExportService exportService;
+    private final PaymentWebhookInboxService paymentWebhookInboxService;
+    private final PaymentReconciliationService paymentReconciliationService;
     
     // 결제 정보 생성(프론트엔드 결제 초기화용)
     @PostMapping("/prepare")
@@ -120,28 +134,20 @@ public class PaymentController {
         }
     }
 
-    // 웹훅 처리
+    // 웹훅 수신(수신함에 기록 후 즉시 응답, 처리는 워커가 비동기로 수행)
     @PostMapping("/webhook")
     public ResponseEntity<?> handleWebhook(@RequestBody PortOneWebhookDTO webhookDTO) {
         try {
-            paymentService.processWebhook(webhookDTO);
-            log.info("웹훅 처리 성공 - status: {}", webhookDTO.getStatus());
-            return ResponseEntity.ok("Webhook processed successfully");
+            boolean received = paymentWebhookInboxService.receive(webhookDTO);
+            log.info("웹훅 수신 완료 - status: {}, 중복 여부: {}", webhookDTO.getStatus(), !received);
+            return ResponseEntity.ok("Webhook received");
         } catch (PortOneException.PaymentVerificationException e) {
-            log.error("웹훅 검증 실패 - status: {}, 사유: {}", webhookDTO.getStatus(), e.getMessage());
+            log.error("웹훅 검증 실패 - 사유: {}", e.getMessage());
             return ResponseEntity.badRequest().body(e.getMessage());
-        } catch (IllegalArgumentException e) {
-            log.error("잘못된 결제 ID 형식 - impUid: {}, 사유: {}", webhookDTO.getImpUid(), e.getMessage());
-            return ResponseEntity.badRequest().body(e.getMessage());
-        } catch (PaymentException.PaymentHistoryException e) {
-            log.error("결제 이력 저장 중 오류 발생 - impUid: {}, 사유: {}", webhookDTO.getImpUid(), e.getMessage());
-            return ResponseEntity.internalServerError().body(e.getMessage());
-        } catch (PortOneException.ServerException e) {
-            log.error("웹훅 처리 중 외부 서비스 오류 발생 - 사유: {}", e.getMessage());
-            return ResponseEntity.internalServerError().body(e.getMessage());
         } catch (Exception e) {
-            log.error("웹훅 처리 중 알 수 없는 오류 발생 - 오류: {}", e.getMessage());
-            return ResponseEntity.internalServerError().body("웹훅 처리 중 알 수 없는 오류가 발생했습니다.");
+            // 기록하지 못한 웹훅은 포트원 재전송으로 다시 수신
+            log.error("웹훅 수신 기록 중 알 수 없는 오류 발생 - 오류: {}", e.getMessage());
+            return ResponseEntity.internalServerError().body("웹훅 수신 중 알 수 없는 오류가 발생했습니다.");
         }
     }
 
@@ -215,7 +221,7 @@ public class PaymentController {
         @ModelAttribute PaymentHistorySearchDTO searchDTO
     ) {        
         try {
-            List<PaymentHistory> result = paymentService.searchPaymentHistory(searchDTO);
+            PaymentHistoryPageDTO result = paymentService.searchPaymentHistory(searchDTO);
             log.info("결제 이력 검색 성공 - {}", searchDTO);
             return ResponseEntity.ok(result);
         } catch (IllegalArgumentException e) {
@@ -227,6 +233,52 @@ public class PaymentController {
         }
     }    
 
+    // 결제 이력 CSV 내보내기(검색 조건 포함, 스트리밍)
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @GetMapping("/historyExportForAdmin")
+    public ResponseEntity<?> exportPaymentHistory(
+        @ModelAttribute PaymentHistorySearchDTO searchDTO,
+        @RequestParam(required = false) List<String> decryptColumns
+    ) {
+        try {
+            exportService.validatePaymentHistoryExport(searchDTO, decryptColumns);
+            StreamingResponseBody body = outputStream -> 
+                exportService.exportPaymentHistory(searchDTO, decryptColumns, outputStream);
+            return ResponseEntity.ok()
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"payment_histories.csv\"")
+                .body(body);
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 내보내기 조건 - searchDTO: {}, 사유: {}", searchDTO, e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            log.error("결제 이력 CSV 내보내기 중 알 수 없는 오류 발생 - searchDTO: {}", searchDTO, e);
+            return ResponseEntity.internalServerError().body("알 수 없는 오류로 결제 이력 CSV 내보내기에 실패했습니다.");
+        }
+    }
+
+    // 포트원 결제와 결제 이력 정합성 점검(선택적으로 웹훅 처리로 보정)
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @PostMapping("/reconcileForAdmin")
+    public ResponseEntity<?> reconcilePayments(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+        @RequestParam(defaultValue = "false") boolean autoRepair
+    ) {
+        try {
+            return ResponseEntity.ok(paymentReconciliationService.reconcilePayments(startDate, endDate, autoRepair));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 결제 정합성 점검 구간 - startDate: {}, endDate: {}, 사유: {}", startDate, endDate, e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (PaymentException.PaymentReconciliationException | PortOneException.ServerException | PortOneException.NetworkException e) {
+            log.error("결제 정합성 점검 실패 - 사유: {}", e.getMessage());
+            return ResponseEntity.internalServerError().body(e.getMessage());
+        } catch (Exception e) {
+            log.error("결제 정합성 점검 중 알 수 없는 오류 발생", e);
+            return ResponseEntity.internalServerError().body("알 수 없는 오류로 결제 정합성 점검에 실패했습니다.");
+        }
+    }
+
     // 총 매출 조회
     @PreAuthorize("hasRole('ROLE_ADMIN')")
     @GetMapping("/totalRevenue")
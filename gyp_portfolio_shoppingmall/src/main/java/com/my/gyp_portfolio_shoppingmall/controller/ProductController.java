@@ -2,9 +2,11 @@ package com.my.gyp_portfolio_shoppingmall.controller;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -28,6 +30,7 @@ import com.my.gyp_portfolio_shoppingmall.dto.ProductDto.ProductSearchDTO;
 import com.my.gyp_portfolio_shoppingmall.exception.OptimisticLockingException;
 import com.my.gyp_portfolio_shoppingmall.exception.ProductException;
 import com.my.gyp_portfolio_shoppingmall.service.ProductService;
+import com.my.gyp_portfolio_shoppingmall.service.StockReconciliationService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -38,6 +41,7 @@ import lombok.extern.slf4j.Slf4j;
 @RequestMapping("api/product")
 public class ProductController {    
     private final ProductService productService;
+    private final StockReconciliationService stockReconciliationService;
 
     // 카테고리 등록
     @PreAuthorize("hasRole('ROLE_ADMIN')")
@@ -329,6 +333,21 @@ public class ProductController {
         }
     }
 
+    // 상품 품목 구매 가능 여부 조회
+    @GetMapping("/getProductItemAvailability/{productId}")
+    public ResponseEntity<?> getProductItemAvailability(
+        @PathVariable Integer productId
+    ) {
+        try {
+            return ResponseEntity.ok(productService.getProductItemAvailability(productId));
+        } catch (ProductException.ProductNotFoundException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            log.error("상품 품목 구매 가능 여부 조회 처리 중 알 수 없는 오류가 발생했습니다.", e);
+            return ResponseEntity.internalServerError().body("알 수 없는 오류로 상품 품목 구매 가능 여부 조회에 실패했습니다.");
+        }
+    }
+
     // 상품 품목 재고 목록 조회
     @PreAuthorize("hasRole('ROLE_ADMIN')")
     @GetMapping("/getProductInventories/{productItemId}")
@@ -345,6 +364,39 @@ public class ProductController {
         }
     }
 
+    // 특정 시점의 상품 품목 수량 조회
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @GetMapping("/getProductItemStockAt/{productItemId}")
+    public ResponseEntity<?> getProductItemStockAt(
+        @PathVariable Integer productItemId,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at
+    ) {
+        try {
+            return ResponseEntity.ok(productService.getProductItemStockAt(productItemId, at));
+        } catch (ProductException.ProductItemNotFoundException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            log.error("특정 시점 상품 품목 수량 조회 처리 중 알 수 없는 오류가 발생했습니다.", e);
+            return ResponseEntity.internalServerError().body("알 수 없는 오류로 특정 시점 상품 품목 수량 조회에 실패했습니다.");
+        }
+    }
+
+    // 재고 정합성 점검(autoCorrect=true 시 불일치 보정)
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @PostMapping("/reconcileStock")
+    public ResponseEntity<?> reconcileStock(
+        @RequestParam(defaultValue = "false") boolean autoCorrect
+    ) {
+        try {
+            return ResponseEntity.ok(stockReconciliationService.reconcileStock(autoCorrect));
+        } catch (ProductException.StockReconciliationException e) {
+            return ResponseEntity.internalServerError().body(e.getMessage());
+        } catch (Exception e) {
+            log.error("재고 정합성 점검 처리 중 알 수 없는 오류가 발생했습니다.", e);
+            return ResponseEntity.internalServerError().body("알 수 없는 오류로 재고 정합성 점검에 실패했습니다.");
+        }
+    }
+
     // 재고 변동 이력 목록 조회
     @PreAuthorize("hasRole('ROLE_ADMIN')")
     @GetMapping("/getInventoryHistories/{productInventoryId}")
@@ -12,6 +12,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.my.gyp_portfolio_shoppingmall.dto.ReviewDto.ReviewDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.ReviewDto.ReviewRatingSearchDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.ReviewDto.ReviewRatingSummaryDTO;
 import com.my.gyp_portfolio_shoppingmall.dto.ReviewDto.ReviewSearchDTO;
 import com.my.gyp_portfolio_shoppingmall.exception.OptimisticLockingException;
 import com.my.gyp_portfolio_shoppingmall.exception.ReviewException;
@@ -43,6 +45,8 @@ public class ReviewController {
             return ResponseEntity.badRequest().body(e.getMessage());
         } catch (ReviewException.ReviewAlreadyExistsException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (ReviewException.InvalidRatingException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
             log.error("리뷰 등록 처리 중 알 수 없는 오류가 발생했습니다.", e);
             return ResponseEntity.internalServerError().body("알 수 없는 오류로 리뷰 등록에 실패했습니다.");
@@ -60,6 +64,8 @@ public class ReviewController {
             return ResponseEntity.badRequest().body(e.getMessage());
         } catch (ReviewException.ReviewNotAuthorizedException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (ReviewException.InvalidRatingException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         } catch (OptimisticLockingException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
@@ -80,6 +86,20 @@ public class ReviewController {
         }
     }
 
+    // 상품/상품 품목 평점 집계 배치 조회(목록 화면용, targetType 미지정 시 상품 기준)
+    @GetMapping("/ratingSummaries")
+    public ResponseEntity<?> getRatingSummaries(@ModelAttribute ReviewRatingSearchDTO searchDTO) {
+        try {
+            List<ReviewRatingSummaryDTO> summaries = reviewService.getRatingSummaries(searchDTO);
+            return ResponseEntity.ok(summaries);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            log.error("평점 집계 조회 처리 중 알 수 없는 오류가 발생했습니다.", e);
+            return ResponseEntity.internalServerError().body("알 수 없는 오류로 평점 집계 조회에 실패했습니다.");
+        }
+    }
+
     // 리뷰 삭제
     @PreAuthorize("hasRole('ROLE_USER') or hasRole('ROLE_ADMIN')")
     @PostMapping("/deleteReview")
@@ -110,6 +130,19 @@ public class ReviewController {
         }
     }
 
+    // 평점 집계 전체 재계산(삭제되지 않은 리뷰 기준)
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @PostMapping("/rebuildRatingAggregatesForAdmin")
+    public ResponseEntity<?> rebuildRatingAggregates() {
+        try {
+            int aggregateCount = reviewService.rebuildRatingAggregates();
+            return ResponseEntity.ok(aggregateCount);
+        } catch (Exception e) {
+            log.error("평점 집계 재계산 처리 중 알 수 없는 오류가 발생했습니다.", e);
+            return ResponseEntity.internalServerError().body("알 수 없는 오류로 평점 집계 재계산에 실패했습니다.");
+        }
+    }
+
     // 리뷰 조회(회원ID 기준)
     @PreAuthorize("hasRole('ROLE_USER')")
     @GetMapping("/listByUserId")
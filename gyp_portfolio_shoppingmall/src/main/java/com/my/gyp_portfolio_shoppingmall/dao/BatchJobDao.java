@@ -0,0 +1,70 @@
+package com.my.gyp_portfolio_shoppingmall.dao;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.ibatis.session.SqlSession;
+import org.springframework.stereotype.Repository;
+
+import com.my.gyp_portfolio_shoppingmall.vo.BatchJobCheckpoint;
+import com.my.gyp_portfolio_shoppingmall.vo.ScheduledJobLease;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class BatchJobDao {
+
+    private final SqlSession s;
+
+    // 배치 작업 체크포인트 조회(없으면 생성 후 잠금 읽기)
+    public BatchJobCheckpoint getBatchJobCheckpointForUpdate(String jobName) {
+        s.insert("BatchJobMapper.insertBatchJobCheckpointIfAbsent", jobName);
+        return s.selectOne("BatchJobMapper.getBatchJobCheckpointForUpdate", jobName);
+    }
+
+    // 배치 작업 체크포인트 갱신
+    public int updateBatchJobCheckpoint(BatchJobCheckpoint batchJobCheckpoint) {
+        return s.update("BatchJobMapper.updateBatchJobCheckpoint", batchJobCheckpoint);
+    }
+
+    // 스케줄 작업 임대 획득(획득 실패 시 null)
+    public ScheduledJobLease acquireScheduledJobLease(String jobName, String ownerId, int ttlSeconds) {
+        s.insert("BatchJobMapper.insertScheduledJobLeaseIfAbsent", jobName);
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("jobName", jobName);
+        params.put("ownerId", ownerId);
+        params.put("ttlSeconds", ttlSeconds);
+        if (s.update("BatchJobMapper.acquireScheduledJobLease", params) == 0) {
+            return null;
+        }
+        return s.selectOne("BatchJobMapper.getScheduledJobLease", params);
+    }
+
+    // 스케줄 작업 임대 연장
+    public int renewScheduledJobLease(ScheduledJobLease lease, int ttlSeconds) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("jobName", lease.getJobName());
+        params.put("fencingToken", lease.getFencingToken());
+        params.put("ttlSeconds", ttlSeconds);
+        return s.update("BatchJobMapper.renewScheduledJobLease", params);
+    }
+
+    // 스케줄 작업 임대 반납
+    public int releaseScheduledJobLease(ScheduledJobLease lease) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("jobName", lease.getJobName());
+        params.put("fencingToken", lease.getFencingToken());
+        return s.update("BatchJobMapper.releaseScheduledJobLease", params);
+    }
+
+    // 스케줄 작업 임대 유효성 확인(공유 잠금)
+    public boolean isScheduledJobLeaseValidForShare(String jobName, long fencingToken) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("jobName", jobName);
+        params.put("fencingToken", fencingToken);
+        Integer count = s.selectOne("BatchJobMapper.countValidScheduledJobLeaseForShare", params);
+        return count != null && count > 0;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.my.gyp_portfolio_shoppingmall.dao;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.session.SqlSession;
+import org.springframework.stereotype.Repository;
+
+import com.my.gyp_portfolio_shoppingmall.dto.DashboardDto.DashboardCounterCheckDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.DashboardDto.DashboardCounterDTO;
+import com.my.gyp_portfolio_shoppingmall.enums.DashboardEnums.DashboardCounter;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class DashboardDao {
+
+    private final SqlSession s;
+
+    // 대시보드 카운터 증감(슬롯 행이 없으면 생성)
+    public int incrementDashboardCounter(DashboardCounter counterName, int slot, BigDecimal delta) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("counterName", counterName);
+        params.put("slot", slot);
+        params.put("delta", delta);
+        return s.insert("DashboardMapper.incrementDashboardCounter", params);
+    }
+
+    // 대시보드 카운터 조회(카운터별 슬롯 합계)
+    public List<DashboardCounterDTO> getDashboardCounters() {
+        return s.selectList("DashboardMapper.getDashboardCounters");
+    }
+
+    // 대시보드 카운터와 원본 테이블 집계 비교(단일 문장)
+    public List<DashboardCounterCheckDTO> getDashboardCounterChecks() {
+        return s.selectList("DashboardMapper.getDashboardCounterChecks");
+    }
+}
\ No newline at end of file
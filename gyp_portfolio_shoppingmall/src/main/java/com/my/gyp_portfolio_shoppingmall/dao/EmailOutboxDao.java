@@ -0,0 +1,83 @@
+package com.my.gyp_portfolio_shoppingmall.dao;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.session.SqlSession;
+import org.springframework.stereotype.Repository;
+
+import com.my.gyp_portfolio_shoppingmall.dto.EmailDto.EmailOutboxQueueStatsDTO;
+import com.my.gyp_portfolio_shoppingmall.vo.EmailOutbox;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class EmailOutboxDao {
+
+    private final SqlSession s;
+
+    // 발송할 이메일 기록
+    public int insertEmailOutbox(EmailOutbox emailOutbox) {
+        return s.insert("EmailOutboxMapper.insertEmailOutbox", emailOutbox);
+    }
+
+    // 발송 가능한 이메일 선점 후 조회
+    public List<EmailOutbox> claimEmailOutboxes(String claimToken, int limit, int lockSeconds) {
+        List<Long> emailOutboxIds = s.selectList("EmailOutboxMapper.selectClaimableEmailOutboxIds", limit);
+        if (emailOutboxIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("emailOutboxIds", emailOutboxIds);
+        params.put("claimToken", claimToken);
+        params.put("lockSeconds", lockSeconds);
+        if (s.update("EmailOutboxMapper.claimEmailOutboxes", params) == 0) {
+            return Collections.emptyList();
+        }
+        return s.selectList("EmailOutboxMapper.selectClaimedEmailOutboxes", claimToken);
+    }
+
+    // 이메일 발송 완료(묶음 단위, 선점을 잃은 건은 제외)
+    public int completeEmailOutboxes(List<Long> emailOutboxIds, String claimToken) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("emailOutboxIds", emailOutboxIds);
+        params.put("claimToken", claimToken);
+        return s.update("EmailOutboxMapper.completeEmailOutboxes", params);
+    }
+
+    // 이메일 재발송 예약
+    public int retryEmailOutbox(long emailOutboxId, String claimToken, long delaySeconds, String lastError) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("emailOutboxId", emailOutboxId);
+        params.put("claimToken", claimToken);
+        params.put("delaySeconds", delaySeconds);
+        params.put("lastError", lastError);
+        return s.update("EmailOutboxMapper.retryEmailOutbox", params);
+    }
+
+    // 이메일 발송 실패(재시도 중단)
+    public int failEmailOutbox(long emailOutboxId, String claimToken, String lastError) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("emailOutboxId", emailOutboxId);
+        params.put("claimToken", claimToken);
+        params.put("lastError", lastError);
+        return s.update("EmailOutboxMapper.failEmailOutbox", params);
+    }
+
+    // 발송 대기열 상태
+    public EmailOutboxQueueStatsDTO getEmailOutboxQueueStats() {
+        return s.selectOne("EmailOutboxMapper.selectEmailOutboxQueueStats");
+    }
+
+    // 보관 기간이 지난 발송 완료 이메일 삭제
+    public int deleteSentEmailOutboxes(int retentionDays, int limit) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("retentionDays", retentionDays);
+        params.put("limit", limit);
+        return s.delete("EmailOutboxMapper.deleteSentEmailOutboxes", params);
+    }
+}
\ No newline at end of file
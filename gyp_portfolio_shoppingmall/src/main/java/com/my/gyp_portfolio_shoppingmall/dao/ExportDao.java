@@ -0,0 +1,37 @@
+package com.my.gyp_portfolio_shoppingmall.dao;
+
+import java.util.Map;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.TransactionIsolationLevel;
+import org.springframework.stereotype.Repository;
+
+import com.my.gyp_portfolio_shoppingmall.dto.OrderDto.OrderExportRowDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.PaymentDto.PaymentHistorySearchDTO;
+import com.my.gyp_portfolio_shoppingmall.vo.PaymentHistory;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class ExportDao {
+
+    private final SqlSessionFactory sqlSessionFactory;
+
+    // 스트리밍 조회용 세션 생성(내보내기마다 별도 커넥션, 긴 스냅샷 유지를 피하기 위해 READ COMMITTED)
+    public SqlSession openStreamingSession() {
+        return sqlSessionFactory.openSession(TransactionIsolationLevel.READ_COMMITTED);
+    }
+
+    // 주문 상품 단위 내보내기 행 스트리밍 조회
+    public Cursor<OrderExportRowDTO> streamOrderLinesForExport(SqlSession streamingSession, Map<String, Object> params) {
+        return streamingSession.selectCursor("OrderMapper.streamOrderLinesForExport", params);
+    }
+
+    // 결제 이력 내보내기 행 스트리밍 조회
+    public Cursor<PaymentHistory> streamPaymentHistoryForExport(SqlSession streamingSession, PaymentHistorySearchDTO searchDTO) {
+        return streamingSession.selectCursor("PaymentHistoryMapper.streamPaymentHistoryForExport", searchDTO);
+    }
+}
\ No newline at end of file
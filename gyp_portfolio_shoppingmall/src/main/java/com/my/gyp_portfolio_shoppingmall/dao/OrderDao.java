@@ -1,14 +1,20 @@
 package com.my.gyp_portfolio_shoppingmall.dao;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.apache.ibatis.session.SqlSession;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 
+import com.my.gyp_portfolio_shoppingmall.dto.OrderDto.OrderProductHistoryDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.OrderDto.OrderSummaryDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.OrderDto.OrderSummaryRefreshEventDTO;
 import com.my.gyp_portfolio_shoppingmall.dto.OrderDto.UserOrderHistoryDTO;
 import com.my.gyp_portfolio_shoppingmall.dto.ReviewDto.ReviewDTO;
+import com.my.gyp_portfolio_shoppingmall.enums.OrderEnums.OrderProductStatus;
 import com.my.gyp_portfolio_shoppingmall.vo.DeliveryHistory;
 import com.my.gyp_portfolio_shoppingmall.vo.Order;
 import com.my.gyp_portfolio_shoppingmall.vo.OrderProduct;
@@ -23,18 +29,23 @@ import lombok.extern.slf4j.Slf4j;
 public class OrderDao {
 
     private final SqlSession s;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 주문 내역 정보 생성
     public int insertOrder(Order order) {
         return s.insert("OrderMapper.insertOrder", order);
     }
 
-    // order 정보 업데이트
+    // order 정보 업데이트(커밋 후 주문 요약 갱신)
     public int updateOrder(Order order) {
-        return s.update("OrderMapper.updateOrder", order);
+        int result = s.update("OrderMapper.updateOrder", order);
+        if (result > 0) {
+            refreshOrderSummariesAfterCommit(List.of(order.getOrderId()), null);
+        }
+        return result;
     }
     
-    // 주문 상품 정보 생성
+    // 주문 상품 정보 생성(주문 요약은 호출 측에서 주문 단위로 한 번 갱신)
     public int insertOrderProduct(OrderProduct orderProduct) {
         return s.insert("OrderProductMapper.insertOrderProduct", orderProduct);
     }
@@ -54,9 +65,14 @@ public class OrderDao {
         return s.selectList("OrderProductMapper.getOrderProduct", orderProduct);
     }
 
-    // 관리자용 전체 주문 상품 목록 조회
-    public List<UserOrderHistoryDTO> getOrderListForAdmin(Map<String, Object> orderListForAdmin) {
-        return s.selectList("OrderMapper.getOrderListForAdmin", orderListForAdmin);
+    // 관리자용 주문 ID 페이지 조회(키셋 페이징)
+    public List<Integer> getOrderIdsForAdmin(Map<String, Object> orderListForAdmin) {
+        return s.selectList("OrderMapper.getOrderIdsForAdmin", orderListForAdmin);
+    }
+
+    // 관리자용 전체 주문 상품 목록 조회(주문 ID 기준)
+    public List<UserOrderHistoryDTO> getOrderListForAdmin(List<Integer> orderIds) {
+        return s.selectList("OrderMapper.getOrderListForAdmin", orderIds);
     }
 
     // orderProductId로 해당 상품 정보 조회
@@ -64,9 +80,13 @@ public class OrderDao {
         return s.selectOne("OrderProductMapper.getOrderProduct", orderProduct);
     }
 
-    // 주문 내역 개별 상품 상태 업데이트
+    // 주문 내역 개별 상품 상태 업데이트(커밋 후 주문 요약 갱신)
     public int updateOrderProductStatusWithOptimisticLock(OrderProduct orderProduct) {
-        return s.update("OrderProductMapper.updateOrderProductStatusWithOptimisticLock", orderProduct);
+        int result = s.update("OrderProductMapper.updateOrderProductStatusWithOptimisticLock", orderProduct);
+        if (result > 0) {
+            refreshOrderSummariesAfterCommit(null, List.of(orderProduct.getOrderProductId()));
+        }
+        return result;
     }
 
     // 회원 주문 내역 조회(user_id 기준)
@@ -80,9 +100,125 @@ public class OrderDao {
         return s.selectOne("OrderMapper.getOrderDetail", orderId);
     }
 
-    // 자동 구매 확정 조건의 주문 상품 조회
-    public List<OrderProduct> findUnconfirmedDeliveries(LocalDateTime cutoffDate) {
-        return s.selectList("OrderProductMapper.findUnconfirmedDeliveries", cutoffDate);
+    // 주문 상품 이력 일괄 조회(orderProductId 목록 기준)
+    public List<OrderProductHistoryDTO> getOrderProductHistoriesByOrderProductIds(List<Integer> orderProductIds) {
+        return s.selectList("OrderProductHistoryMapper.getOrderProductHistoriesByOrderProductIds", orderProductIds);
+    }
+
+    // 자동 구매 확정 대상 주문 상품 ID 조회(키셋 페이징, 파티션 수가 2 이상이면 해당 ID 구간만)
+    public List<Integer> findUnconfirmedDeliveries(LocalDateTime cutoffDate, long lastOrderProductId, int limit,
+                                                   int partitionCount, int partitionIndex, int rangeWidth) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("cutoffDate", cutoffDate);
+        params.put("lastOrderProductId", lastOrderProductId);
+        params.put("limit", limit);
+        params.put("partitionCount", partitionCount);
+        params.put("partitionIndex", partitionIndex);
+        params.put("rangeWidth", rangeWidth);
+        return s.selectList("OrderProductMapper.findUnconfirmedDeliveries", params);
+    }
+
+    // 구매 확정 가능한 주문 상품 조회(잠금 읽기)
+    public List<OrderProduct> getDeliveredOrderProductsForUpdate(List<Integer> orderProductIds) {
+        return s.selectList("OrderProductMapper.getDeliveredOrderProductsForUpdate", orderProductIds);
+    }
+
+    // 주문 상품 일괄 구매 확정(커밋 후 주문 요약 갱신)
+    public int updateOrderProductsToDeliveryConfirmed(List<Integer> orderProductIds) {
+        int result = s.update("OrderProductMapper.updateOrderProductsToDeliveryConfirmed", orderProductIds);
+        if (result > 0) {
+            refreshOrderSummariesAfterCommit(null, orderProductIds);
+        }
+        return result;
+    }
+
+    // 구매 확정 이력 일괄 생성
+    public int insertDeliveryConfirmedHistories(List<Integer> orderProductIds, String reason) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("orderProductIds", orderProductIds);
+        params.put("reason", reason);
+        return s.insert("OrderProductHistoryMapper.insertDeliveryConfirmedHistories", params);
+    }
+
+    // 현재 배송 구간의 최근 출고 이력 일괄 구매 확정 처리(주문 상품 상태 변경 전 호출)
+    public int confirmLatestDeliveredDeliveryHistories(List<Integer> orderProductIds) {
+        return s.update("DeliveryHistoryMapper.confirmLatestDeliveredDeliveryHistories", orderProductIds);
+    }
+
+    // 일괄 상태 전이 대상 주문 상품 조회(잠금 읽기)
+    public List<OrderProduct> getOrderProductsForUpdate(List<Integer> orderProductIds) {
+        return s.selectList("OrderProductMapper.getOrderProductsForUpdate", orderProductIds);
+    }
+
+    // 주문 상품 일괄 상태 업데이트(커밋 후 주문 요약 갱신)
+    public int updateOrderProductStatuses(List<Integer> orderProductIds, OrderProductStatus statusFrom, OrderProductStatus statusTo) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("orderProductIds", orderProductIds);
+        params.put("statusFrom", statusFrom);
+        params.put("statusTo", statusTo);
+        int result = s.update("OrderProductMapper.updateOrderProductStatuses", params);
+        if (result > 0) {
+            refreshOrderSummariesAfterCommit(null, orderProductIds);
+        }
+        return result;
+    }
+
+    // 주문 상품 이력 일괄 생성
+    public int insertOrderProductHistories(List<OrderProductHistory> orderProductHistories) {
+        return s.insert("OrderProductHistoryMapper.insertOrderProductHistories", orderProductHistories);
+    }
+
+    // 결제 대기 중인 주문 조회(예약 재고 만료 대상)
+    public List<OrderProduct> getPaymentPendingOrders() {
+        return s.selectList("OrderProductMapper.getPaymentPendingOrders");
+    }
+
+    // 만료 시각이 지난 결제 대기 주문 상품이 남아 있는 주문 조회
+    public List<Order> getExpiredPaymentPendingOrders(List<Integer> orderIds, LocalDateTime cutoffDate) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("orderIds", orderIds);
+        params.put("cutoffDate", cutoffDate);
+        return s.selectList("OrderProductMapper.getExpiredPaymentPendingOrders", params);
+    }
+
+    // 주문 요약 재계산(주문 ID 기준)
+    public int refreshOrderSummaries(List<Integer> orderIds) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("orderIds", orderIds);
+        return s.insert("OrderSummaryMapper.refreshOrderSummaries", params);
+    }
+
+    // 주문 요약 재계산(주문 상품 ID 기준)
+    public int refreshOrderSummariesByOrderProductIds(List<Integer> orderProductIds) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("orderProductIds", orderProductIds);
+        return s.insert("OrderSummaryMapper.refreshOrderSummaries", params);
+    }
+
+    // 주문 요약 재계산 요청(상태 변경 트랜잭션 안에서 같은 주문의 다른 주문 상품을 읽어 잠그지 않도록 커밋 후 처리)
+    private void refreshOrderSummariesAfterCommit(List<Integer> orderIds, List<Integer> orderProductIds) {
+        OrderSummaryRefreshEventDTO event = new OrderSummaryRefreshEventDTO();
+        event.setOrderIds(orderIds != null ? List.copyOf(orderIds) : null);
+        event.setOrderProductIds(orderProductIds != null ? List.copyOf(orderProductIds) : null);
+        eventPublisher.publishEvent(event);
+    }
+
+    // 주문 요약 백필 대상 주문 ID 조회(키셋 페이징)
+    public List<Integer> getOrderIdsForSummaryBackfill(int lastOrderId, int limit) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("lastOrderId", lastOrderId);
+        params.put("limit", limit);
+        return s.selectList("OrderSummaryMapper.getOrderIdsForSummaryBackfill", params);
+    }
+
+    // 회원 주문 요약 목록 조회(키셋 페이징)
+    public List<OrderSummaryDTO> getUserOrderSummaries(Map<String, Object> params) {
+        return s.selectList("OrderSummaryMapper.getUserOrderSummaries", params);
+    }
+
+    // 관리자용 주문 요약 목록 조회(키셋 페이징)
+    public List<OrderSummaryDTO> getOrderSummariesForAdmin(Map<String, Object> params) {
+        return s.selectList("OrderSummaryMapper.getOrderSummariesForAdmin", params);
     }
 
     // 배송 이력 정보 생성
@@ -90,6 +226,31 @@ public class OrderDao {
         return s.insert("DeliveryHistoryMapper.insertDeliveryHistory", deliveryHistory);
     }
 
+    // 배송 이력 정보 일괄 생성
+    public int insertDeliveryHistories(List<DeliveryHistory> deliveryHistories) {
+        return s.insert("DeliveryHistoryMapper.insertDeliveryHistories", deliveryHistories);
+    }
+
+    // 최근 준비중 배송 이력 일괄 배송 시작 처리
+    public int startLatestPreparingDeliveryHistories(List<DeliveryHistory> deliveryHistories) {
+        return s.update("DeliveryHistoryMapper.startLatestPreparingDeliveryHistories", deliveryHistories);
+    }
+
+    // 준비중 배송 이력이 있는 주문 상품 ID 조회(잠금 읽기)
+    public List<Integer> getPreparingOrderProductIdsForUpdate(List<Integer> orderProductIds) {
+        return s.selectList("DeliveryHistoryMapper.getPreparingOrderProductIdsForUpdate", orderProductIds);
+    }
+
+    // 배송중 배송 이력이 있는 주문 상품 ID 조회(잠금 읽기)
+    public List<Integer> getDeliveringOrderProductIdsForUpdate(List<Integer> orderProductIds) {
+        return s.selectList("DeliveryHistoryMapper.getDeliveringOrderProductIdsForUpdate", orderProductIds);
+    }
+
+    // 최근 배송중 배송 이력 일괄 배송 완료 처리
+    public int completeLatestDeliveringDeliveryHistories(List<DeliveryHistory> deliveryHistories) {
+        return s.update("DeliveryHistoryMapper.completeLatestDeliveringDeliveryHistories", deliveryHistories);
+    }
+
     // 배송 이력 정보 조회(orderProductId 기준)
     public List<DeliveryHistory> getDeliveryHistory(Integer orderProductId) {  
         return s.selectList("DeliveryHistoryMapper.getDeliveryHistory", orderProductId);
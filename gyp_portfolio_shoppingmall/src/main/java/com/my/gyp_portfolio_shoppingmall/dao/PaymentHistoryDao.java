@@ -1,11 +1,11 @@
 package com.my.gyp_portfolio_shoppingmall.dao;
 
 import java.util.List;
+import java.util.Map;
 
 import org.apache.ibatis.session.SqlSession;
 import org.springframework.stereotype.Repository;
 
-import com.my.gyp_portfolio_shoppingmall.dto.PaymentDto.PaymentHistorySearchDTO;
 import com.my.gyp_portfolio_shoppingmall.vo.PaymentHistory;
 
 import lombok.RequiredArgsConstructor;
@@ -43,9 +43,9 @@ public class PaymentHistoryDao {
         return s.selectOne("PaymentHistoryMapper.selectPaymentHistoryByOrderId", orderId);
     }
     
-    // 결제 이력 검색(관리자용)
-    public List<PaymentHistory> searchPaymentHistory(PaymentHistorySearchDTO searchDTO) {
-        return s.selectList("PaymentHistoryMapper.searchPaymentHistory", searchDTO);
+    // 결제 이력 검색(관리자용, 키셋 페이지 조회)
+    public List<PaymentHistory> searchPaymentHistory(Map<String, Object> params) {
+        return s.selectList("PaymentHistoryMapper.searchPaymentHistory", params);
     }
     
     // 총 매출 조회
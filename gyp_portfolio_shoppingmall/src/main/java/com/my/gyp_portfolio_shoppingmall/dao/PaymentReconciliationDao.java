@@ -0,0 +1,42 @@
+package com.my.gyp_portfolio_shoppingmall.dao;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.TransactionIsolationLevel;
+import org.springframework.stereotype.Repository;
+
+import com.my.gyp_portfolio_shoppingmall.vo.PaymentHistory;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class PaymentReconciliationDao {
+
+    private final SqlSession s;
+    private final SqlSessionFactory sqlSessionFactory;
+
+    // 스트리밍 조회용 세션 생성(구간마다 별도 커넥션, 긴 스냅샷 유지를 피하기 위해 READ COMMITTED)
+    public SqlSession openStreamingSession() {
+        return sqlSessionFactory.openSession(TransactionIsolationLevel.READ_COMMITTED);
+    }
+
+    // 생성 시각 구간의 결제 이력 스트리밍 조회(imp_uid 순)
+    public Cursor<PaymentHistory> streamPaymentHistories(SqlSession streamingSession, LocalDateTime startDate, LocalDateTime endDate) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("startDate", startDate);
+        params.put("endDate", endDate);
+        return streamingSession.selectCursor("PaymentHistoryMapper.streamPaymentHistoriesForReconciliation", params);
+    }
+
+    // imp_uid별 최신 결제 이력 조회
+    public List<PaymentHistory> selectLatestPaymentHistories(List<String> impUids) {
+        return s.selectList("PaymentHistoryMapper.selectLatestPaymentHistoriesByImpUids", impUids);
+    }
+}
\ No newline at end of file
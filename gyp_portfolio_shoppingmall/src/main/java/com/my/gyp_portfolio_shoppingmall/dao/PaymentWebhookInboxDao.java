@@ -0,0 +1,69 @@
+package com.my.gyp_portfolio_shoppingmall.dao;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.session.SqlSession;
+import org.springframework.stereotype.Repository;
+
+import com.my.gyp_portfolio_shoppingmall.vo.PaymentWebhookInbox;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class PaymentWebhookInboxDao {
+
+    private final SqlSession s;
+
+    // 웹훅 수신 기록(중복 수신이면 0)
+    public int insertWebhookInboxIfAbsent(PaymentWebhookInbox paymentWebhookInbox) {
+        return s.insert("PaymentWebhookInboxMapper.insertWebhookInboxIfAbsent", paymentWebhookInbox);
+    }
+
+    // 처리 가능한 웹훅 선점 후 조회(주문번호별 최대 1건)
+    public List<PaymentWebhookInbox> claimWebhookInboxes(String claimToken, int limit, int lockSeconds) {
+        List<Long> webhookInboxIds = s.selectList("PaymentWebhookInboxMapper.selectClaimableWebhookInboxIds", limit);
+        if (webhookInboxIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("webhookInboxIds", webhookInboxIds);
+        params.put("claimToken", claimToken);
+        params.put("lockSeconds", lockSeconds);
+        if (s.update("PaymentWebhookInboxMapper.claimWebhookInboxes", params) == 0) {
+            return Collections.emptyList();
+        }
+        return s.selectList("PaymentWebhookInboxMapper.selectClaimedWebhookInboxes", claimToken);
+    }
+
+    // 웹훅 처리 완료(선점을 잃었으면 0)
+    public int completeWebhookInbox(long webhookInboxId, String claimToken) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("webhookInboxId", webhookInboxId);
+        params.put("claimToken", claimToken);
+        return s.update("PaymentWebhookInboxMapper.completeWebhookInbox", params);
+    }
+
+    // 웹훅 재시도 예약
+    public int retryWebhookInbox(long webhookInboxId, String claimToken, long delaySeconds, String lastError) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("webhookInboxId", webhookInboxId);
+        params.put("claimToken", claimToken);
+        params.put("delaySeconds", delaySeconds);
+        params.put("lastError", lastError);
+        return s.update("PaymentWebhookInboxMapper.retryWebhookInbox", params);
+    }
+
+    // 웹훅 처리 실패(재시도 중단)
+    public int failWebhookInbox(long webhookInboxId, String claimToken, String lastError) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("webhookInboxId", webhookInboxId);
+        params.put("claimToken", claimToken);
+        params.put("lastError", lastError);
+        return s.update("PaymentWebhookInboxMapper.failWebhookInbox", params);
+    }
+}
\ No newline at end of file
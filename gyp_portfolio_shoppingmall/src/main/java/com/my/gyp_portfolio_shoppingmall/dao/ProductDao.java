@@ -1,18 +1,26 @@
 package com.my.gyp_portfolio_shoppingmall.dao;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.ibatis.session.SqlSession;
 import org.springframework.stereotype.Repository;
 
 import com.my.gyp_portfolio_shoppingmall.dto.ProductDto.ProductDTO;
 import com.my.gyp_portfolio_shoppingmall.dto.ProductDto.ProductSearchDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.ProductDto.StockReconciliationDTO;
+import com.my.gyp_portfolio_shoppingmall.enums.ProductEnums.StockMovementType;
+import com.my.gyp_portfolio_shoppingmall.support.ProductAvailabilityCache;
 import com.my.gyp_portfolio_shoppingmall.vo.Category;
 import com.my.gyp_portfolio_shoppingmall.vo.InventoryHistory;
 import com.my.gyp_portfolio_shoppingmall.vo.OrderProduct;
 import com.my.gyp_portfolio_shoppingmall.vo.Product;
 import com.my.gyp_portfolio_shoppingmall.vo.ProductInventory;
 import com.my.gyp_portfolio_shoppingmall.vo.ProductItem;
+import com.my.gyp_portfolio_shoppingmall.vo.StockLedger;
 
 import lombok.RequiredArgsConstructor;
 
@@ -21,6 +29,7 @@ import lombok.RequiredArgsConstructor;
 public class ProductDao {
 
     private final SqlSession s;
+    private final ProductAvailabilityCache productAvailabilityCache;
 
     // 카테고리 추가
     public int insertCategory(Category category) {
@@ -72,9 +81,23 @@ public class ProductDao {
         return s.insert("ProductItemMapper.insertProductItem", productItem);
     }
 
-    // 상품 품목 정보 조회
+    // 상품 품목 정보 조회(스냅샷 미반영 원장까지 합산한 최신 수량)
     public ProductItem getProductItemForUpdate(int productItemId) {
-        return s.selectOne("ProductItemMapper.getProductItemForUpdate", productItemId);
+        ProductItem productItem = s.selectOne("ProductItemMapper.getProductItemForUpdate", productItemId);
+        if (productItem == null) {
+            return null;
+        }
+
+        StockLedger tail = s.selectOne("StockLedgerMapper.getStockLedgerTailForShare", productItem);
+        productItem.setStockQuantity(productItem.getStockQuantity() + tail.getStockDelta());
+        productItem.setReservedQuantity(productItem.getReservedQuantity() + tail.getReservedDelta());
+        productItem.setSalesCount(productItem.getSalesCount() + tail.getSalesDelta());
+        return productItem;
+    }
+
+    // 상품 품목 정보 조회(잠금 없음)
+    public ProductItem getProductItem(int productItemId) {
+        return s.selectOne("ProductItemMapper.getProductItem", productItemId);
     }
 
     // 상품 재고 등록
@@ -87,29 +110,44 @@ public class ProductDao {
         return s.selectOne("ProductInventoryMapper.getProductInventoryForUpdate", productInventory);
     }
 
+    // 상품 재고 일괄 조회(바코드 목록 기준, 잠금 읽기)
+    public List<ProductInventory> getProductInventoriesByBarcodesForUpdate(List<String> barcodes) {
+        return s.selectList("ProductInventoryMapper.getProductInventoriesByBarcodesForUpdate", barcodes);
+    }
+
+    // 상품 재고 일괄 출고 처리
+    public int updateProductInventoriesToOutOfStock(List<ProductInventory> productInventories) {
+        return s.update("ProductInventoryMapper.updateProductInventoriesToOutOfStock", productInventories);
+    }
+
     // 재고 변동 이력 등록
     public int insertInventoryHistory(InventoryHistory inventoryHistory) {
         return s.insert("InventoryHistoryMapper.insertInventoryHistory", inventoryHistory);
     }
 
+    // 재고 변동 이력 일괄 등록
+    public int insertInventoryHistories(List<InventoryHistory> inventoryHistories) {
+        return s.insert("InventoryHistoryMapper.insertInventoryHistories", inventoryHistories);
+    }
+
     // 상품 품목 재고 1 증가
     public void increaseOneStock(Integer productItemId) {
-        s.update("ProductItemMapper.increaseOneStock", productItemId);
+        insertStockLedger(productItemId, null, StockMovementType.INBOUND, 1, 0, 0);
     }
 
     // 상품 품목 재고 1 감소
     public void decreaseOneStock(Integer productItemId) {
-        s.update("ProductItemMapper.decreaseOneStock", productItemId);
+        insertStockLedger(productItemId, null, StockMovementType.OUTBOUND, -1, 0, 0);
     }
 
     // 상품 품목 예약 수량 1 증가
     public void increaseOneReservedStock(Integer productItemId) {
-        s.update("ProductItemMapper.increaseOneReservedStock", productItemId);
+        insertStockLedger(productItemId, null, StockMovementType.RESERVE, 0, 1, 0);
     }
 
     // 상품 품목 예약 수량 1 감소
     public void decreaseOneReservedStock(Integer productItemId) {
-        s.update("ProductItemMapper.decreaseOneReservedStock", productItemId);
+        insertStockLedger(productItemId, null, StockMovementType.RESERVE_RELEASE, 0, -1, 0);
     }
 
     // 상품 재고 내역 수정
@@ -129,22 +167,120 @@ public class ProductDao {
 
     // 주문한 상품 수량만큼 상품 품목 재고 감소 & 예약 수량 증가
     public int ChangeStockByNewOrder(OrderProduct orderProduct) {
-        return s.update("ProductItemMapper.ChangeStockByNewOrder", orderProduct);
+        int quantity = orderProduct.getOriginalQuantity();
+        return insertStockLedger(orderProduct.getProductItemId(), orderProduct.getOrderProductId(), StockMovementType.ORDER_RESERVE, -quantity, quantity, 0);
     }
 
     // 주문 취소/반품 시 상품 품목 재고 증가 & 예약 수량 감소
     public int StockRecovery(OrderProduct orderProduct) {
-        return s.update("ProductItemMapper.StockRecovery", orderProduct);
+        int quantity = orderProduct.getRequestQuantity();
+        return insertStockLedger(orderProduct.getProductItemId(), orderProduct.getOrderProductId(), StockMovementType.ORDER_RECOVERY, quantity, -quantity, 0);
     }
 
     // 구매 확정으로 인한 예약 수량 감소 & 판매 수량 증가
     public int ChangeStockByPurchaseConfirmation(OrderProduct orderProduct) {
-        return s.update("ProductItemMapper.ChangeStockByPurchaseConfirmation", orderProduct);
+        int quantity = orderProduct.getChangedQuantity();
+        return insertStockLedger(orderProduct.getProductItemId(), orderProduct.getOrderProductId(), StockMovementType.PURCHASE_CONFIRMATION, 0, -quantity, quantity);
+    }
+
+    // 일괄 구매 확정으로 인한 예약 수량 감소 & 판매 수량 증가
+    public int ChangeStockByPurchaseConfirmationBatch(List<OrderProduct> orderProducts) {
+        List<StockLedger> stockLedgers = new ArrayList<>();
+        for (OrderProduct orderProduct : orderProducts) {
+            int quantity = orderProduct.getChangedQuantity();
+            StockLedger stockLedger = new StockLedger();
+            stockLedger.setProductItemId(orderProduct.getProductItemId());
+            stockLedger.setOrderProductId(orderProduct.getOrderProductId());
+            stockLedger.setMovementType(StockMovementType.PURCHASE_CONFIRMATION);
+            stockLedger.setStockDelta(0);
+            stockLedger.setReservedDelta(-quantity);
+            stockLedger.setSalesDelta(quantity);
+            stockLedgers.add(stockLedger);
+
+            // 커밋 이후 구매 가능 여부 캐시 무효화
+            productAvailabilityCache.evictProductItemAfterCommit(orderProduct.getProductItemId());
+        }
+        return s.insert("StockLedgerMapper.insertStockLedgers", stockLedgers);
     }
 
     // 결제 실패로 인한 주문 취소 시 상품 품목 재고 증가 & 예약 수량 감소
     public int StockRecoveryForPortOne(OrderProduct orderProduct) {
-        return s.update("ProductItemMapper.StockRecoveryForPortOne", orderProduct);
+        int quantity = orderProduct.getChangedQuantity();
+        return insertStockLedger(orderProduct.getProductItemId(), orderProduct.getOrderProductId(), StockMovementType.PAYMENT_RECOVERY, quantity, -quantity, 0);
+    }
+
+    // 재고 정합성 점검 결과에 따른 가용 재고 보정
+    public int adjustStockByReconciliation(Integer productItemId, int stockDelta) {
+        return insertStockLedger(productItemId, null, StockMovementType.RECONCILIATION, stockDelta, 0, 0);
+    }
+
+    // 재고 변동 원장 등록(상품 품목 수량은 스냅샷 작업에서 반영)
+    private int insertStockLedger(Integer productItemId, Integer orderProductId, StockMovementType movementType,
+                                  int stockDelta, int reservedDelta, int salesDelta) {
+        StockLedger stockLedger = new StockLedger();
+        stockLedger.setProductItemId(productItemId);
+        stockLedger.setOrderProductId(orderProductId);
+        stockLedger.setMovementType(movementType);
+        stockLedger.setStockDelta(stockDelta);
+        stockLedger.setReservedDelta(reservedDelta);
+        stockLedger.setSalesDelta(salesDelta);
+        int result = s.insert("StockLedgerMapper.insertStockLedger", stockLedger);
+
+        // 커밋 이후 구매 가능 여부 캐시 무효화
+        productAvailabilityCache.evictProductItemAfterCommit(productItemId);
+        return result;
+    }
+
+    // 마지막 스냅샷 회차 조회(스냅샷 작업 직렬화)
+    public long getLastSnapshotSeqForUpdate() {
+        return s.selectOne("StockLedgerMapper.getLastSnapshotSeqForUpdate");
+    }
+
+    // 미반영 원장이 있는 상품 품목 ID 조회
+    public List<Integer> getUnappliedStockLedgerProductItemIds(int limit) {
+        return s.selectList("StockLedgerMapper.getUnappliedStockLedgerProductItemIds", limit);
+    }
+
+    // 상품 품목 일괄 잠금(상품 품목 ID 순)
+    public List<Integer> lockProductItemsForUpdate(List<Integer> productItemIds) {
+        return s.selectList("ProductItemMapper.lockProductItemsForUpdate", productItemIds);
+    }
+
+    // 잠근 상품 품목의 커밋된 미반영 원장에 스냅샷 회차 표시
+    public int markUnappliedStockLedgers(long snapshotSeq, List<Integer> productItemIds, int limit) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("snapshotSeq", snapshotSeq);
+        params.put("productItemIds", productItemIds);
+        params.put("limit", limit);
+        return s.update("StockLedgerMapper.markUnappliedStockLedgers", params);
+    }
+
+    // 스냅샷 수 조회
+    public int getStockSnapshotCount() {
+        return s.selectOne("StockLedgerMapper.getStockSnapshotCount");
+    }
+
+    // 최초 기준 스냅샷 생성
+    public int insertBaselineStockSnapshots() {
+        return s.insert("StockLedgerMapper.insertBaselineStockSnapshots");
+    }
+
+    // 스냅샷 회차로 표시된 원장 합계를 상품 품목 수량에 반영
+    public int applyStockLedgers(long snapshotSeq) {
+        return s.update("StockLedgerMapper.applyStockLedgers", snapshotSeq);
+    }
+
+    // 반영된 상품 품목의 스냅샷 생성
+    public int insertStockSnapshots(long snapshotSeq) {
+        return s.insert("StockLedgerMapper.insertStockSnapshots", snapshotSeq);
+    }
+
+    // 특정 시점의 상품 품목 수량 조회
+    public ProductItem getStockAt(Integer productItemId, LocalDateTime at) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("productItemId", productItemId);
+        params.put("at", at);
+        return s.selectOne("StockLedgerMapper.getStockAt", params);
     }
 
     // 최상위 카테고리 목록 조회
@@ -172,6 +308,11 @@ public class ProductDao {
         return s.selectList("ProductItemMapper.getProductItemsByProductId", productId);
     }
 
+    // 상품 품목 재고 단위 상태별 집계(공유 잠금)
+    public StockReconciliationDTO getProductInventoryCountsForShare(Integer productItemId) {
+        return s.selectOne("ProductInventoryMapper.getProductInventoryCountsForShare", productItemId);
+    }
+
     // 상품 품목 재고 목록 조회
     public List<ProductInventory> getProductInventories(Integer productItemId) {
         return s.selectList("ProductInventoryMapper.getProductInventories", productItemId);
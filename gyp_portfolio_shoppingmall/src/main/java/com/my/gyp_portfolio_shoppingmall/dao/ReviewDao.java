@@ -1,12 +1,16 @@
 package com.my.gyp_portfolio_shoppingmall.dao;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.ibatis.session.SqlSession;
 import org.springframework.stereotype.Repository;
 
 import com.my.gyp_portfolio_shoppingmall.dto.ReviewDto.ReviewDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.ReviewDto.ReviewRatingSummaryDTO;
 import com.my.gyp_portfolio_shoppingmall.dto.ReviewDto.ReviewSearchDTO;
+import com.my.gyp_portfolio_shoppingmall.enums.ReviewEnums.RatingTarget;
 import com.my.gyp_portfolio_shoppingmall.vo.Review;
 
 import lombok.RequiredArgsConstructor;
@@ -32,6 +36,11 @@ public class ReviewDao {
         return s.selectOne("ReviewMapper.selectReviewById", reviewId);
     }
 
+    // 단일 리뷰 조회(행 잠금)
+    public Review selectReviewByIdForUpdate(int reviewId) {
+        return s.selectOne("ReviewMapper.selectReviewByIdForUpdate", reviewId);
+    }
+
     // 리뷰 리스트 조회(reviewId, productId, userId 택 1)
     public List<ReviewSearchDTO> selectReviewList(ReviewSearchDTO reviewSearchDTO) {
         return s.selectList("ReviewMapper.selectReviewList", reviewSearchDTO);
@@ -56,4 +65,31 @@ public class ReviewDao {
     public List<Review> getReviewByUserId(int userId) {
         return s.selectList("ReviewMapper.getReviewByUserId", userId);
     }
+
+    // 상품/상품 품목 평점 집계 증감(delta: 1 등록, -1 삭제)
+    public int applyReviewRatingDelta(int productItemId, int rating, int delta) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("productItemId", productItemId);
+        params.put("rating", rating);
+        params.put("delta", delta);
+        return s.insert("ReviewMapper.applyReviewRatingDelta", params);
+    }
+
+    // 평점 집계 배치 조회
+    public List<ReviewRatingSummaryDTO> getReviewRatingSummaries(RatingTarget targetType, List<Integer> targetIds) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("targetType", targetType);
+        params.put("targetIds", targetIds);
+        return s.selectList("ReviewMapper.selectReviewRatingSummaries", params);
+    }
+
+    // 평점 집계 전체 삭제
+    public int deleteReviewRatingAggregates() {
+        return s.delete("ReviewMapper.deleteReviewRatingAggregates");
+    }
+
+    // 리뷰 원본으로 평점 집계 재계산
+    public int rebuildReviewRatingAggregates() {
+        return s.insert("ReviewMapper.rebuildReviewRatingAggregates");
+    }
 }
\ No newline at end of file
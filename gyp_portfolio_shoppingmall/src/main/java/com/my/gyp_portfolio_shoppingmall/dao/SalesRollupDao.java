@@ -0,0 +1,56 @@
+package com.my.gyp_portfolio_shoppingmall.dao;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.session.SqlSession;
+import org.springframework.stereotype.Repository;
+
+import com.my.gyp_portfolio_shoppingmall.dto.DashboardDto.SalesRollupDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.DashboardDto.SalesRollupSearchDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.DashboardDto.SalesRollupSourceDTO;
+import com.my.gyp_portfolio_shoppingmall.enums.DashboardEnums.SalesRollupSource;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class SalesRollupDao {
+
+    private final SqlSession s;
+
+    // 매출 집계 대상 원본 ID 조회(워터마크 이후 ID 순)
+    public List<SalesRollupSourceDTO> getSourceIdsForSalesRollup(SalesRollupSource source, long afterId, int limit, int settleSeconds) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("afterId", afterId);
+        params.put("limit", limit);
+        params.put("settleSeconds", settleSeconds);
+        if (source == SalesRollupSource.ORDERS) {
+            return s.selectList("SalesRollupMapper.getOrderIdsForSalesRollup", params);
+        }
+        return s.selectList("SalesRollupMapper.getPaymentHistoryIdsForSalesRollup", params);
+    }
+
+    // 원본 ID 구간(fromId 초과 toId 이하) 매출 집계 반영
+    public int applySalesRollups(SalesRollupSource source, long fromId, long toId) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("fromId", fromId);
+        params.put("toId", toId);
+        if (source == SalesRollupSource.ORDERS) {
+            return s.insert("SalesRollupMapper.applyOrderSalesRollups", params);
+        }
+        return s.insert("SalesRollupMapper.applyPaymentSalesRollups", params);
+    }
+
+    // 매출 집계 구간 조회
+    public List<SalesRollupDTO> getSalesRollups(SalesRollupSearchDTO searchDTO) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("periodType", searchDTO.getPeriodType());
+        params.put("startDate", searchDTO.getStartDate());
+        params.put("endDate", searchDTO.getEndDate());
+        params.put("categoryId", searchDTO.getCategoryId() != null ? searchDTO.getCategoryId() : 0);
+        params.put("byCategory", searchDTO.isByCategory());
+        return s.selectList("SalesRollupMapper.getSalesRollups", params);
+    }
+}
\ No newline at end of file
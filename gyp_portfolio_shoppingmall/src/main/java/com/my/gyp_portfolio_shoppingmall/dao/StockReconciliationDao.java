@@ -0,0 +1,41 @@
+package com.my.gyp_portfolio_shoppingmall.dao;
+
+import java.util.List;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.TransactionIsolationLevel;
+import org.springframework.stereotype.Repository;
+
+import com.my.gyp_portfolio_shoppingmall.dto.ProductDto.StockReconciliationDTO;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class StockReconciliationDao {
+
+    private final SqlSession s;
+    private final SqlSessionFactory sqlSessionFactory;
+
+    // 스트리밍 조회용 세션 생성(커서마다 별도 커넥션, 긴 스냅샷 유지를 피하기 위해 READ COMMITTED)
+    public SqlSession openStreamingSession() {
+        return sqlSessionFactory.openSession(TransactionIsolationLevel.READ_COMMITTED);
+    }
+
+    // 상품 품목 수량 스트리밍 조회
+    public Cursor<StockReconciliationDTO> streamProductItemStocks(SqlSession streamingSession) {
+        return streamingSession.selectCursor("StockReconciliationMapper.streamProductItemStocks");
+    }
+
+    // 상품 품목별 재고 단위 집계 스트리밍 조회
+    public Cursor<StockReconciliationDTO> streamInventoryCounts(SqlSession streamingSession) {
+        return streamingSession.selectCursor("StockReconciliationMapper.streamInventoryCounts");
+    }
+
+    // 불일치 상품 품목 재확인
+    public List<StockReconciliationDTO> recheckStockMismatches(List<Integer> productItemIds) {
+        return s.selectList("StockReconciliationMapper.recheckStockMismatches", productItemIds);
+    }
+}
\ No newline at end of file
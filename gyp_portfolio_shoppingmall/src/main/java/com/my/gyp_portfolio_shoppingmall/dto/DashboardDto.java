@@ -0,0 +1,76 @@
+package com.my.gyp_portfolio_shoppingmall.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import com.my.gyp_portfolio_shoppingmall.enums.DashboardEnums.DashboardCounter;
+import com.my.gyp_portfolio_shoppingmall.enums.DashboardEnums.SalesRollupPeriod;
+
+import lombok.Getter;
+import lombok.Setter;
+
+public class DashboardDto {
+
+    // 관리자 대시보드 요약(집계 카운터 기준)
+    @Getter @Setter
+    public static class DashboardSnapshotDTO {
+        private long userCount;
+        private long orderCount;
+        private long reviewCount;
+        private long paymentCount;
+        private BigDecimal totalRevenue;
+        private LocalDateTime refreshedAt;      // 카운터 조회 시각
+    }
+
+    // 대시보드 카운터 값(슬롯 합계)
+    @Getter @Setter
+    public static class DashboardCounterDTO {
+        private DashboardCounter counterName;
+        private BigDecimal counterValue;
+    }
+
+    // 대시보드 카운터 점검 결과(카운터 값과 원본 테이블 집계 값)
+    @Getter @Setter
+    public static class DashboardCounterCheckDTO {
+        private DashboardCounter counterName;
+        private BigDecimal counterValue;
+        private BigDecimal actualValue;
+    }
+
+    // 매출 집계 원본 행(집계 대상 ID와 커밋 확정 여부)
+    @Getter @Setter
+    public static class SalesRollupSourceDTO {
+        private Long id;
+        private boolean settled;            // 지연 시간이 지나 더 이상 앞선 ID가 커밋될 수 없는 행
+    }
+
+    // 매출 집계 조회 조건
+    @Getter @Setter
+    public static class SalesRollupSearchDTO {
+        private SalesRollupPeriod periodType;
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        private LocalDateTime startDate;
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        private LocalDateTime endDate;
+        private Integer categoryId;         // 없으면 전체 합계
+        private boolean byCategory;         // true면 카테고리별 전체 조회
+    }
+
+    // 시간/일 단위 매출 집계
+    @Getter @Setter
+    public static class SalesRollupDTO {
+        private SalesRollupPeriod periodType;
+        private LocalDateTime periodStart;
+        private Integer categoryId;         // 0: 전체 합계
+        private String categoryName;
+        private int orderCount;
+        private int itemQuantity;
+        private BigDecimal itemAmount;
+        private int paidCount;
+        private BigDecimal paidAmount;
+        private int cancelledCount;
+        private BigDecimal cancelledAmount;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.my.gyp_portfolio_shoppingmall.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Getter;
+import lombok.Setter;
+
+public class EmailDto {
+
+    // 이메일 발송함 대기열 상태(발송 대기 + 발송 중)
+    @Getter @Setter
+    public static class EmailOutboxQueueStatsDTO {
+        private long pendingCount;
+        private LocalDateTime oldestPendingAt;
+    }
+
+    // 이메일 발송기 지표(누적 건수, 최근 발송 지연, 대기열, SMTP 연결 풀)
+    @Getter @Setter
+    public static class EmailDispatchMetricsDTO {
+        private long sentCount;
+        private long retryCount;
+        private long failedCount;
+        private int sampleCount;                // 지연 계산에 사용한 최근 발송 수
+        private double sendLatencyP50Millis;
+        private double sendLatencyP95Millis;
+        private double sendLatencyP99Millis;
+        private double sendLatencyMaxMillis;
+        private long queuePendingCount;
+        private long queueOldestPendingSeconds;
+        private int activeConnections;
+        private int idleConnections;
+        private long openedConnections;         // 지금까지 새로 연결한 횟수
+        private LocalDateTime measuredAt;
+    }
+}
\ No newline at end of file
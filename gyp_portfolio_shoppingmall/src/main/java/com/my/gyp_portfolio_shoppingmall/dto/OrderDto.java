@@ -2,6 +2,7 @@ package com.my.gyp_portfolio_shoppingmall.dto;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.format.annotation.DateTimeFormat;
@@ -10,6 +11,7 @@ import com.my.gyp_portfolio_shoppingmall.enums.OrderEnums.DeliveryStatus;
 import com.my.gyp_portfolio_shoppingmall.enums.OrderEnums.DeliveryType;
 import com.my.gyp_portfolio_shoppingmall.enums.OrderEnums.OrderProductStatus;
 import com.my.gyp_portfolio_shoppingmall.enums.OrderEnums.PaymentMethod;
+import com.my.gyp_portfolio_shoppingmall.enums.OrderEnums.TransitionConflictType;
 
 import lombok.Getter;
 import lombok.Setter;
@@ -152,5 +154,114 @@ public class OrderDto {
         private LocalDateTime startDate;
         @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
         private LocalDateTime endDate;
+        // 페이지 크기 및 이전 페이지 마지막 주문 위치(created_at, order_id)
+        private Integer size;
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        private LocalDateTime cursorCreatedAt;
+        private Integer cursorOrderId;
+    }
+
+    // 주문 요약(목록 화면용 읽기 모델)
+    @Getter @Setter
+    public static class OrderSummaryDTO {
+        private Integer orderId;
+        private Integer userId;
+        private String email;
+        private String merchantUid;
+        private Integer itemCount;
+        private Integer totalQuantity;
+        private String firstProductName;
+        private String statusMix;
+        private BigDecimal currentTotalPrice;
+        private LocalDateTime orderedAt;
+    }
+
+    // 회원 주문 요약 목록 조회(키셋 페이징)
+    @Getter @Setter
+    public static class OrderSummarySearchDTO {
+        private Integer size;
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        private LocalDateTime cursorOrderedAt;
+        private Integer cursorOrderId;
+    }
+
+    // 주문 요약 목록 조회 결과(키셋 페이지)
+    @Getter @Setter
+    public static class OrderSummaryPageDTO {
+        private List<OrderSummaryDTO> orders;
+        private boolean hasNext;
+        private LocalDateTime nextCursorOrderedAt;
+        private Integer nextCursorOrderId;
+    }
+
+    // 관리자용 전체 주문 목록 조회 결과(키셋 페이지)
+    @Getter @Setter
+    public static class OrderListForAdminPageDTO {
+        private List<UserOrderHistoryDTO> orders;
+        private boolean hasNext;
+        private LocalDateTime nextCursorCreatedAt;
+        private Integer nextCursorOrderId;
+    }
+
+    // 관리자용 주문 상품 상태 일괄 전이 요청(줄별 배송 정보는 목표 상태에 필요한 항목만 사용)
+    @Getter @Setter
+    public static class OrderProductBulkTransitionDTO {
+        private OrderProductStatus targetStatus;
+        private List<DeliveryInfoDTO> lines;
+    }
+
+    // 주문 상품 상태 일괄 전이 충돌 항목
+    @Getter @Setter
+    public static class OrderProductTransitionConflictDTO {
+        private Integer orderProductId;
+        private OrderProductStatus currentStatus;
+        private TransitionConflictType conflictType;
+    }
+
+    // 주문 상품 상태 일괄 전이 결과
+    @Getter @Setter
+    public static class OrderProductBulkTransitionResultDTO {
+        private int requestedCount;
+        private int appliedCount;
+        private List<Integer> appliedOrderProductIds = new ArrayList<>();
+        private List<OrderProductTransitionConflictDTO> conflicts = new ArrayList<>();
+    }
+
+    // 주문 CSV 내보내기 행(주문 상품 단위)
+    @Getter @Setter
+    public static class OrderExportRowDTO {
+        private Integer orderId;
+        private String merchantUid;
+        private LocalDateTime orderCreatedAt;
+        private String email;
+        private String recipientName;
+        private String recipientPhone;
+        private String recipientPostcode;
+        private String recipientAddress;
+        private PaymentMethod paymentMethod;
+        private BigDecimal deliveryFee;
+        private BigDecimal currentTotalPrice;
+        private Integer orderProductId;
+        private String productName;
+        private String size;
+        private String color;
+        private Integer originalQuantity;
+        private Integer changedQuantity;
+        private BigDecimal finalPrice;
+        private OrderProductStatus status;
+    }
+
+    // 주문 접수 완료 이벤트(커밋 후 예약 재고 만료 타이밍 휠 등록)
+    @Getter @Setter
+    public static class OrderCreatedEventDTO {
+        private Integer orderId;
+        private LocalDateTime createdAt;
+    }
+
+    // 주문 요약 재계산 요청 이벤트(커밋 후 별도 트랜잭션에서 주문 ID 또는 주문 상품 ID 기준 재계산)
+    @Getter @Setter
+    public static class OrderSummaryRefreshEventDTO {
+        private List<Integer> orderIds;
+        private List<Integer> orderProductIds;
     }
 }
@@ -1,12 +1,17 @@
 package com.my.gyp_portfolio_shoppingmall.dto;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.springframework.format.annotation.DateTimeFormat;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.my.gyp_portfolio_shoppingmall.enums.OrderEnums.PaymentMethod;
 import com.my.gyp_portfolio_shoppingmall.enums.PaymentEnums.PaymentStatus;
+import com.my.gyp_portfolio_shoppingmall.enums.PaymentEnums.ReconciliationDiscrepancyType;
+import com.my.gyp_portfolio_shoppingmall.vo.PaymentHistory;
 
 import lombok.Getter;
 import lombok.Setter;
@@ -57,6 +62,7 @@ public class PaymentDto {
         private String buyer_addr;
         private String buyer_postcode;
         private Long paid_at;
+        private Long vbank_date;
         private String custom_data;
         private String receipt_url;
         private String error_code;
@@ -66,8 +72,17 @@ public class PaymentDto {
     // 결제 취소 요청 DTO
     @Getter @Setter
     public static class CancelRequestDTO {
+        @JsonProperty("imp_uid")
+        private String impUid;
         private String reason;
     }
+
+    // 포트원 custom_data DTO(결제 요청 시 전달한 주문 금액 정보)
+    @Getter @Setter
+    public static class PaymentCustomDataDTO {
+        private Long totalPrice;
+        private Long shippingFee;
+    }
     
     // 결제 준비 요청 DTO
     @Getter @Setter
@@ -124,6 +139,20 @@ public class PaymentDto {
         private LocalDateTime startDate;
         @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
         private LocalDateTime endDate;
+        // 페이지 크기 및 이전 페이지 마지막 결제 이력 위치(paid_at, payment_history_id, paid_at 이 없는 이력이면 id만)
+        private Integer size;
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        private LocalDateTime cursorPaidAt;
+        private Integer cursorPaymentHistoryId;
+    }
+
+    // 관리자용 결제 이력 검색 결과(키셋 페이지)
+    @Getter @Setter
+    public static class PaymentHistoryPageDTO {
+        private List<PaymentHistory> histories;
+        private boolean hasNext;
+        private LocalDateTime nextCursorPaidAt;
+        private Integer nextCursorPaymentHistoryId;
     }
     
     // V1 API 응답 래퍼
@@ -133,4 +162,39 @@ public class PaymentDto {
         private String message;     // 응답 메시지
         private T response;         // 실제 데이터
     }
+
+    // V1 결제 목록 조회 응답
+    @Getter @Setter
+    public static class PaymentPageDTO {
+        private int total;                      // 전체 건수
+        private int previous;                   // 이전 페이지(없으면 0)
+        private int next;                       // 다음 페이지(없으면 0)
+        private List<PaymentDataDTO> list;      // 결제 목록
+    }
+
+    // 결제 정합성 점검 불일치 항목
+    @Getter @Setter
+    public static class PaymentReconciliationDiscrepancyDTO {
+        private String impUid;
+        private String merchantUid;
+        private ReconciliationDiscrepancyType type;
+        private String portOneStatus;
+        private Long portOneAmount;
+        private PaymentStatus historyStatus;
+        private BigDecimal historyAmount;
+        private boolean repaired;
+    }
+
+    // 결제 정합성 점검 결과
+    @Getter @Setter
+    public static class PaymentReconciliationResultDTO {
+        private LocalDateTime startDate;
+        private LocalDateTime endDate;
+        private int portOneCount;
+        private int historyCount;
+        private int discrepancyCount;
+        private int repairedCount;
+        private int unverifiedCount;
+        private List<PaymentReconciliationDiscrepancyDTO> discrepancies = new ArrayList<>();
+    }
 }
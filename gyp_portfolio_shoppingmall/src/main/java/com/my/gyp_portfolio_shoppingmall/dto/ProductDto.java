@@ -2,6 +2,7 @@ package com.my.gyp_portfolio_shoppingmall.dto;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.core.io.Resource;
@@ -107,4 +108,46 @@ public class ProductDto {
         private Resource resource;
         private String contentType;
     }
+
+    // 상품 이미지 URL 목록(product.image_url JSON)
+    @Getter @Setter
+    public static class ImageUrlManifestDTO {
+        private List<String> urls;
+    }
+
+    // 상품 품목 구매 가능 여부(상품 상세 화면용 읽기 모델)
+    @Getter @Setter
+    public static class ProductItemAvailabilityDTO {
+        private Integer productItemId;
+        private String size;
+        private String color;
+        private boolean inStock;
+        private int availableQuantity;
+    }
+
+    // 재고 정합성 점검 항목(상품 품목 수량 & 재고 단위 집계)
+    @Getter @Setter
+    public static class StockReconciliationDTO {
+        private Integer productItemId;
+        private int stockQuantity;
+        private int reservedQuantity;
+        private int salesCount;
+        private int inStockCount;
+        private int outOfStockCount;
+        private int defectiveCount;
+
+        // 재고 단위 기준으로 보정해야 할 가용 재고 수량
+        public int getStockDifference() {
+            return (inStockCount + outOfStockCount) - (stockQuantity + reservedQuantity + salesCount);
+        }
+    }
+
+    // 재고 정합성 점검 결과
+    @Getter @Setter
+    public static class StockReconciliationResultDTO {
+        private int checkedCount;
+        private int mismatchCount;
+        private int correctedCount;
+        private List<StockReconciliationDTO> mismatches = new ArrayList<>();
+    }
 }
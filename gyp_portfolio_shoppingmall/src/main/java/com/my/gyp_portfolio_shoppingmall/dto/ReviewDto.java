@@ -2,6 +2,8 @@ package com.my.gyp_portfolio_shoppingmall.dto;
 
 import java.util.List;
 
+import com.my.gyp_portfolio_shoppingmall.enums.ReviewEnums.RatingTarget;
+
 import lombok.Getter;
 import lombok.Setter;
 
@@ -43,4 +45,26 @@ public class ReviewDto {
         private Integer offset;
         private Integer size;
     }
+
+    // 평점 집계 배치 조회 조건(목록 화면의 상품/품목 ID 묶음)
+    @Getter @Setter
+    public static class ReviewRatingSearchDTO {
+        private RatingTarget targetType;        // 없으면 PRODUCT
+        private List<Integer> targetIds;
+    }
+
+    // 상품/상품 품목별 평점 집계(리뷰 수, 평점 합계, 점수별 분포)
+    @Getter @Setter
+    public static class ReviewRatingSummaryDTO {
+        private RatingTarget targetType;
+        private Integer targetId;
+        private int reviewCount;
+        private int ratingSum;
+        private double averageRating;           // 소수 둘째 자리 반올림, 리뷰가 없으면 0
+        private int rating1Count;
+        private int rating2Count;
+        private int rating3Count;
+        private int rating4Count;
+        private int rating5Count;
+    }
 }
@@ -0,0 +1,8 @@
+package com.my.gyp_portfolio_shoppingmall.enums;
+
+public class BatchJobEnums {
+    public enum BatchJobStatus {
+        RUNNING,
+        COMPLETED
+    }
+}
\ No newline at end of file
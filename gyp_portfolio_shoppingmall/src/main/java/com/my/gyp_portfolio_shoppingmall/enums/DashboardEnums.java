@@ -0,0 +1,21 @@
+package com.my.gyp_portfolio_shoppingmall.enums;
+
+public class DashboardEnums {
+    public enum DashboardCounter {
+        USER_COUNT,
+        ORDER_COUNT,
+        REVIEW_COUNT,
+        PAYMENT_COUNT,
+        TOTAL_REVENUE
+    }
+
+    public enum SalesRollupPeriod {
+        HOUR,
+        DAY
+    }
+
+    public enum SalesRollupSource {
+        ORDERS,
+        PAYMENT_HISTORIES
+    }
+}
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.my.gyp_portfolio_shoppingmall.enums;
+
+public class EmailEnums {
+    public enum EmailType {
+        PASSWORD_RESET,     // 비밀번호 재설정
+        WELCOME,            // 가입 환영
+        PAYMENT_COMPLETED   // 결제 완료
+    }
+
+    public enum EmailOutboxStatus {
+        PENDING,        // 발송 대기
+        PROCESSING,     // 발송 중
+        SENT,           // 발송 완료
+        FAILED          // 발송 실패(재시도 중단)
+    }
+}
\ No newline at end of file
@@ -20,6 +20,17 @@ public class OrderEnums {
         EXCHANGE_DELIVERED
     }
 
+    // 주문 상품 일괄 상태 전이 충돌 유형
+    public enum TransitionConflictType {
+        NOT_FOUND,
+        DUPLICATE_LINE,
+        INVALID_TRANSITION,
+        VERSION_MISMATCH,
+        INVALID_DELIVERY_INFO,
+        INVALID_BARCODE,
+        MISSING_DELIVERY_HISTORY
+    }
+
     public enum PaymentMethod {
         // 포트원 API V1 표준 코드
         KAKAOPAY,
@@ -8,4 +8,19 @@ public class PaymentEnums {
         CANCELLED,      // 결제 취소
         PARTIAL_CANCELLED // 부분 취소
     }    
+
+    public enum WebhookInboxStatus {
+        PENDING,        // 처리 대기
+        PROCESSING,     // 처리 중
+        DONE,           // 처리 완료
+        FAILED          // 처리 실패(재시도 중단)
+    }
+
+    public enum ReconciliationDiscrepancyType {
+        MISSING_IN_HISTORY,     // 포트원에만 있는 결제
+        MISSING_IN_PORTONE,     // 결제 이력에만 있는 결제
+        STATUS_MISMATCH,        // 결제 상태 불일치
+        AMOUNT_MISMATCH,        // 결제 금액 불일치
+        UNVERIFIED              // 포트원 조회 실패로 확인하지 못한 결제
+    }
 }
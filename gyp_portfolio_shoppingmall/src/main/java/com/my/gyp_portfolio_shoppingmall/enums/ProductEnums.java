@@ -6,4 +6,16 @@ public class ProductEnums {
         OUT_OF_STOCK,
         DEFECTIVE
     }
+
+    public enum StockMovementType {
+        INBOUND,
+        OUTBOUND,
+        RESERVE,
+        RESERVE_RELEASE,
+        ORDER_RESERVE,
+        ORDER_RECOVERY,
+        PURCHASE_CONFIRMATION,
+        PAYMENT_RECOVERY,
+        RECONCILIATION
+    }
 }
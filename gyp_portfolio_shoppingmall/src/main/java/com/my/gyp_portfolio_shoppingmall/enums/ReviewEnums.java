@@ -0,0 +1,8 @@
+package com.my.gyp_portfolio_shoppingmall.enums;
+
+public class ReviewEnums {
+    public enum RatingTarget {
+        PRODUCT,
+        PRODUCT_ITEM
+    }
+}
\ No newline at end of file
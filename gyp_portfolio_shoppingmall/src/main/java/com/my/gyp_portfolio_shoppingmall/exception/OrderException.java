@@ -42,4 +42,25 @@ public class OrderException {
             super("구매 확정 조건이 충족되지 않았습니다.");
         }
     }
+
+    // 배치 작업 체크포인트 불일치(다른 실행에서 이미 진행됨)
+    public static class BatchJobCheckpointConflictException extends RuntimeException {
+        public BatchJobCheckpointConflictException() {
+            super("다른 배치 작업 실행에서 체크포인트가 변경되었습니다.");
+        }
+    }
+
+    // 스케줄 작업 임대 상실(다른 노드가 작업을 가져감)
+    public static class ScheduledJobLeaseLostException extends RuntimeException {
+        public ScheduledJobLeaseLostException() {
+            super("스케줄 작업 임대가 만료되었거나 다른 노드로 넘어갔습니다.");
+        }
+    }
+
+    // 주문 요약 백필 중복 실행
+    public static class OrderSummaryBackfillInProgressException extends RuntimeException {
+        public OrderSummaryBackfillInProgressException() {
+            super("이미 다른 노드에서 주문 요약 백필이 진행 중입니다.");
+        }
+    }
 } 
\ No newline at end of file
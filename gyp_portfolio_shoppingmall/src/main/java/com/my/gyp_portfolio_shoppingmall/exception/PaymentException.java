@@ -83,4 +83,18 @@ public abstract class PaymentException extends RuntimeException {
             super(message);
         }
     }
+
+    // 웹훅 수신함 처리 관련 예외
+    public static class WebhookInboxException extends RuntimeException {
+        public WebhookInboxException(String message) {
+            super(message);
+        }
+    }
+
+    // 결제 정합성 점검 관련 예외
+    public static class PaymentReconciliationException extends RuntimeException {
+        public PaymentReconciliationException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
 }
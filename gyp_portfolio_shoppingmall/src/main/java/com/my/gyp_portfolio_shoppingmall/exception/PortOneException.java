@@ -68,6 +68,17 @@ public class PortOneException {
         }
     }
     
+    // 결제 정보 없음(포트원 404 응답)
+    public static class PaymentNotFoundException extends ServerException {
+        public PaymentNotFoundException() {
+            super("포트원에 해당 결제 정보가 없습니다.");
+        }
+        
+        public PaymentNotFoundException(String message) {
+            super(message);
+        }
+    }
+    
     // 응답 파싱 오류
     public static class ResponseParsingException extends RuntimeException {
         public ResponseParsingException() {
@@ -71,4 +71,15 @@ public class ProductException {
             super("이미지 파일 삭제에 실패했습니다.");
         }
     }
+
+    // 재고 정합성 점검 실패
+    public static class StockReconciliationException extends RuntimeException {
+        public StockReconciliationException() {
+            super("재고 정합성 점검에 실패했습니다.");
+        }
+
+        public StockReconciliationException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
 }
@@ -29,4 +29,11 @@ public class ReviewException {
             super("이미 작성된 리뷰가 있습니다.");
         }
     }
+
+    // 평점 값 오류
+    public static class InvalidRatingException extends RuntimeException {
+        public InvalidRatingException() {
+            super("평점은 1점에서 5점 사이로 입력해주세요.");
+        }
+    }
 }
@@ -0,0 +1,173 @@
+package com.my.gyp_portfolio_shoppingmall.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.my.gyp_portfolio_shoppingmall.dao.DashboardDao;
+import com.my.gyp_portfolio_shoppingmall.dto.DashboardDto.DashboardCounterCheckDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.DashboardDto.DashboardCounterDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.DashboardDto.DashboardSnapshotDTO;
+import com.my.gyp_portfolio_shoppingmall.enums.DashboardEnums.DashboardCounter;
+import com.my.gyp_portfolio_shoppingmall.enums.PaymentEnums.PaymentStatus;
+import com.my.gyp_portfolio_shoppingmall.vo.PaymentHistory;
+import com.my.gyp_portfolio_shoppingmall.vo.ScheduledJobLease;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관리자 대시보드 집계 카운터
+ *
+ * 회원/주문/리뷰/결제 이력 행을 추가하는 트랜잭션 안에서 dashboard_counters를 함께 증감하므로
+ * 대시보드 조회 시 원본 테이블 전체 집계 없이 카운터 합계만 읽는다.
+ * 카운터 행 잠금 경합을 줄이기 위해 카운터마다 여러 슬롯에 나눠 누적하고 조회 시 합산한다.
+ * 누락이나 수동 데이터 변경으로 생긴 차이는 야간 점검 작업이 원본 집계와 비교해 보정한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardService {
+
+    private static final int COUNTER_SLOTS = 16;
+    private static final String JOB_NAME = "DASHBOARD_COUNTER_VERIFICATION";
+    private static final int LEASE_TTL_SECONDS = 30 * 60;
+
+    // 대시보드 요약 캐시 유지 시간
+    @Value("${dashboard.snapshot.cache-ttl-ms:10000}")
+    private long snapshotCacheTtlMillis;
+
+    private final DashboardDao dashboardDao;
+    private final ScheduledJobLeaseService scheduledJobLeaseService;
+
+    private volatile CachedSnapshot cachedSnapshot;
+
+    // 회원 가입 반영(회원 생성 트랜잭션 안에서 호출)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void increaseUserCount() {
+        increment(DashboardCounter.USER_COUNT, BigDecimal.ONE);
+    }
+
+    // 주문 접수 반영(주문 생성 트랜잭션 안에서 호출)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void increaseOrderCount() {
+        increment(DashboardCounter.ORDER_COUNT, BigDecimal.ONE);
+    }
+
+    // 리뷰 등록 반영(리뷰 생성 트랜잭션 안에서 호출)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void increaseReviewCount() {
+        increment(DashboardCounter.REVIEW_COUNT, BigDecimal.ONE);
+    }
+
+    // 결제 이력 저장 반영(결제 이력 생성 트랜잭션 안에서 호출, 오류 없는 결제 완료 이력만 매출에 합산)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyPaymentHistoryCreated(PaymentHistory paymentHistory) {
+        increment(DashboardCounter.PAYMENT_COUNT, BigDecimal.ONE);
+        if (paymentHistory.getStatus() == PaymentStatus.PAID
+            && paymentHistory.getErrorCode() == null
+            && paymentHistory.getPaidAmount() != null
+            && paymentHistory.getPaidAmount().signum() != 0) {
+            increment(DashboardCounter.TOTAL_REVENUE, paymentHistory.getPaidAmount());
+        }
+    }
+
+    // 대시보드 요약 조회(캐시 만료 시 카운터 테이블만 조회)
+    public DashboardSnapshotDTO getSnapshot() {
+        CachedSnapshot cached = cachedSnapshot;
+        if (cached != null && cached.expiresAt > System.currentTimeMillis()) {
+            return cached.snapshot;
+        }
+
+        // 만료 직후 동시 요청은 한 번만 조회
+        synchronized (this) {
+            cached = cachedSnapshot;
+            if (cached != null && cached.expiresAt > System.currentTimeMillis()) {
+                return cached.snapshot;
+            }
+            DashboardSnapshotDTO snapshot = loadSnapshot();
+            cachedSnapshot = new CachedSnapshot(snapshot, System.currentTimeMillis() + snapshotCacheTtlMillis);
+            return snapshot;
+        }
+    }
+
+    // 야간 대시보드 카운터 점검(임대 획득 노드만 실행)
+    @Scheduled(cron = "0 45 3 * * *")
+    public void scheduledVerifyCounters() {
+        ScheduledJobLease lease = scheduledJobLeaseService.tryAcquire(JOB_NAME, LEASE_TTL_SECONDS);
+        if (lease == null) {
+            return;
+        }
+        try {
+            int correctedCount = verifyCounters();
+            log.info("대시보드 카운터 점검 완료 - 보정: {}", correctedCount);
+        } finally {
+            scheduledJobLeaseService.release(lease);
+        }
+    }
+
+    /**
+     * 대시보드 카운터를 원본 테이블 집계와 비교해 보정
+     *
+     * 카운터 합계와 원본 집계를 한 문장에서 읽으므로 같은 시점 기준으로 비교되고,
+     * 차이만큼을 증감으로 반영하므로 점검 이후 커밋된 증감은 그대로 유지된다.
+     * 카운터 테이블이 비어 있는 최초 실행 시에는 현재 집계 값으로 채워진다.
+     *
+     * @return 보정한 카운터 수
+     */
+    public int verifyCounters() {
+        int correctedCount = 0;
+        for (DashboardCounterCheckDTO check : dashboardDao.getDashboardCounterChecks()) {
+            BigDecimal difference = check.getActualValue().subtract(check.getCounterValue());
+            if (difference.signum() == 0) {
+                continue;
+            }
+            log.warn("대시보드 카운터 불일치 보정 - 카운터: {}, 카운터 값: {}, 실제 값: {}",
+                check.getCounterName(), check.getCounterValue(), check.getActualValue());
+            dashboardDao.incrementDashboardCounter(check.getCounterName(), 0, difference);
+            correctedCount++;
+        }
+
+        if (correctedCount > 0) {
+            cachedSnapshot = null;
+        }
+        return correctedCount;
+    }
+
+    private void increment(DashboardCounter counter, BigDecimal delta) {
+        dashboardDao.incrementDashboardCounter(counter, ThreadLocalRandom.current().nextInt(COUNTER_SLOTS), delta);
+    }
+
+    private DashboardSnapshotDTO loadSnapshot() {
+        DashboardSnapshotDTO snapshot = new DashboardSnapshotDTO();
+        snapshot.setTotalRevenue(BigDecimal.ZERO);
+        for (DashboardCounterDTO counter : dashboardDao.getDashboardCounters()) {
+            BigDecimal value = counter.getCounterValue() != null ? counter.getCounterValue() : BigDecimal.ZERO;
+            switch (counter.getCounterName()) {
+                case USER_COUNT -> snapshot.setUserCount(value.longValue());
+                case ORDER_COUNT -> snapshot.setOrderCount(value.longValue());
+                case REVIEW_COUNT -> snapshot.setReviewCount(value.longValue());
+                case PAYMENT_COUNT -> snapshot.setPaymentCount(value.longValue());
+                case TOTAL_REVENUE -> snapshot.setTotalRevenue(value);
+            }
+        }
+        snapshot.setRefreshedAt(LocalDateTime.now());
+        return snapshot;
+    }
+
+    private static class CachedSnapshot {
+        private final DashboardSnapshotDTO snapshot;
+        private final long expiresAt;
+
+        private CachedSnapshot(DashboardSnapshotDTO snapshot, long expiresAt) {
+            this.snapshot = snapshot;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
\ No newline at end of file
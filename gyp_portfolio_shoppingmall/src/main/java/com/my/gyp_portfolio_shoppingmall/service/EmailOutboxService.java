@@ -0,0 +1,418 @@
+package com.my.gyp_portfolio_shoppingmall.service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.mail.MessagingException;
+import javax.mail.SendFailedException;
+import javax.mail.internet.MimeMessage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailParseException;
+import org.springframework.mail.MailPreparationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.my.gyp_portfolio_shoppingmall.dao.EmailOutboxDao;
+import com.my.gyp_portfolio_shoppingmall.dto.EmailDto.EmailDispatchMetricsDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.EmailDto.EmailOutboxQueueStatsDTO;
+import com.my.gyp_portfolio_shoppingmall.support.EmailSender;
+import com.my.gyp_portfolio_shoppingmall.support.RateLimiter;
+import com.my.gyp_portfolio_shoppingmall.support.SmtpTransportPool;
+import com.my.gyp_portfolio_shoppingmall.support.SmtpTransportPool.PooledTransport;
+import com.my.gyp_portfolio_shoppingmall.vo.EmailOutbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이메일 발송함(email_outbox) 발송기
+ *
+ * 이메일은 업무 트랜잭션 안에서 발송함에 기록되고(EmailSender), 커밋된 건만 이 발송기가 묶음 단위로 선점해 SMTP로 보낸다.
+ * 선점한 묶음은 SMTP 연결 풀 크기만큼 나눠 각 발송 스레드가 인증된 연결 하나로 이어서 보내므로
+ * 메일마다 연결/인증을 반복하지 않고, 전체 발송 속도는 릴레이 정책(초당 발송 수)을 넘지 않는다.
+ * 발송은 어떤 DB 트랜잭션에도 포함되지 않으며, 성공 건은 묶음마다 한 번에 완료 처리한다.
+ * 발송 루프는 전용 스레드에서 실행되어 공유 스케줄러 스레드를 붙잡지 않으며, 노드당 하나만 실행된다.
+ * 선점 임대로 여러 노드가 같은 건을 동시에 보내지 않고, 일시적 오류는 지수 백오프로 재시도한다.
+ * 발송 직후 노드가 종료되면 임대 만료 후 다시 발송될 수 있다(최소 1회 발송).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmailOutboxService {
+
+    // 선점 임대 시간(한 묶음 발송 시간보다 길게)
+    private static final int LOCK_SECONDS = 120;
+    // 한 번 실행에서 선점할 최대 묶음 수
+    private static final int MAX_BATCHES_PER_RUN = 10;
+    private static final int MAX_ATTEMPTS = 8;
+    private static final long BASE_RETRY_DELAY_SECONDS = 30;
+    private static final long MAX_RETRY_DELAY_SECONDS = 60 * 60;
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final int PURGE_BATCH_SIZE = 1000;
+    private static final long BORROW_TIMEOUT_MILLIS = 10 * 1000L;
+    // 발송 지연 계산에 사용할 최근 발송 수
+    private static final int LATENCY_WINDOW_SIZE = 1024;
+    // 가장 오래된 대기 이메일이 이 시간을 넘으면 경고
+    private static final long QUEUE_DELAY_WARN_SECONDS = 5 * 60;
+
+    @Value("${email.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${email.outbox.retention-days:14}")
+    private int retentionDays;
+
+    // 릴레이 정책(전체 초당 발송 수)
+    @Value("${email.smtp.max-messages-per-second:10}")
+    private double maxMessagesPerSecond;
+
+    private final EmailOutboxDao emailOutboxDao;
+    private final EmailSender emailSender;
+    private final SmtpTransportPool smtpTransportPool;
+
+    private final String ownerId = resolveOwnerId();
+    private final LongAdder sentCount = new LongAdder();
+    private final LongAdder retryCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LatencyWindow sendLatencies = new LatencyWindow(LATENCY_WINDOW_SIZE);
+    // 발송 루프 실행 여부(노드당 하나만 실행)
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    private ExecutorService dispatchExecutor;
+    private ExecutorService senderPool;
+    private RateLimiter rateLimiter;
+
+    @PostConstruct
+    public void startSenderPool() {
+        dispatchExecutor = Executors.newSingleThreadExecutor();
+        senderPool = Executors.newFixedThreadPool(smtpTransportPool.getMaxSize());
+        rateLimiter = new RateLimiter(maxMessagesPerSecond);
+    }
+
+    @PreDestroy
+    public void stopSenderPool() throws InterruptedException {
+        // 발송 중인 묶음은 완료를 기다리고, 끝나지 않은 건은 임대 만료 후 재발송
+        dispatchExecutor.shutdown();
+        if (!dispatchExecutor.awaitTermination(LOCK_SECONDS, TimeUnit.SECONDS)) {
+            dispatchExecutor.shutdownNow();
+        }
+        senderPool.shutdown();
+        if (!senderPool.awaitTermination(LOCK_SECONDS, TimeUnit.SECONDS)) {
+            senderPool.shutdownNow();
+        }
+    }
+
+    // 발송 루프를 전용 스레드에서 시작(이미 실행 중이면 건너뜀)
+    @Scheduled(fixedDelay = 1000L)
+    public void dispatchPendingEmails() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            dispatchExecutor.execute(() -> {
+                try {
+                    drainPendingEmails();
+                } finally {
+                    draining.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중이면 대기 건은 다른 노드나 재기동 후 발송
+            draining.set(false);
+        }
+    }
+
+    // 발송 가능한 이메일을 묶음 단위로 선점해 발송
+    public void drainPendingEmails() {
+        for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+            String claimToken = ownerId + ":" + UUID.randomUUID();
+            List<EmailOutbox> claimed;
+            try {
+                claimed = emailOutboxDao.claimEmailOutboxes(claimToken, batchSize, LOCK_SECONDS);
+            } catch (Exception e) {
+                log.error("이메일 발송함 선점 실패", e);
+                return;
+            }
+
+            if (!claimed.isEmpty()) {
+                sendBatch(claimToken, claimed);
+            }
+            if (claimed.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    // 보관 기간이 지난 발송 완료 이메일 삭제
+    @Scheduled(cron = "0 15 5 * * *")
+    public void purgeSentEmails() {
+        int deletedCount = 0;
+        int deleted;
+        do {
+            deleted = emailOutboxDao.deleteSentEmailOutboxes(retentionDays, PURGE_BATCH_SIZE);
+            deletedCount += deleted;
+        } while (deleted == PURGE_BATCH_SIZE);
+
+        if (deletedCount > 0) {
+            log.info("발송 완료 이메일 정리 - 삭제: {}", deletedCount);
+        }
+    }
+
+    // 발송기 지표 기록(대기 이메일이 오래 밀려 있으면 경고)
+    @Scheduled(fixedDelay = 60 * 1000L, initialDelay = 60 * 1000L)
+    public void logDispatchMetrics() {
+        EmailDispatchMetricsDTO metrics = getMetrics();
+        if (metrics.getQueueOldestPendingSeconds() > QUEUE_DELAY_WARN_SECONDS) {
+            log.warn("이메일 발송 지연 - 대기: {}, 가장 오래된 대기: {}초, 발송 지연 p95: {}ms, 연결 사용 중: {}/{}",
+                metrics.getQueuePendingCount(), metrics.getQueueOldestPendingSeconds(), metrics.getSendLatencyP95Millis(),
+                metrics.getActiveConnections(), smtpTransportPool.getMaxSize());
+        } else {
+            log.info("이메일 발송 상태 - 발송: {}, 재시도: {}, 실패: {}, 대기: {}, 발송 지연 p50/p95/p99: {}/{}/{}ms, 새 연결: {}",
+                metrics.getSentCount(), metrics.getRetryCount(), metrics.getFailedCount(), metrics.getQueuePendingCount(),
+                metrics.getSendLatencyP50Millis(), metrics.getSendLatencyP95Millis(), metrics.getSendLatencyP99Millis(),
+                metrics.getOpenedConnections());
+        }
+    }
+
+    /**
+     * 이메일 발송기 지표 조회
+     *
+     * 발송/재시도/실패 건수는 노드 기동 이후 누적값이고, 발송 지연은 최근 발송의 SMTP 전송 시간이다.
+     * 대기열 상태는 전체 노드가 공유하는 발송함 기준이다.
+     *
+     * @return 발송 건수, 발송 지연 백분위, 대기열, SMTP 연결 풀 상태
+     */
+    public EmailDispatchMetricsDTO getMetrics() {
+        EmailDispatchMetricsDTO metrics = new EmailDispatchMetricsDTO();
+        metrics.setSentCount(sentCount.sum());
+        metrics.setRetryCount(retryCount.sum());
+        metrics.setFailedCount(failedCount.sum());
+
+        long[] latencies = sendLatencies.snapshot();
+        metrics.setSampleCount(latencies.length);
+        if (latencies.length > 0) {
+            metrics.setSendLatencyP50Millis(percentileMillis(latencies, 50));
+            metrics.setSendLatencyP95Millis(percentileMillis(latencies, 95));
+            metrics.setSendLatencyP99Millis(percentileMillis(latencies, 99));
+            metrics.setSendLatencyMaxMillis(latencies[latencies.length - 1] / 1_000_000.0);
+        }
+
+        try {
+            EmailOutboxQueueStatsDTO queueStats = emailOutboxDao.getEmailOutboxQueueStats();
+            metrics.setQueuePendingCount(queueStats.getPendingCount());
+            if (queueStats.getOldestPendingAt() != null) {
+                metrics.setQueueOldestPendingSeconds(Math.max(
+                    Duration.between(queueStats.getOldestPendingAt(), LocalDateTime.now()).getSeconds(), 0));
+            }
+        } catch (Exception e) {
+            log.warn("이메일 발송 대기열 조회 실패: {}", e.getMessage());
+        }
+
+        metrics.setActiveConnections(smtpTransportPool.getActiveCount());
+        metrics.setIdleConnections(smtpTransportPool.getIdleCount());
+        metrics.setOpenedConnections(smtpTransportPool.getOpenedCount());
+        metrics.setMeasuredAt(LocalDateTime.now());
+        return metrics;
+    }
+
+    // 선점한 묶음을 연결 수만큼 나눠 동시에 발송하고 성공 건은 한 번에 완료 처리
+    private void sendBatch(String claimToken, List<EmailOutbox> claimed) {
+        int lanes = Math.min(smtpTransportPool.getMaxSize(), claimed.size());
+        List<List<EmailOutbox>> partitions = new ArrayList<>(lanes);
+        for (int i = 0; i < lanes; i++) {
+            partitions.add(new ArrayList<>());
+        }
+        for (int i = 0; i < claimed.size(); i++) {
+            partitions.get(i % lanes).add(claimed.get(i));
+        }
+
+        List<Long> sentIds = Collections.synchronizedList(new ArrayList<>());
+        List<Future<?>> futures = new ArrayList<>(lanes);
+        for (List<EmailOutbox> partition : partitions) {
+            try {
+                futures.add(senderPool.submit(() -> sendPartition(partition, sentIds)));
+            } catch (RejectedExecutionException e) {
+                // 종료 중이라 제출하지 못한 건은 임대 만료 후 재발송
+                log.warn("이메일 발송 작업 제출 실패 - 건수: {}", partition.size());
+            }
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                log.error("이메일 발송 작업 실패", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        if (sentIds.isEmpty()) {
+            return;
+        }
+        try {
+            int completedCount = emailOutboxDao.completeEmailOutboxes(new ArrayList<>(sentIds), claimToken);
+            if (completedCount < sentIds.size()) {
+                log.warn("이메일 발송함 선점 만료 후 발송 완료 - 발송: {}, 완료 기록: {}", sentIds.size(), completedCount);
+            }
+        } catch (Exception e) {
+            // 기록 실패 시 임대 만료 후 다시 발송될 수 있음
+            log.error("이메일 발송 완료 기록 실패 - 건수: {}", sentIds.size(), e);
+        }
+    }
+
+    // 연결 하나로 묶음 일부를 이어서 발송(연결 오류 시 연결을 버리고 다음 건은 새 연결로 발송)
+    private void sendPartition(List<EmailOutbox> partition, List<Long> sentIds) {
+        PooledTransport transport = null;
+        try {
+            for (int i = 0; i < partition.size(); i++) {
+                EmailOutbox emailOutbox = partition.get(i);
+                MimeMessage message;
+                try {
+                    message = emailSender.createMessage(emailOutbox);
+                } catch (MailParseException | MailPreparationException e) {
+                    log.error("이메일 작성 실패 - 발송함ID: {}, 유형: {}, 사유: {}",
+                        emailOutbox.getEmailOutboxId(), emailOutbox.getEmailType(), e.getMessage());
+                    markFailed(emailOutbox, e);
+                    continue;
+                }
+
+                if (transport == null) {
+                    try {
+                        transport = smtpTransportPool.borrow(BORROW_TIMEOUT_MILLIS);
+                    } catch (MessagingException e) {
+                        // 연결/인증 실패 시 남은 건은 모두 재시도 예약
+                        for (EmailOutbox remaining : partition.subList(i, partition.size())) {
+                            scheduleRetry(remaining, e);
+                        }
+                        return;
+                    }
+                }
+
+                rateLimiter.acquire();
+                long startedAt = System.nanoTime();
+                try {
+                    transport.send(message);
+                    sendLatencies.record(System.nanoTime() - startedAt);
+                    sentCount.increment();
+                    sentIds.add(emailOutbox.getEmailOutboxId());
+                } catch (SendFailedException e) {
+                    // 수신자 거부(영구 거부면 즉시 실패), 세션 상태를 알 수 없으므로 연결은 교체
+                    smtpTransportPool.release(transport, false);
+                    transport = null;
+                    if (e.getInvalidAddresses() != null && e.getInvalidAddresses().length > 0) {
+                        log.error("이메일 수신자 거부 - 발송함ID: {}, 유형: {}, 사유: {}",
+                            emailOutbox.getEmailOutboxId(), emailOutbox.getEmailType(), e.getMessage());
+                        markFailed(emailOutbox, e);
+                    } else {
+                        scheduleRetry(emailOutbox, e);
+                    }
+                } catch (MessagingException e) {
+                    smtpTransportPool.release(transport, false);
+                    transport = null;
+                    scheduleRetry(emailOutbox, e);
+                }
+            }
+        } catch (InterruptedException e) {
+            // 남은 건은 임대 만료 후 재발송
+            Thread.currentThread().interrupt();
+        } finally {
+            if (transport != null) {
+                smtpTransportPool.release(transport, true);
+            }
+        }
+    }
+
+    private void scheduleRetry(EmailOutbox emailOutbox, Exception cause) {
+        long emailOutboxId = emailOutbox.getEmailOutboxId();
+        if (emailOutbox.getAttempts() >= MAX_ATTEMPTS) {
+            log.error("이메일 발송 재시도 한도 초과 - 발송함ID: {}, 유형: {}, 시도: {}",
+                emailOutboxId, emailOutbox.getEmailType(), emailOutbox.getAttempts(), cause);
+            markFailed(emailOutbox, cause);
+            return;
+        }
+
+        retryCount.increment();
+        long delaySeconds = Math.min(BASE_RETRY_DELAY_SECONDS << (emailOutbox.getAttempts() - 1), MAX_RETRY_DELAY_SECONDS);
+        log.warn("이메일 발송 실패, 재시도 예약 - 발송함ID: {}, 유형: {}, 시도: {}, {}초 후 재시도, 사유: {}",
+            emailOutboxId, emailOutbox.getEmailType(), emailOutbox.getAttempts(), delaySeconds, cause.getMessage());
+        try {
+            emailOutboxDao.retryEmailOutbox(emailOutboxId, emailOutbox.getClaimToken(), delaySeconds, errorMessageOf(cause));
+        } catch (Exception e) {
+            // 기록 실패 시 임대 만료 후 재발송
+            log.error("이메일 재발송 예약 실패 - 발송함ID: {}", emailOutboxId, e);
+        }
+    }
+
+    private void markFailed(EmailOutbox emailOutbox, Exception cause) {
+        failedCount.increment();
+        try {
+            emailOutboxDao.failEmailOutbox(emailOutbox.getEmailOutboxId(), emailOutbox.getClaimToken(), errorMessageOf(cause));
+        } catch (Exception e) {
+            log.error("이메일 발송 실패 기록 실패 - 발송함ID: {}", emailOutbox.getEmailOutboxId(), e);
+        }
+    }
+
+    private static double percentileMillis(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private static String errorMessageOf(Exception e) {
+        String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    private static String resolveOwnerId() {
+        String hostName;
+        try {
+            hostName = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            hostName = "unknown";
+        }
+        return hostName + ":" + UUID.randomUUID();
+    }
+
+    // 최근 발송 지연(나노초) 보관
+    private static class LatencyWindow {
+        private final long[] samples;
+        private int nextIndex;
+        private int size;
+
+        private LatencyWindow(int capacity) {
+            this.samples = new long[capacity];
+        }
+
+        private synchronized void record(long latencyNanos) {
+            samples[nextIndex] = latencyNanos;
+            nextIndex = (nextIndex + 1) % samples.length;
+            if (size < samples.length) {
+                size++;
+            }
+        }
+
+        // 정렬된 사본
+        private synchronized long[] snapshot() {
+            long[] copy = Arrays.copyOf(samples, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,195 @@
+package com.my.gyp_portfolio_shoppingmall.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.SqlSession;
+import org.springframework.stereotype.Service;
+
+import com.my.gyp_portfolio_shoppingmall.dao.ExportDao;
+import com.my.gyp_portfolio_shoppingmall.dto.OrderDto.OrderExportRowDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.OrderDto.OrderListForAdminDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.PaymentDto.PaymentHistorySearchDTO;
+import com.my.gyp_portfolio_shoppingmall.support.CsvWriter;
+import com.my.gyp_portfolio_shoppingmall.support.PhoneEncryptionUtil;
+import com.my.gyp_portfolio_shoppingmall.vo.PaymentHistory;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExportService {
+
+    // 지정한 행 수마다 응답 스트림으로 내보냄
+    private static final int FLUSH_INTERVAL = 500;
+
+    // 복호화 선택 가능한 암호화 컬럼
+    private static final Set<String> ORDER_ENCRYPTED_COLUMNS = Set.of("recipientPhone");
+    private static final Set<String> PAYMENT_ENCRYPTED_COLUMNS = Set.of("buyerTel");
+
+    private static final Object[] ORDER_HEADER = {
+        "orderId", "merchantUid", "orderCreatedAt", "email",
+        "recipientName", "recipientPhone", "recipientPostcode", "recipientAddress",
+        "paymentMethod", "deliveryFee", "currentTotalPrice",
+        "orderProductId", "productName", "size", "color",
+        "originalQuantity", "changedQuantity", "finalPrice", "status"
+    };
+
+    private static final Object[] PAYMENT_HEADER = {
+        "paymentHistoryId", "impUid", "merchantUid", "orderId", "pgTid", "name",
+        "status", "payMethod", "pgProvider", "embPgProvider", "paidAmount",
+        "buyerName", "buyerEmail", "buyerTel", "buyerAddr", "buyerPostcode",
+        "paidAt", "receiptUrl", "errorCode", "errorMsg", "createdAt"
+    };
+
+    private final ExportDao exportDao;
+    private final PhoneEncryptionUtil phoneEncryptionUtil;
+
+    // 주문 내보내기 조건 검증(응답 전송 전 호출)
+    public void validateOrderExport(OrderListForAdminDTO orderListForAdminDTO, List<String> decryptColumns) {
+        validateDateRange(orderListForAdminDTO.getStartDate(), orderListForAdminDTO.getEndDate());
+        validateDecryptColumns(decryptColumns, ORDER_ENCRYPTED_COLUMNS);
+    }
+
+    // 결제 이력 내보내기 조건 검증(응답 전송 전 호출)
+    public void validatePaymentHistoryExport(PaymentHistorySearchDTO searchDTO, List<String> decryptColumns) {
+        validateDateRange(searchDTO.getStartDate(), searchDTO.getEndDate());
+        validateDecryptColumns(decryptColumns, PAYMENT_ENCRYPTED_COLUMNS);
+    }
+
+    /**
+     * 관리자용 주문 CSV 내보내기(주문 상품 단위)
+     * 
+     * 전용 READ COMMITTED 세션의 커서로 한 행씩 읽어 바로 기록하므로
+     * 조회 기간과 무관하게 메모리 사용량이 일정하다.
+     * 
+     * @param orderListForAdminDTO 검색 조건(페이징 조건은 무시)
+     * @param decryptColumns 복호화할 암호화 컬럼(지정하지 않은 컬럼은 빈 값)
+     * @param outputStream 응답 스트림
+     * @throws IOException 응답 스트림 기록 또는 커서 종료 실패 시
+     */
+    public void exportOrders(OrderListForAdminDTO orderListForAdminDTO, List<String> decryptColumns, OutputStream outputStream) throws IOException {
+        boolean decryptRecipientPhone = resolveDecryptColumns(decryptColumns).contains("recipientPhone");
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("merchantUid", orderListForAdminDTO.getMerchantUid());
+        params.put("userEmail", orderListForAdminDTO.getUserEmail());
+        params.put("startDate", orderListForAdminDTO.getStartDate() != null ? 
+            orderListForAdminDTO.getStartDate().toString() : null);
+        params.put("endDate", orderListForAdminDTO.getEndDate() != null ? 
+            orderListForAdminDTO.getEndDate().toString() : null);
+
+        int rowCount = 0;
+        try (SqlSession session = exportDao.openStreamingSession();
+             Cursor<OrderExportRowDTO> rows = exportDao.streamOrderLinesForExport(session, params)) {
+
+            CsvWriter csvWriter = new CsvWriter(outputStream);
+            csvWriter.writeRow(ORDER_HEADER);
+            for (OrderExportRowDTO row : rows) {
+                csvWriter.writeRow(
+                    row.getOrderId(),
+                    row.getMerchantUid(),
+                    row.getOrderCreatedAt(),
+                    row.getEmail(),
+                    row.getRecipientName(),
+                    decryptRecipientPhone ? phoneEncryptionUtil.decrypt(row.getRecipientPhone()) : null,
+                    row.getRecipientPostcode(),
+                    row.getRecipientAddress(),
+                    row.getPaymentMethod(),
+                    row.getDeliveryFee(),
+                    row.getCurrentTotalPrice(),
+                    row.getOrderProductId(),
+                    row.getProductName(),
+                    row.getSize(),
+                    row.getColor(),
+                    row.getOriginalQuantity(),
+                    row.getChangedQuantity(),
+                    row.getFinalPrice(),
+                    row.getStatus()
+                );
+                if (++rowCount % FLUSH_INTERVAL == 0) {
+                    csvWriter.flush();
+                }
+            }
+            csvWriter.flush();
+        }
+        log.info("주문 CSV 내보내기 완료 - 행 수: {}, 연락처 복호화: {}", rowCount, decryptRecipientPhone);
+    }
+
+    /**
+     * 관리자용 결제 이력 CSV 내보내기
+     * 
+     * @param searchDTO 검색 조건
+     * @param decryptColumns 복호화할 암호화 컬럼(지정하지 않은 컬럼은 빈 값)
+     * @param outputStream 응답 스트림
+     * @throws IOException 응답 스트림 기록 또는 커서 종료 실패 시
+     */
+    public void exportPaymentHistory(PaymentHistorySearchDTO searchDTO, List<String> decryptColumns, OutputStream outputStream) throws IOException {
+        boolean decryptBuyerTel = resolveDecryptColumns(decryptColumns).contains("buyerTel");
+
+        int rowCount = 0;
+        try (SqlSession session = exportDao.openStreamingSession();
+             Cursor<PaymentHistory> rows = exportDao.streamPaymentHistoryForExport(session, searchDTO)) {
+
+            CsvWriter csvWriter = new CsvWriter(outputStream);
+            csvWriter.writeRow(PAYMENT_HEADER);
+            for (PaymentHistory row : rows) {
+                csvWriter.writeRow(
+                    row.getPaymentHistoryId(),
+                    row.getImpUid(),
+                    row.getMerchantUid(),
+                    row.getOrderId(),
+                    row.getPgTid(),
+                    row.getName(),
+                    row.getStatus(),
+                    row.getPayMethod(),
+                    row.getPgProvider(),
+                    row.getEmbPgProvider(),
+                    row.getPaidAmount(),
+                    row.getBuyerName(),
+                    row.getBuyerEmail(),
+                    decryptBuyerTel ? phoneEncryptionUtil.decrypt(row.getBuyerTel()) : null,
+                    row.getBuyerAddr(),
+                    row.getBuyerPostcode(),
+                    row.getPaidAt(),
+                    row.getReceiptUrl(),
+                    row.getErrorCode(),
+                    row.getErrorMsg(),
+                    row.getCreatedAt()
+                );
+                if (++rowCount % FLUSH_INTERVAL == 0) {
+                    csvWriter.flush();
+                }
+            }
+            csvWriter.flush();
+        }
+        log.info("결제 이력 CSV 내보내기 완료 - 행 수: {}, 연락처 복호화: {}", rowCount, decryptBuyerTel);
+    }
+
+    private void validateDateRange(LocalDateTime startDate, LocalDateTime endDate) {
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦을 수 없습니다.");
+        }
+    }
+
+    private void validateDecryptColumns(List<String> decryptColumns, Set<String> encryptedColumns) {
+        for (String column : resolveDecryptColumns(decryptColumns)) {
+            if (!encryptedColumns.contains(column)) {
+                throw new IllegalArgumentException("복호화할 수 없는 컬럼입니다: " + column);
+            }
+        }
+    }
+
+    private List<String> resolveDecryptColumns(List<String> decryptColumns) {
+        return decryptColumns != null ? decryptColumns : Collections.emptyList();
+    }
+}
\ No newline at end of file
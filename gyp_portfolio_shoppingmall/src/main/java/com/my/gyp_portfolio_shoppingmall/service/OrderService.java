@@ -2,38 +2,62 @@ package com.my.gyp_portfolio_shoppingmall.service;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import com.my.gyp_portfolio_shoppingmall.dao.BatchJobDao;
 import com.my.gyp_portfolio_shoppingmall.dao.OrderDao;
 import com.my.gyp_portfolio_shoppingmall.dao.PaymentHistoryDao;
 import com.my.gyp_portfolio_shoppingmall.dao.ProductDao;
 import com.my.gyp_portfolio_shoppingmall.dao.UserDao;
 import com.my.gyp_portfolio_shoppingmall.dto.OrderDto.DeliveryInfoDTO;
 import com.my.gyp_portfolio_shoppingmall.dto.OrderDto.NewOrderDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.OrderDto.OrderCreatedEventDTO;
 import com.my.gyp_portfolio_shoppingmall.dto.OrderDto.OrderDTO;
 import com.my.gyp_portfolio_shoppingmall.dto.OrderDto.OrderListForAdminDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.OrderDto.OrderListForAdminPageDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.OrderDto.OrderProductBulkTransitionDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.OrderDto.OrderProductBulkTransitionResultDTO;
 import com.my.gyp_portfolio_shoppingmall.dto.OrderDto.OrderProductDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.OrderDto.OrderProductHistoryDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.OrderDto.OrderProductTransitionConflictDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.OrderDto.OrderSummaryDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.OrderDto.OrderSummaryPageDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.OrderDto.OrderSummarySearchDTO;
 import com.my.gyp_portfolio_shoppingmall.dto.OrderDto.UserOrderHistoryDTO;
+import com.my.gyp_portfolio_shoppingmall.enums.BatchJobEnums.BatchJobStatus;
 import com.my.gyp_portfolio_shoppingmall.enums.OrderEnums.DeliveryStatus;
 import com.my.gyp_portfolio_shoppingmall.enums.OrderEnums.DeliveryType;
 import com.my.gyp_portfolio_shoppingmall.enums.OrderEnums.OrderProductStatus;
 import com.my.gyp_portfolio_shoppingmall.enums.OrderEnums.PaymentMethod;
+import com.my.gyp_portfolio_shoppingmall.enums.OrderEnums.TransitionConflictType;
 import com.my.gyp_portfolio_shoppingmall.enums.ProductEnums.ProductInventoryStatus;
+import com.my.gyp_portfolio_shoppingmall.exception.OptimisticLockingException;
 import com.my.gyp_portfolio_shoppingmall.exception.OrderException;
 import com.my.gyp_portfolio_shoppingmall.exception.ProductException;
 import com.my.gyp_portfolio_shoppingmall.exception.UserException;
 import com.my.gyp_portfolio_shoppingmall.support.OptimisticLock;
+import com.my.gyp_portfolio_shoppingmall.support.OrderProductStateMachine;
 import com.my.gyp_portfolio_shoppingmall.support.PhoneEncryptionUtil;
 import com.my.gyp_portfolio_shoppingmall.support.UserSupport;
+import com.my.gyp_portfolio_shoppingmall.vo.BatchJobCheckpoint;
 import com.my.gyp_portfolio_shoppingmall.vo.DeliveryHistory;
 import com.my.gyp_portfolio_shoppingmall.vo.InventoryHistory;
 import com.my.gyp_portfolio_shoppingmall.vo.Order;
@@ -49,12 +73,28 @@ import lombok.RequiredArgsConstructor;
 @Transactional
 @RequiredArgsConstructor
 public class OrderService {
+
+    // 관리자 주문 목록 페이지 크기
+    private static final int DEFAULT_ADMIN_ORDER_PAGE_SIZE = 50;
+    private static final int MAX_ADMIN_ORDER_PAGE_SIZE = 200;
+    // 주문 상품 이력 일괄 조회 IN 목록 크기
+    private static final int HISTORY_FETCH_BATCH_SIZE = 500;
+    // 주문 상품 상태 일괄 전이 최대 요청 줄 수 및 지원 목표 상태
+    private static final int MAX_BULK_TRANSITION_SIZE = 1000;
+    private static final Set<OrderProductStatus> BULK_TRANSITION_TARGETS = EnumSet.of(
+        OrderProductStatus.PREPARING,
+        OrderProductStatus.DELIVERING,
+        OrderProductStatus.DELIVERED
+    );
     
     private final UserDao userDao;
     private final OrderDao orderDao;
     private final ProductDao productDao;
     private final PaymentHistoryDao paymentHistoryDao;
+    private final BatchJobDao batchJobDao;
     private final PhoneEncryptionUtil phoneEncryptionUtil;
+    private final DashboardService dashboardService;
+    private final ApplicationEventPublisher eventPublisher;
     
     // 상태 업데이트만 수행하는 낙관적 잠금 전용 메서드
     @OptimisticLock
@@ -119,6 +159,7 @@ public class OrderService {
 
         // 주문 정보 생성 후 orderId 반환받아 저장
         int orderId = orderDao.insertOrder(order);
+        dashboardService.increaseOrderCount();
 
         paymentHistoryDao.updateOrderId(newOrderDTO.getMerchantUid(), orderId);
 
@@ -149,6 +190,15 @@ public class OrderService {
             // 주문한 상품의 상품 품목 재고 감소 & 예약 수량 증가
             productDao.ChangeStockByNewOrder(orderProduct);
         }
+
+        // 모든 주문 상품 저장 후 주문 요약 한 번 갱신
+        orderDao.refreshOrderSummaries(List.of(order.getOrderId()));
+
+        // 커밋 후 예약 재고 만료 대상 등록(결제 대기 여부는 만료 시점에 다시 확인)
+        OrderCreatedEventDTO orderCreatedEvent = new OrderCreatedEventDTO();
+        orderCreatedEvent.setOrderId(order.getOrderId());
+        orderCreatedEvent.setCreatedAt(LocalDateTime.now());
+        eventPublisher.publishEvent(orderCreatedEvent);
     }
 
     // 주문 상품 상태 업데이트(결제 대기 -> 결제 완료)
@@ -217,11 +267,14 @@ public class OrderService {
                 throw new OrderException.OrderNotFoundException();
             }
 
-            // 현재 주문 상품 status가 PAYMENT_COMPLETED인 경우에만 통과
-            if (orderProductDTO.getStatus() != OrderProductStatus.PAYMENT_COMPLETED) {
-                throw new OrderException.OrderProductRequestException();
+            // orderProduct 존재 여부 확인
+            if (orderProductCheck == null) {
+                throw new OrderException.OrderProductNotFoundException();
             }
 
+            // 상태 전이표 기준 결제 완료 -> 준비중 검증(요청 값이 아닌 현재 상태 기준)
+            OrderProductStateMachine.validateTransition(orderProductCheck.getStatus(), OrderProductStatus.PREPARING);
+
             // orderProduct 상태 업데이트(낙관적 잠금)   
             orderProductCheck.setStatus(OrderProductStatus.PREPARING);     
             orderProductCheck.setVersion(orderProductDTO.getVersion());   
@@ -259,10 +312,8 @@ public class OrderService {
             throw new OrderException.OrderProductNotFoundException();
         }
 
-        // orderProduct 상태가 PREPARING인 경우에만 통과
-        if (orderProductCheck.getStatus() != OrderProductStatus.PREPARING) {
-            throw new OrderException.OrderProductRequestException();
-        }
+        // 상태 전이표 기준 준비중 -> 배송중 검증
+        OrderProductStateMachine.validateTransition(orderProductCheck.getStatus(), OrderProductStatus.DELIVERING);
 
         // orderProduct의 quantity와 배송 정보에 있는 바코드 개수가 일치하는지 확인
         if (orderProductCheck.getOriginalQuantity() != deliveryInfoDTO.getBarcodes().size()) {
@@ -340,11 +391,9 @@ public class OrderService {
             throw new OrderException.OrderProductNotFoundException();
         }
 
-        // 현재 주문 상품 status가 DELIVERING 또는 EXCHANGE_DELIVERING인 경우에만 통과
-        if (!(orderProductCheck.getStatus() == OrderProductStatus.DELIVERING || 
-        orderProductCheck.getStatus() == OrderProductStatus.EXCHANGE_DELIVERING)) {
-            throw new OrderException.OrderProductRequestException();
-        }
+        // 상태 전이표 기준 배송중 -> 배송완료 / 교환 배송중 -> 교환 배송완료 검증
+        OrderProductStateMachine.validateTransition(orderProductCheck.getStatus(), 
+            resolveDeliveredStatus(orderProductCheck.getStatus()));
 
         // 주문한 상품 이력 정보 생성
         OrderProductHistory orderProductHistory = new OrderProductHistory();
@@ -376,6 +425,252 @@ public class OrderService {
         orderDao.updateDeliveryHistory(deliveryHistory);
     }
 
+    // 관리자용 주문 상품 상태 일괄 전이(결제 완료 -> 준비중 / 준비중 -> 배송중 / 배송중·교환 배송중 -> 배송완료)
+    // 주문 상품과 바코드 재고를 ID 순으로 한 번에 잠금 조회하고 상태 전이표, 버전, 배송 정보를 메모리에서 검증한 뒤
+    // 통과한 줄만 일괄 반영, 통과하지 못한 줄은 충돌 항목으로 반환
+    @Transactional(
+        isolation = Isolation.REPEATABLE_READ,
+        timeout = 30
+    )
+    public OrderProductBulkTransitionResultDTO bulkTransitionOrderProductStatus(OrderProductBulkTransitionDTO bulkTransitionDTO) {
+        OrderProductStatus targetStatus = bulkTransitionDTO.getTargetStatus();
+        List<DeliveryInfoDTO> lines = bulkTransitionDTO.getLines();
+        if (!BULK_TRANSITION_TARGETS.contains(targetStatus) || lines == null || lines.isEmpty() 
+            || lines.size() > MAX_BULK_TRANSITION_SIZE) {
+            throw new OrderException.OrderProductRequestException();
+        }
+
+        OrderProductBulkTransitionResultDTO result = new OrderProductBulkTransitionResultDTO();
+        result.setRequestedCount(lines.size());
+
+        // 요청 줄 정리(주문 상품 ID 누락/중복은 충돌 처리)
+        Map<Integer, DeliveryInfoDTO> lineMap = new LinkedHashMap<>();
+        for (DeliveryInfoDTO line : lines) {
+            if (line.getOrderProductId() == null) {
+                addTransitionConflict(result, null, null, TransitionConflictType.NOT_FOUND);
+            } else if (lineMap.containsKey(line.getOrderProductId())) {
+                addTransitionConflict(result, line.getOrderProductId(), null, TransitionConflictType.DUPLICATE_LINE);
+            } else {
+                lineMap.put(line.getOrderProductId(), line);
+            }
+        }
+        if (lineMap.isEmpty()) {
+            return result;
+        }
+
+        // 주문 상품 ID 순 잠금 조회
+        Map<Integer, OrderProduct> orderProductMap = new HashMap<>();
+        for (OrderProduct orderProduct : orderDao.getOrderProductsForUpdate(new ArrayList<>(lineMap.keySet()))) {
+            orderProductMap.put(orderProduct.getOrderProductId(), orderProduct);
+        }
+
+        // 상태 전이표, 버전, 배송 정보 검증
+        List<OrderProduct> accepted = new ArrayList<>();
+        for (DeliveryInfoDTO line : lineMap.values()) {
+            OrderProduct orderProduct = orderProductMap.get(line.getOrderProductId());
+            if (orderProduct == null) {
+                addTransitionConflict(result, line.getOrderProductId(), null, TransitionConflictType.NOT_FOUND);
+                continue;
+            }
+            OrderProductStatus currentStatus = orderProduct.getStatus();
+            if (!OrderProductStateMachine.canTransition(currentStatus, resolveBulkTransitionStatus(currentStatus, targetStatus))) {
+                addTransitionConflict(result, orderProduct.getOrderProductId(), currentStatus, TransitionConflictType.INVALID_TRANSITION);
+                continue;
+            }
+            if (line.getVersion() == null || !line.getVersion().equals(orderProduct.getVersion())) {
+                addTransitionConflict(result, orderProduct.getOrderProductId(), currentStatus, TransitionConflictType.VERSION_MISMATCH);
+                continue;
+            }
+            if (targetStatus == OrderProductStatus.DELIVERING && 
+                (!StringUtils.hasText(line.getInvoiceNumber()) || !StringUtils.hasText(line.getDeliveryCompany()))) {
+                addTransitionConflict(result, orderProduct.getOrderProductId(), currentStatus, TransitionConflictType.INVALID_DELIVERY_INFO);
+                continue;
+            }
+            accepted.add(orderProduct);
+        }
+
+        // 배송 시작은 시작 처리할 준비중 배송 이력이 있는 줄 중 바코드 재고까지 검증 후 출고 대상 확정
+        List<ProductInventory> releasedInventories = new ArrayList<>();
+        if (targetStatus == OrderProductStatus.DELIVERING && !accepted.isEmpty()) {
+            accepted = filterBulkLinesByDeliveryHistory(accepted, orderDao::getPreparingOrderProductIdsForUpdate, result);
+            if (!accepted.isEmpty()) {
+                accepted = validateBulkDeliveringBarcodes(accepted, lineMap, releasedInventories, result);
+            }
+        }
+
+        // 배송 완료는 완료 처리할 배송중 배송 이력이 있는 줄만 대상 확정
+        if (targetStatus == OrderProductStatus.DELIVERED && !accepted.isEmpty()) {
+            accepted = filterBulkLinesByDeliveryHistory(accepted, orderDao::getDeliveringOrderProductIdsForUpdate, result);
+        }
+        if (accepted.isEmpty()) {
+            return result;
+        }
+
+        // 현재 상태별로 묶어 상태 업데이트 및 이력 일괄 생성
+        Map<OrderProductStatus, List<Integer>> idsByStatus = new EnumMap<>(OrderProductStatus.class);
+        for (OrderProduct orderProduct : accepted) {
+            idsByStatus.computeIfAbsent(orderProduct.getStatus(), key -> new ArrayList<>()).add(orderProduct.getOrderProductId());
+        }
+        List<OrderProductHistory> orderProductHistories = new ArrayList<>(accepted.size());
+        for (Map.Entry<OrderProductStatus, List<Integer>> entry : idsByStatus.entrySet()) {
+            OrderProductStatus statusFrom = entry.getKey();
+            OrderProductStatus statusTo = resolveBulkTransitionStatus(statusFrom, targetStatus);
+            // 잠금 조회한 행이므로 건수가 다르면 전체 롤백
+            if (orderDao.updateOrderProductStatuses(entry.getValue(), statusFrom, statusTo) != entry.getValue().size()) {
+                throw new OptimisticLockingException("주문 상품 일괄 상태 업데이트 건수가 일치하지 않습니다.");
+            }
+            for (Integer orderProductId : entry.getValue()) {
+                OrderProductHistory orderProductHistory = new OrderProductHistory();
+                orderProductHistory.setOrderProductId(orderProductId);
+                orderProductHistory.setStatusFrom(statusFrom);
+                orderProductHistory.setStatusTo(statusTo);
+                orderProductHistory.setReason(OrderProductStateMachine.reasonOf(statusFrom, statusTo));
+                orderProductHistories.add(orderProductHistory);
+            }
+        }
+        orderDao.insertOrderProductHistories(orderProductHistories);
+
+        // 목표 상태별 배송 이력 및 재고 반영
+        LocalDateTime now = LocalDateTime.now();
+        List<DeliveryHistory> deliveryHistories = new ArrayList<>(accepted.size());
+        for (OrderProduct orderProduct : accepted) {
+            DeliveryInfoDTO line = lineMap.get(orderProduct.getOrderProductId());
+            DeliveryHistory deliveryHistory = new DeliveryHistory();
+            deliveryHistory.setOrderProductId(orderProduct.getOrderProductId());
+            if (targetStatus == OrderProductStatus.PREPARING) {
+                deliveryHistory.setDeliveryType(DeliveryType.ORDER_OUT);
+                deliveryHistory.setDeliveryStatus(DeliveryStatus.PREPARING);
+            } else if (targetStatus == OrderProductStatus.DELIVERING) {
+                deliveryHistory.setInvoiceNumber(line.getInvoiceNumber());
+                deliveryHistory.setDeliveryCompany(line.getDeliveryCompany());
+                deliveryHistory.setDeliveryStartDate(line.getDeliveryStartDate() != null ? line.getDeliveryStartDate() : now);
+            } else {
+                deliveryHistory.setDeliveryCompleteDate(line.getDeliveryCompleteDate() != null ? line.getDeliveryCompleteDate() : now);
+            }
+            deliveryHistories.add(deliveryHistory);
+        }
+
+        if (targetStatus == OrderProductStatus.PREPARING) {
+            orderDao.insertDeliveryHistories(deliveryHistories);
+        } else if (targetStatus == OrderProductStatus.DELIVERING) {
+            if (productDao.updateProductInventoriesToOutOfStock(releasedInventories) != releasedInventories.size()) {
+                throw new OptimisticLockingException("상품 재고 일괄 출고 건수가 일치하지 않습니다.");
+            }
+            List<InventoryHistory> inventoryHistories = new ArrayList<>(releasedInventories.size());
+            for (ProductInventory productInventory : releasedInventories) {
+                InventoryHistory inventoryHistory = new InventoryHistory();
+                inventoryHistory.setProductInventoryId(productInventory.getProductInventoryId());
+                inventoryHistory.setOrderProductId(productInventory.getOrderProductId());
+                inventoryHistory.setStatusFrom(ProductInventoryStatus.IN_STOCK);
+                inventoryHistory.setStatusTo(ProductInventoryStatus.OUT_OF_STOCK);
+                inventoryHistories.add(inventoryHistory);
+            }
+            productDao.insertInventoryHistories(inventoryHistories);
+            // 잠금 조회로 확인한 줄이므로 건수가 다르면 전체 롤백
+            if (orderDao.startLatestPreparingDeliveryHistories(deliveryHistories) != deliveryHistories.size()) {
+                throw new OptimisticLockingException("배송 이력 일괄 배송 시작 건수가 일치하지 않습니다.");
+            }
+        } else {
+            // 잠금 조회로 확인한 줄이므로 건수가 다르면 전체 롤백
+            if (orderDao.completeLatestDeliveringDeliveryHistories(deliveryHistories) != deliveryHistories.size()) {
+                throw new OptimisticLockingException("배송 이력 일괄 배송 완료 건수가 일치하지 않습니다.");
+            }
+        }
+
+        for (OrderProduct orderProduct : accepted) {
+            result.getAppliedOrderProductIds().add(orderProduct.getOrderProductId());
+        }
+        result.setAppliedCount(accepted.size());
+        return result;
+    }
+
+    // 배송 시작/완료 요청 줄 중 처리할 배송 이력(준비중/배송중)이 없는 줄은 충돌 처리
+    private List<OrderProduct> filterBulkLinesByDeliveryHistory(List<OrderProduct> candidates,
+                                                                Function<List<Integer>, List<Integer>> lockDeliveryHistoryOrderProductIds,
+                                                                OrderProductBulkTransitionResultDTO result) {
+        List<Integer> candidateIds = candidates.stream()
+            .map(OrderProduct::getOrderProductId)
+            .collect(Collectors.toList());
+        Set<Integer> deliveryHistoryIds = new HashSet<>(lockDeliveryHistoryOrderProductIds.apply(candidateIds));
+
+        List<OrderProduct> accepted = new ArrayList<>(candidates.size());
+        for (OrderProduct orderProduct : candidates) {
+            if (!deliveryHistoryIds.contains(orderProduct.getOrderProductId())) {
+                addTransitionConflict(result, orderProduct.getOrderProductId(), orderProduct.getStatus(), TransitionConflictType.MISSING_DELIVERY_HISTORY);
+                continue;
+            }
+            accepted.add(orderProduct);
+        }
+        return accepted;
+    }
+
+    // 배송 시작 요청 줄의 바코드 재고 검증(수량 일치, 품목 일치, 입고 상태, 줄 간 중복 여부)
+    private List<OrderProduct> validateBulkDeliveringBarcodes(List<OrderProduct> candidates, Map<Integer, DeliveryInfoDTO> lineMap,
+                                                              List<ProductInventory> releasedInventories, OrderProductBulkTransitionResultDTO result) {
+        Map<String, Integer> barcodeCounts = new HashMap<>();
+        for (OrderProduct orderProduct : candidates) {
+            List<String> barcodes = lineMap.get(orderProduct.getOrderProductId()).getBarcodes();
+            if (barcodes != null) {
+                for (String barcode : barcodes) {
+                    barcodeCounts.merge(barcode, 1, Integer::sum);
+                }
+            }
+        }
+
+        // 바코드 재고 ID 순 잠금 조회
+        Map<String, ProductInventory> inventoryMap = new HashMap<>();
+        if (!barcodeCounts.isEmpty()) {
+            for (ProductInventory productInventory : productDao.getProductInventoriesByBarcodesForUpdate(new ArrayList<>(barcodeCounts.keySet()))) {
+                inventoryMap.put(productInventory.getBarcode(), productInventory);
+            }
+        }
+
+        List<OrderProduct> accepted = new ArrayList<>(candidates.size());
+        for (OrderProduct orderProduct : candidates) {
+            List<String> barcodes = lineMap.get(orderProduct.getOrderProductId()).getBarcodes();
+            boolean valid = barcodes != null && barcodes.size() == orderProduct.getOriginalQuantity();
+            for (int i = 0; valid && i < barcodes.size(); i++) {
+                ProductInventory productInventory = inventoryMap.get(barcodes.get(i));
+                valid = barcodeCounts.get(barcodes.get(i)) == 1
+                    && productInventory != null
+                    && productInventory.getProductItemId().equals(orderProduct.getProductItemId())
+                    && productInventory.getStatus() == ProductInventoryStatus.IN_STOCK;
+            }
+            if (!valid) {
+                addTransitionConflict(result, orderProduct.getOrderProductId(), orderProduct.getStatus(), TransitionConflictType.INVALID_BARCODE);
+                continue;
+            }
+
+            for (String barcode : barcodes) {
+                ProductInventory productInventory = inventoryMap.get(barcode);
+                productInventory.setOrderProductId(orderProduct.getOrderProductId());
+                releasedInventories.add(productInventory);
+            }
+            accepted.add(orderProduct);
+        }
+        return accepted;
+    }
+
+    // 일괄 전이 목표 상태 보정(배송완료 요청 시 교환 배송중 건은 교환 배송완료로)
+    private OrderProductStatus resolveBulkTransitionStatus(OrderProductStatus currentStatus, OrderProductStatus targetStatus) {
+        return targetStatus == OrderProductStatus.DELIVERED ? resolveDeliveredStatus(currentStatus) : targetStatus;
+    }
+
+    // 배송 완료 시 다음 상태(교환 배송중 -> 교환 배송완료, 그 외 -> 배송완료)
+    private OrderProductStatus resolveDeliveredStatus(OrderProductStatus currentStatus) {
+        return currentStatus == OrderProductStatus.EXCHANGE_DELIVERING ? 
+            OrderProductStatus.EXCHANGE_DELIVERED : OrderProductStatus.DELIVERED;
+    }
+
+    private void addTransitionConflict(OrderProductBulkTransitionResultDTO result, Integer orderProductId, 
+                                       OrderProductStatus currentStatus, TransitionConflictType conflictType) {
+        OrderProductTransitionConflictDTO conflict = new OrderProductTransitionConflictDTO();
+        conflict.setOrderProductId(orderProductId);
+        conflict.setCurrentStatus(currentStatus);
+        conflict.setConflictType(conflictType);
+        result.getConflicts().add(conflict);
+    }
+
     // 주문 내역 업데이트(배송완료 -> 구매확정 / 회원 본인 & 관리자 접근 가능)
     @Transactional(
         isolation = Isolation.REPEATABLE_READ,
@@ -440,38 +735,143 @@ public class OrderService {
         orderDao.updateDeliveryHistory(deliveryHistory);
     }
 
-    // 자동 구매 확정 처리(배송완료/교환 배송완료 7일 후)
-    @Scheduled(cron = "0 0 0 * * *")
+    // 자동 구매 확정 작업 시작(미완료 실행이 있으면 해당 체크포인트부터 재개, runDate 이후 완료된 작업은 그대로 반환)
     @Transactional(
         isolation = Isolation.REPEATABLE_READ,
         timeout = 5
     )
-    public void autoConfirmPurchase() {
-        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(7);
-        List<OrderProduct> unconfirmedOrderProducts = orderDao.findUnconfirmedDeliveries(cutoffDate);
+    public BatchJobCheckpoint beginAutoConfirmPurchase(String jobName, LocalDateTime cutoffDate, LocalDateTime runDate) {
+        BatchJobCheckpoint checkpoint = batchJobDao.getBatchJobCheckpointForUpdate(jobName);
+        if (checkpoint.getStatus() == BatchJobStatus.RUNNING) {
+            return checkpoint;
+        }
+        if (checkpoint.getStartedAt() != null && !checkpoint.getStartedAt().isBefore(runDate)) {
+            return checkpoint;
+        }
+
+        checkpoint.setLastProcessedId(0L);
+        checkpoint.setCutoffDate(cutoffDate);
+        checkpoint.setStatus(BatchJobStatus.RUNNING);
+        checkpoint.setProcessedCount(0);
+        checkpoint.setStartedAt(LocalDateTime.now());
+        batchJobDao.updateBatchJobCheckpoint(checkpoint);
+        return checkpoint;
+    }
+
+    // 자동 구매 확정 청크 처리(배송완료/교환 배송완료 7일 후, 청크 단위 커밋 & 같은 트랜잭션에서 체크포인트 이동)
+    @Transactional(
+        isolation = Isolation.REPEATABLE_READ,
+        timeout = 10
+    )
+    public BatchJobCheckpoint confirmPurchaseChunk(String jobName, long fencingToken, long expectedLastProcessedId, List<Integer> orderProductIds) {
+        // 임대를 잃은 노드의 늦은 쓰기 차단(펜싱 토큰 확인)
+        if (!batchJobDao.isScheduledJobLeaseValidForShare(jobName, fencingToken)) {
+            throw new OrderException.ScheduledJobLeaseLostException();
+        }
+
+        // 체크포인트 잠금 후 다른 실행에서 진행되었는지 확인
+        BatchJobCheckpoint checkpoint = batchJobDao.getBatchJobCheckpointForUpdate(jobName);
+        if (checkpoint.getStatus() != BatchJobStatus.RUNNING ||
+            checkpoint.getLastProcessedId() != expectedLastProcessedId) {
+            throw new OrderException.BatchJobCheckpointConflictException();
+        }
+
+        // 조회 이후 상태가 바뀐 주문 상품은 제외
+        List<OrderProduct> orderProducts = orderDao.getDeliveredOrderProductsForUpdate(orderProductIds);
+        if (!orderProducts.isEmpty()) {
+            List<Integer> confirmedIds = orderProducts.stream()
+                .map(OrderProduct::getOrderProductId)
+                .collect(Collectors.toList());
 
-        // 구매 확정 처리
-        for (OrderProduct orderProduct : unconfirmedOrderProducts) {
             // productItem 수량 업데이트(예약 수량 감소 & 판매 수량 증가)
-            productDao.ChangeStockByPurchaseConfirmation(orderProduct);
-            
-            // orderProduct 상태 업데이트(낙관적 잠금, 배송완료/교환 배송완료 -> 배송 확정)
-            orderProduct.setStatus(OrderProductStatus.DELIVERY_CONFIRMED);
-            updateOrderProductStatusWithOptimisticLock(orderProduct);
+            productDao.ChangeStockByPurchaseConfirmationBatch(orderProducts);
 
-            // 주문한 상품 이력 정보 생성
-            OrderProductHistory orderProductHistory = new OrderProductHistory();
-            orderProductHistory.setOrderProductId(orderProduct.getOrderProductId());
-            orderProductHistory.setStatusFrom(OrderProductStatus.DELIVERED);
-            orderProductHistory.setStatusTo(OrderProductStatus.DELIVERY_CONFIRMED);
-            orderProductHistory.setReason("자동 구매 확정");
-            orderDao.insertOrderProductHistory(orderProductHistory);
+            // 주문한 상품 이력 정보 생성(상태 변경 전에 기록)
+            orderDao.insertDeliveryConfirmedHistories(confirmedIds, "자동 구매 확정");
+
+            // deliveryHistory 상태 업데이트(주문 상품 상태로 현재 배송 구간을 판단하므로 상태 변경 전에 처리)
+            orderDao.confirmLatestDeliveredDeliveryHistories(confirmedIds);
 
-            // deliveryHistory 상태 업데이트
-            DeliveryHistory deliveryHistory = orderDao.selectLatestDeliveredDeliveryHistory(orderProduct.getOrderProductId());
-            deliveryHistory.setDeliveryStatus(DeliveryStatus.CONFIRMED);
-            orderDao.updateDeliveryHistory(deliveryHistory);
+            // orderProduct 상태 업데이트(배송완료/교환 배송완료 -> 구매 확정)
+            orderDao.updateOrderProductsToDeliveryConfirmed(confirmedIds);
         }
+
+        // 체크포인트 갱신
+        checkpoint.setLastProcessedId(orderProductIds.get(orderProductIds.size() - 1).longValue());
+        checkpoint.setProcessedCount(checkpoint.getProcessedCount() + orderProducts.size());
+        batchJobDao.updateBatchJobCheckpoint(checkpoint);
+        return checkpoint;
+    }
+
+    // 자동 구매 확정 작업 완료 처리
+    @Transactional(
+        isolation = Isolation.REPEATABLE_READ,
+        timeout = 5
+    )
+    public void completeAutoConfirmPurchase(String jobName) {
+        BatchJobCheckpoint checkpoint = batchJobDao.getBatchJobCheckpointForUpdate(jobName);
+        checkpoint.setStatus(BatchJobStatus.COMPLETED);
+        batchJobDao.updateBatchJobCheckpoint(checkpoint);
+    }
+
+    // 결제 대기 시간이 만료된 주문의 예약 재고 해제(결제 대기 -> 취소)
+    @Transactional(
+        isolation = Isolation.REPEATABLE_READ,
+        timeout = 10
+    )
+    public int releaseExpiredReservations(List<Integer> orderIds, LocalDateTime cutoffDate) {
+        int releasedCount = 0;
+
+        for (Integer orderId : orderIds) {
+            OrderProduct query = new OrderProduct();
+            query.setOrderId(orderId);
+            List<OrderProduct> orderProducts = orderDao.getOrderProductList(query);
+
+            boolean allCanceled = !orderProducts.isEmpty();
+            for (OrderProduct orderProduct : orderProducts) {
+                // 여전히 결제 대기 중이고 만료 시각이 지난 주문 상품만 처리
+                if (orderProduct.getStatus() != OrderProductStatus.PAYMENT_PENDING ||
+                    orderProduct.getCreatedAt().isAfter(cutoffDate)) {
+                    allCanceled &= orderProduct.getStatus() == OrderProductStatus.CANCELED;
+                    continue;
+                }
+
+                // orderProduct 상태 업데이트(버전 불일치 시 웹훅 등 다른 처리가 선행된 것으로 보고 건너뜀)
+                int releasedQuantity = orderProduct.getChangedQuantity();
+                orderProduct.setStatus(OrderProductStatus.CANCELED);
+                orderProduct.setChangedQuantity(0);
+                if (orderDao.updateOrderProductStatusWithOptimisticLock(orderProduct) == 0) {
+                    allCanceled = false;
+                    continue;
+                }
+
+                // productItem 수량 업데이트(재고 증가 & 예약 수량 감소)
+                OrderProduct stockRecovery = new OrderProduct();
+                stockRecovery.setOrderProductId(orderProduct.getOrderProductId());
+                stockRecovery.setProductItemId(orderProduct.getProductItemId());
+                stockRecovery.setChangedQuantity(releasedQuantity);
+                productDao.StockRecoveryForPortOne(stockRecovery);
+
+                // 주문한 상품 이력 정보 생성
+                OrderProductHistory orderProductHistory = new OrderProductHistory();
+                orderProductHistory.setOrderProductId(orderProduct.getOrderProductId());
+                orderProductHistory.setStatusFrom(OrderProductStatus.PAYMENT_PENDING);
+                orderProductHistory.setStatusTo(OrderProductStatus.CANCELED);
+                orderProductHistory.setReason("결제 대기 시간 만료로 인한 주문 취소");
+                orderDao.insertOrderProductHistory(orderProductHistory);
+
+                releasedCount++;
+            }
+
+            // 주문 상품이 모두 취소된 경우 주문 금액 초기화
+            if (allCanceled) {
+                Order order = orderDao.getOrderInfo(orderId);
+                order.setCurrentTotalPrice(BigDecimal.ZERO);
+                orderDao.updateOrder(order);
+            }
+        }
+
+        return releasedCount;
     }
 
     // 회원 본인 주문 내역 리스트 조회    
@@ -492,6 +892,7 @@ public class OrderService {
 
         // 회원 주문 내역 조회
         List<UserOrderHistoryDTO> userOrderHistoryDTOList = orderDao.getUserOrderHistoryList(userCheck.getUserId());
+        attachOrderProductHistories(userOrderHistoryDTOList);
         for (UserOrderHistoryDTO userOrderHistoryDTO : userOrderHistoryDTOList) {
             userOrderHistoryDTO.setRecipientPhone(phoneEncryptionUtil.decrypt(userOrderHistoryDTO.getRecipientPhone()));
         }
@@ -531,17 +932,50 @@ public class OrderService {
             throw new OrderException.OrderNotFoundException();
         }
 
+        attachOrderProductHistories(List.of(userOrderHistoryDTO));
         userOrderHistoryDTO.setRecipientPhone(phoneEncryptionUtil.decrypt(userOrderHistoryDTO.getRecipientPhone()));
 
         return userOrderHistoryDTO;
     }
 
-    // 관리자용 전체 주문 상품 리스트 조회(검색 조건 포함)
+    // 주문 상품 이력 일괄 조회 후 주문 상품별로 연결(주문/상품 조인과 분리해 행 중복 방지)
+    private void attachOrderProductHistories(List<UserOrderHistoryDTO> userOrderHistoryDTOList) {
+        List<Integer> orderProductIds = new ArrayList<>();
+        for (UserOrderHistoryDTO userOrderHistoryDTO : userOrderHistoryDTOList) {
+            for (OrderProductDTO orderProductDTO : userOrderHistoryDTO.getOrderProductDTOList()) {
+                orderProductIds.add(orderProductDTO.getOrderProductId());
+            }
+        }
+        if (orderProductIds.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, List<OrderProductHistoryDTO>> historiesByOrderProductId = new HashMap<>();
+        for (int from = 0; from < orderProductIds.size(); from += HISTORY_FETCH_BATCH_SIZE) {
+            List<Integer> batch = orderProductIds.subList(from, Math.min(from + HISTORY_FETCH_BATCH_SIZE, orderProductIds.size()));
+            for (OrderProductHistoryDTO history : orderDao.getOrderProductHistoriesByOrderProductIds(batch)) {
+                historiesByOrderProductId
+                    .computeIfAbsent(history.getOrderProductId(), key -> new ArrayList<>())
+                    .add(history);
+            }
+        }
+
+        for (UserOrderHistoryDTO userOrderHistoryDTO : userOrderHistoryDTOList) {
+            for (OrderProductDTO orderProductDTO : userOrderHistoryDTO.getOrderProductDTOList()) {
+                orderProductDTO.setOrderProductHistoryDTOList(
+                    historiesByOrderProductId.getOrDefault(orderProductDTO.getOrderProductId(), new ArrayList<>()));
+            }
+        }
+    }
+
+    // 관리자용 전체 주문 상품 리스트 조회(검색 조건 포함, 주문 ID 키셋 페이지 조회 후 상세 조회)
     @Transactional(
         readOnly = true,
         isolation = Isolation.READ_COMMITTED
     )
-    public List<UserOrderHistoryDTO> getOrderListForAdmin(OrderListForAdminDTO orderListForAdminDTO) {
+    public OrderListForAdminPageDTO getOrderListForAdmin(OrderListForAdminDTO orderListForAdminDTO) {
+        int size = resolveOrderPageSize(orderListForAdminDTO.getSize());
+
         Map<String, Object> params = new HashMap<>();
         params.put("merchantUid", orderListForAdminDTO.getMerchantUid());
         params.put("userEmail", orderListForAdminDTO.getUserEmail());
@@ -549,13 +983,93 @@ public class OrderService {
             orderListForAdminDTO.getStartDate().toString() : null);
         params.put("endDate", orderListForAdminDTO.getEndDate() != null ? 
             orderListForAdminDTO.getEndDate().toString() : null);
+        params.put("cursorCreatedAt", orderListForAdminDTO.getCursorCreatedAt());
+        params.put("cursorOrderId", orderListForAdminDTO.getCursorOrderId());
+        // 다음 페이지 존재 여부 확인용으로 1건 더 조회
+        params.put("limit", size + 1);
+
+        List<Integer> orderIds = orderDao.getOrderIdsForAdmin(params);
+        boolean hasNext = orderIds.size() > size;
+        if (hasNext) {
+            orderIds = orderIds.subList(0, size);
+        }
 
-        List<UserOrderHistoryDTO> orderListForAdminDTOList = orderDao.getOrderListForAdmin(params);
+        OrderListForAdminPageDTO orderListForAdminPageDTO = new OrderListForAdminPageDTO();
+        orderListForAdminPageDTO.setHasNext(hasNext);
+        if (orderIds.isEmpty()) {
+            orderListForAdminPageDTO.setOrders(new ArrayList<>());
+            return orderListForAdminPageDTO;
+        }
+
+        List<UserOrderHistoryDTO> orderListForAdminDTOList = orderDao.getOrderListForAdmin(orderIds);
+        attachOrderProductHistories(orderListForAdminDTOList);
         for (UserOrderHistoryDTO userOrderHistoryDTO : orderListForAdminDTOList) {
             userOrderHistoryDTO.setRecipientPhone(phoneEncryptionUtil.decrypt(userOrderHistoryDTO.getRecipientPhone()));
         }
+        orderListForAdminPageDTO.setOrders(orderListForAdminDTOList);
 
-        return orderListForAdminDTOList;
+        // 다음 페이지 조회 위치(마지막 주문의 created_at, order_id)
+        if (hasNext && !orderListForAdminDTOList.isEmpty()) {
+            UserOrderHistoryDTO lastOrder = orderListForAdminDTOList.get(orderListForAdminDTOList.size() - 1);
+            orderListForAdminPageDTO.setNextCursorCreatedAt(lastOrder.getCreatedAt());
+            orderListForAdminPageDTO.setNextCursorOrderId(lastOrder.getOrderId());
+        }
+        return orderListForAdminPageDTO;
+    }
+
+    // 회원 주문 요약 목록 조회(order_summaries 읽기 모델, 키셋 페이징)
+    @Transactional(readOnly = true)
+    public OrderSummaryPageDTO getUserOrderSummaries(OrderSummarySearchDTO orderSummarySearchDTO) {
+        // 회원 행 잠금 없이 이메일 조인으로 조회
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+
+        int size = resolveOrderPageSize(orderSummarySearchDTO.getSize());
+        Map<String, Object> params = new HashMap<>();
+        params.put("userEmail", auth.getName());
+        params.put("cursorOrderedAt", orderSummarySearchDTO.getCursorOrderedAt());
+        params.put("cursorOrderId", orderSummarySearchDTO.getCursorOrderId());
+        params.put("limit", size + 1);
+
+        return toOrderSummaryPage(orderDao.getUserOrderSummaries(params), size);
+    }
+
+    // 관리자용 주문 요약 목록 조회(order_summaries 읽기 모델, 검색 조건 포함, 키셋 페이징)
+    @Transactional(readOnly = true)
+    public OrderSummaryPageDTO getOrderSummariesForAdmin(OrderListForAdminDTO orderListForAdminDTO) {
+        int size = resolveOrderPageSize(orderListForAdminDTO.getSize());
+        Map<String, Object> params = new HashMap<>();
+        params.put("merchantUid", orderListForAdminDTO.getMerchantUid());
+        params.put("userEmail", orderListForAdminDTO.getUserEmail());
+        params.put("startDate", orderListForAdminDTO.getStartDate() != null ? 
+            orderListForAdminDTO.getStartDate().toString() : null);
+        params.put("endDate", orderListForAdminDTO.getEndDate() != null ? 
+            orderListForAdminDTO.getEndDate().toString() : null);
+        params.put("cursorOrderedAt", orderListForAdminDTO.getCursorCreatedAt());
+        params.put("cursorOrderId", orderListForAdminDTO.getCursorOrderId());
+        params.put("limit", size + 1);
+
+        return toOrderSummaryPage(orderDao.getOrderSummariesForAdmin(params), size);
+    }
+
+    // 페이지 크기 보정(기본값 & 최대값)
+    private int resolveOrderPageSize(Integer size) {
+        return size == null ? DEFAULT_ADMIN_ORDER_PAGE_SIZE :
+            Math.min(Math.max(size, 1), MAX_ADMIN_ORDER_PAGE_SIZE);
+    }
+
+    // 1건 더 조회한 결과로 다음 페이지 여부 및 조회 위치 설정
+    private OrderSummaryPageDTO toOrderSummaryPage(List<OrderSummaryDTO> orderSummaries, int size) {
+        OrderSummaryPageDTO orderSummaryPageDTO = new OrderSummaryPageDTO();
+        boolean hasNext = orderSummaries.size() > size;
+        if (hasNext) {
+            orderSummaries = orderSummaries.subList(0, size);
+            OrderSummaryDTO lastOrder = orderSummaries.get(size - 1);
+            orderSummaryPageDTO.setNextCursorOrderedAt(lastOrder.getOrderedAt());
+            orderSummaryPageDTO.setNextCursorOrderId(lastOrder.getOrderId());
+        }
+        orderSummaryPageDTO.setHasNext(hasNext);
+        orderSummaryPageDTO.setOrders(orderSummaries);
+        return orderSummaryPageDTO;
     }
 
     // 회원의 주문 상품 취소/반품/교환 요청
@@ -641,10 +1155,8 @@ public class OrderService {
             throw new OrderException.OrderProductNotFoundException();
         }
 
-        // 주문 상품 상태가 취소요청인 경우에만 통과
-        if (orderProductCheck.getStatus() != OrderProductStatus.CANCEL_REQUESTED) {
-            throw new OrderException.OrderProductRequestException();
-        }
+        // 상태 전이표 기준 취소 요청 -> 취소 완료 검증
+        OrderProductStateMachine.validateTransition(orderProductCheck.getStatus(), OrderProductStatus.CANCELED);
 
         // productItem 수량 정보 변경(예약 -> 재고)
         productDao.StockRecovery(orderProductCheck);
@@ -697,10 +1209,8 @@ public class OrderService {
             throw new OrderException.OrderProductNotFoundException();
         }
 
-        // 주문 상품 상태가 반품 요청 중인 경우에만 통과
-        if (orderProductCheck.getStatus() != OrderProductStatus.RETURN_REQUESTED) {
-            throw new OrderException.OrderProductRequestException();
-        }
+        // 상태 전이표 기준 반품 요청 -> 반품 중 검증
+        OrderProductStateMachine.validateTransition(orderProductCheck.getStatus(), OrderProductStatus.RETURNING);
         
         // orderProduct 상태 업데이트(낙관적 잠금, 반품 요청 -> 반품 중)
         orderProductCheck.setStatus(OrderProductStatus.RETURNING);
@@ -748,10 +1258,8 @@ public class OrderService {
             throw new OrderException.OrderProductNotFoundException();
         }
 
-        // 주문 상품 상태가 반품 중인 경우에만 통과
-        if (orderProductCheck.getStatus() != OrderProductStatus.RETURNING) {
-            throw new OrderException.OrderProductRequestException();
-        }
+        // 상태 전이표 기준 반품 중 -> 반품 완료 검증
+        OrderProductStateMachine.validateTransition(orderProductCheck.getStatus(), OrderProductStatus.RETURNED);
 
         for (String barcode : returnDeliveryInfoDTO.getBarcodes()) {
             // productInventory 조회
@@ -830,10 +1338,8 @@ public class OrderService {
             throw new OrderException.OrderProductNotFoundException();
         }
 
-        // 주문 상품 상태가 교환 요청인 경우에만 통과    
-        if (orderProductCheck.getStatus() != OrderProductStatus.EXCHANGE_REQUESTED) {
-            throw new OrderException.OrderProductRequestException();
-        }
+        // 상태 전이표 기준 교환 요청 -> 교환 반품 중 검증
+        OrderProductStateMachine.validateTransition(orderProductCheck.getStatus(), OrderProductStatus.EXCHANGE_RETURNING);
 
         // orderProduct 상태 업데이트(낙관적 잠금, 교환 요청 -> 교환 반품 중)
         orderProductCheck.setStatus(OrderProductStatus.EXCHANGE_RETURNING);
@@ -881,10 +1387,8 @@ public class OrderService {
             throw new OrderException.OrderProductNotFoundException();
         }
 
-        // 주문 상품 상태가 교환 반품 중인 경우에만 통과
-        if (orderProductCheck.getStatus() != OrderProductStatus.EXCHANGE_RETURNING) {
-            throw new OrderException.OrderProductRequestException();
-        }
+        // 상태 전이표 기준 교환 반품 중 -> 교환 준비중 검증
+        OrderProductStateMachine.validateTransition(orderProductCheck.getStatus(), OrderProductStatus.EXCHANGE_PREPARING);
         
         for (String barcode : returnDeliveryInfoDTO.getBarcodes()) {
             // 반품된 ProductInventory 조회
@@ -951,10 +1455,8 @@ public class OrderService {
             throw new OrderException.OrderProductNotFoundException();
         }
 
-        // 주문 상품 상태가 교환 준비중인 경우에만 통과
-        if (orderProductCheck.getStatus() != OrderProductStatus.EXCHANGE_PREPARING) {
-            throw new OrderException.OrderProductRequestException();
-        }
+        // 상태 전이표 기준 교환 준비중 -> 교환 배송중 검증
+        OrderProductStateMachine.validateTransition(orderProductCheck.getStatus(), OrderProductStatus.EXCHANGE_DELIVERING);
 
         for (String barcode : exchangeDeliveryInfoDTO.getBarcodes()) {
             // productInventory 조회
@@ -0,0 +1,84 @@
+package com.my.gyp_portfolio_shoppingmall.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.my.gyp_portfolio_shoppingmall.dao.OrderDao;
+import com.my.gyp_portfolio_shoppingmall.dto.OrderDto.OrderSummaryRefreshEventDTO;
+import com.my.gyp_portfolio_shoppingmall.exception.OrderException;
+import com.my.gyp_portfolio_shoppingmall.vo.ScheduledJobLease;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderSummaryService {
+
+    private static final String JOB_NAME = "ORDER_SUMMARY_BACKFILL";
+    private static final int LEASE_TTL_SECONDS = 120;
+    private static final int CHUNK_SIZE = 500;
+
+    private final OrderDao orderDao;
+    private final ScheduledJobLeaseService scheduledJobLeaseService;
+
+    // 주문 상태 변경 커밋 후 주문 요약 재계산
+    // READ COMMITTED: 주문 상품을 공유 잠금 없이 최신 커밋 기준으로 읽어 다른 주문 상품을 변경 중인 트랜잭션과 교착되지 않음
+    // 실패 시 다음 상태 변경 또는 백필에서 다시 계산됨
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(
+        propagation = Propagation.REQUIRES_NEW,
+        isolation = Isolation.READ_COMMITTED,
+        timeout = 5
+    )
+    public void onOrderSummaryRefresh(OrderSummaryRefreshEventDTO event) {
+        try {
+            if (event.getOrderIds() != null) {
+                orderDao.refreshOrderSummaries(event.getOrderIds());
+            } else {
+                orderDao.refreshOrderSummariesByOrderProductIds(event.getOrderProductIds());
+            }
+        } catch (Exception e) {
+            log.error("주문 요약 갱신 실패 - 주문ID: {}, 주문 상품ID: {}", event.getOrderIds(), event.getOrderProductIds(), e);
+        }
+    }
+
+    // 기존 주문의 주문 요약 생성(order_id 키셋 페이징, 청크별 단일 문장으로 즉시 커밋)
+    public int backfillOrderSummaries() {
+        ScheduledJobLease lease = scheduledJobLeaseService.tryAcquire(JOB_NAME, LEASE_TTL_SECONDS);
+        if (lease == null) {
+            throw new OrderException.OrderSummaryBackfillInProgressException();
+        }
+
+        int refreshedCount = 0;
+        try {
+            int lastOrderId = 0;
+            while (true) {
+                List<Integer> orderIds = orderDao.getOrderIdsForSummaryBackfill(lastOrderId, CHUNK_SIZE);
+                if (orderIds.isEmpty()) {
+                    break;
+                }
+                if (!scheduledJobLeaseService.renew(lease, LEASE_TTL_SECONDS)) {
+                    log.warn("주문 요약 백필 임대 만료로 중단 - 마지막 주문ID: {}", lastOrderId);
+                    break;
+                }
+
+                orderDao.refreshOrderSummaries(orderIds);
+                refreshedCount += orderIds.size();
+                lastOrderId = orderIds.get(orderIds.size() - 1);
+            }
+        } finally {
+            scheduledJobLeaseService.release(lease);
+        }
+
+        log.info("주문 요약 백필 완료 - 처리 주문 수: {}", refreshedCount);
+        return refreshedCount;
+    }
+}
\ No newline at end of file
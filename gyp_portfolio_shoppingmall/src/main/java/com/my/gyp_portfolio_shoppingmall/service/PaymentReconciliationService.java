@@ -0,0 +1,397 @@
+package com.my.gyp_portfolio_shoppingmall.service;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.SqlSession;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import com.my.gyp_portfolio_shoppingmall.dao.PaymentReconciliationDao;
+import com.my.gyp_portfolio_shoppingmall.dto.PaymentDto.PaymentDataDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.PaymentDto.PaymentPageDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.PaymentDto.PaymentReconciliationDiscrepancyDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.PaymentDto.PaymentReconciliationResultDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.PaymentDto.PortOneWebhookDTO;
+import com.my.gyp_portfolio_shoppingmall.enums.PaymentEnums.PaymentStatus;
+import com.my.gyp_portfolio_shoppingmall.enums.PaymentEnums.ReconciliationDiscrepancyType;
+import com.my.gyp_portfolio_shoppingmall.exception.PaymentException;
+import com.my.gyp_portfolio_shoppingmall.exception.PortOneException;
+import com.my.gyp_portfolio_shoppingmall.support.PaymentLogSupport;
+import com.my.gyp_portfolio_shoppingmall.vo.PaymentHistory;
+import com.my.gyp_portfolio_shoppingmall.vo.ScheduledJobLease;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentReconciliationService {
+
+    private static final String JOB_NAME = "PAYMENT_RECONCILIATION";
+    private static final int LEASE_TTL_SECONDS = 60 * 60;
+    private static final int PAGE_LIMIT = 100;
+    private static final int CHUNK_SIZE = 100;
+    private static final int MAX_REPORTED_DISCREPANCIES = 100;
+    private static final int MAX_RANGE_DAYS = 31;
+    // 웹훅 처리기로 보정 가능한 포트원 결제 상태
+    private static final Set<String> REPAIRABLE_STATUSES = Set.of("paid", "failed", "cancelled");
+
+    // 포트원 목록 조회 및 병합 단위 구간(구간별 포트원 결제만 메모리에 적재)
+    @Value("${payment.reconciliation.window-minutes:60}")
+    private long windowMinutes;
+
+    @Value("${payment.reconciliation.auto-repair:false}")
+    private boolean autoRepairOnSchedule;
+
+    private final PaymentReconciliationDao paymentReconciliationDao;
+    private final PortOneReactiveClient portOneReactiveClient;
+    private final PaymentWebhookInboxService paymentWebhookInboxService;
+    private final ScheduledJobLeaseService scheduledJobLeaseService;
+
+    // 전일 결제 정합성 점검(임대 획득 노드만 실행)
+    @Scheduled(cron = "0 0 4 * * *")
+    public void scheduledReconcilePayments() {
+        ScheduledJobLease lease = scheduledJobLeaseService.tryAcquire(JOB_NAME, LEASE_TTL_SECONDS);
+        if (lease == null) {
+            return;
+        }
+        try {
+            LocalDateTime endDate = LocalDate.now().atStartOfDay();
+            PaymentReconciliationResultDTO result = reconcilePayments(endDate.minusDays(1), endDate, autoRepairOnSchedule);
+            log.info("결제 정합성 점검 완료 - 포트원: {}, 결제 이력: {}, 불일치: {}, 보정: {}, 미확인: {}",
+                result.getPortOneCount(), result.getHistoryCount(), result.getDiscrepancyCount(), result.getRepairedCount(),
+                result.getUnverifiedCount());
+        } catch (Exception e) {
+            log.error("결제 정합성 점검 실패", e);
+        } finally {
+            scheduledJobLeaseService.release(lease);
+        }
+    }
+
+    // 점검 구간 검증
+    public void validateReconciliationRange(LocalDateTime startDate, LocalDateTime endDate) {
+        if (startDate == null || endDate == null) {
+            throw new IllegalArgumentException("점검 시작/종료 시각이 없습니다.");
+        }
+        if (!startDate.isBefore(endDate)) {
+            throw new IllegalArgumentException("점검 시작 시각은 종료 시각보다 이전이어야 합니다.");
+        }
+        if (startDate.plusDays(MAX_RANGE_DAYS).isBefore(endDate)) {
+            throw new IllegalArgumentException(String.format("점검 구간은 최대 %d일입니다.", MAX_RANGE_DAYS));
+        }
+    }
+
+    /**
+     * 포트원 결제 목록과 결제 이력(payment_histories)을 비교
+     *
+     * 점검 구간을 windowMinutes 단위로 나누어, 구간별 포트원 결제 목록(결제 요청 시각 기준)을 imp_uid 순으로 정렬하고
+     * 같은 구간의 결제 이력(생성 시각 기준)을 imp_uid 순 커서로 스트리밍하여 병합한다.
+     * 구간 경계에 걸친 결제로 인한 오탐을 거르기 위해 불일치 후보는 imp_uid 기준으로 양쪽을 재조회한 뒤 확정하며,
+     * 재조회(포트원 단건 조회 포함)는 스트리밍 커서를 닫은 뒤 수행해 커서가 긴 외부 호출 동안 열려 있지 않게 한다.
+     *
+     * @param startDate 점검 시작 시각(포함)
+     * @param endDate 점검 종료 시각(제외)
+     * @param autoRepair 포트원에만 있거나 상태가 다른 결제를 웹훅 수신함에 등록해 기존 웹훅 처리로 보정할지 여부
+     * @return 점검 결과
+     * @throws PaymentException.PaymentReconciliationException 커서 처리 중 오류 발생 시
+     */
+    public PaymentReconciliationResultDTO reconcilePayments(LocalDateTime startDate, LocalDateTime endDate, boolean autoRepair) {
+        validateReconciliationRange(startDate, endDate);
+
+        PaymentReconciliationResultDTO result = new PaymentReconciliationResultDTO();
+        result.setStartDate(startDate);
+        result.setEndDate(endDate);
+
+        LocalDateTime windowStart = startDate;
+        while (windowStart.isBefore(endDate)) {
+            LocalDateTime windowEnd = windowStart.plusMinutes(Math.max(windowMinutes, 1));
+            if (windowEnd.isAfter(endDate)) {
+                windowEnd = endDate;
+            }
+            reconcileWindow(windowStart, windowEnd, autoRepair, result);
+            windowStart = windowEnd;
+        }
+        return result;
+    }
+
+    // 구간 단위 병합
+    private void reconcileWindow(LocalDateTime windowStart, LocalDateTime windowEnd, boolean autoRepair,
+                                 PaymentReconciliationResultDTO result) {
+        List<PaymentDataDTO> portOnePayments = fetchPortOnePayments(windowStart, windowEnd);
+        result.setPortOneCount(result.getPortOneCount() + portOnePayments.size());
+
+        // 불일치 후보는 커서를 닫은 뒤 재확인(구간 내 후보 수는 구간의 포트원 결제 수와 결제 이력 수를 넘지 않음)
+        List<Suspect> suspects = new ArrayList<>();
+        Iterator<PaymentDataDTO> portOneIterator = portOnePayments.iterator();
+        PaymentDataDTO portOne = portOneIterator.hasNext() ? portOneIterator.next() : null;
+
+        try (SqlSession historySession = paymentReconciliationDao.openStreamingSession();
+             Cursor<PaymentHistory> histories = paymentReconciliationDao.streamPaymentHistories(historySession, windowStart, windowEnd)) {
+
+            // imp_uid별 마지막 이력만 비교
+            PaymentHistory latest = null;
+            for (PaymentHistory history : histories) {
+                if (latest != null && !latest.getImpUid().equals(history.getImpUid())) {
+                    portOne = mergeHistory(latest, portOne, portOneIterator, suspects, result);
+                }
+                latest = history;
+            }
+            if (latest != null) {
+                portOne = mergeHistory(latest, portOne, portOneIterator, suspects, result);
+            }
+        } catch (IOException e) {
+            log.error("결제 정합성 점검 커서 처리 실패 - 구간: {} ~ {}", windowStart, windowEnd, e);
+            throw new PaymentException.PaymentReconciliationException("결제 정합성 점검 커서 처리 실패: " + e.getMessage(), e);
+        }
+
+        // 결제 이력 스트림이 끝난 뒤 남은 포트원 결제
+        while (portOne != null) {
+            addSuspect(suspects, new Suspect(portOne.getImp_uid(), portOne, null));
+            portOne = portOneIterator.hasNext() ? portOneIterator.next() : null;
+        }
+
+        // 커서를 닫은 뒤 묶음 단위로 재확인
+        for (int from = 0; from < suspects.size(); from += CHUNK_SIZE) {
+            processSuspects(suspects.subList(from, Math.min(from + CHUNK_SIZE, suspects.size())), autoRepair, result);
+        }
+    }
+
+    // imp_uid 순으로 정렬된 두 스트림 병합(다음 비교 대상 포트원 결제 반환)
+    private PaymentDataDTO mergeHistory(PaymentHistory history, PaymentDataDTO portOne, Iterator<PaymentDataDTO> portOneIterator,
+                                        List<Suspect> suspects, PaymentReconciliationResultDTO result) {
+        result.setHistoryCount(result.getHistoryCount() + 1);
+        String impUid = history.getImpUid();
+
+        while (portOne != null && portOne.getImp_uid().compareTo(impUid) < 0) {
+            addSuspect(suspects, new Suspect(portOne.getImp_uid(), portOne, null));
+            portOne = portOneIterator.hasNext() ? portOneIterator.next() : null;
+        }
+
+        if (portOne != null && portOne.getImp_uid().equals(impUid)) {
+            if (classify(portOne, history) != null) {
+                addSuspect(suspects, new Suspect(impUid, portOne, history));
+            }
+            return portOneIterator.hasNext() ? portOneIterator.next() : null;
+        }
+
+        addSuspect(suspects, new Suspect(impUid, null, history));
+        return portOne;
+    }
+
+    private void addSuspect(List<Suspect> suspects, Suspect suspect) {
+        // 결제 요청만 있고 진행되지 않은 포트원 결제는 이력이 없는 것이 정상
+        if (classify(suspect.portOne, suspect.history) == null) {
+            return;
+        }
+        suspects.add(suspect);
+    }
+
+    // 불일치 후보 재확인 후 보고 및 보정
+    private void processSuspects(List<Suspect> suspects, boolean autoRepair, PaymentReconciliationResultDTO result) {
+        // 구간 경계 밖의 이력까지 포함해 imp_uid별 최신 이력 재조회
+        List<String> impUids = suspects.stream().map(suspect -> suspect.impUid).distinct().toList();
+        Map<String, PaymentHistory> latestHistories = new HashMap<>();
+        for (PaymentHistory history : paymentReconciliationDao.selectLatestPaymentHistories(impUids)) {
+            latestHistories.put(history.getImpUid(), history);
+        }
+
+        for (Suspect suspect : suspects) {
+            PaymentHistory history = latestHistories.get(suspect.impUid);
+            // 구간 목록에 없던 결제는 포트원 단건 조회로 재확인
+            PaymentDataDTO portOne = suspect.portOne;
+            if (portOne == null) {
+                try {
+                    portOne = fetchPortOnePayment(suspect.impUid);
+                } catch (Exception e) {
+                    // 조회 실패는 포트원 누락으로 판정하지 않고 미확인으로 기록
+                    log.warn("결제 정합성 재확인 중 포트원 조회 실패 - impUid: {}, 사유: {}", PaymentLogSupport.maskPaymentId(suspect.impUid), e.getMessage());
+                    addUnverified(suspect.impUid, history, result);
+                    continue;
+                }
+            }
+
+            ReconciliationDiscrepancyType type = classify(portOne, history);
+            if (type == null) {
+                continue;
+            }
+
+            PaymentReconciliationDiscrepancyDTO discrepancy = new PaymentReconciliationDiscrepancyDTO();
+            discrepancy.setImpUid(suspect.impUid);
+            discrepancy.setType(type);
+            if (portOne != null) {
+                discrepancy.setMerchantUid(portOne.getMerchant_uid());
+                discrepancy.setPortOneStatus(portOne.getStatus());
+                discrepancy.setPortOneAmount(portOne.getPaid_amount());
+            }
+            if (history != null) {
+                if (discrepancy.getMerchantUid() == null) {
+                    discrepancy.setMerchantUid(history.getMerchantUid());
+                }
+                discrepancy.setHistoryStatus(history.getStatus());
+                discrepancy.setHistoryAmount(history.getPaidAmount());
+            }
+
+            log.warn("결제 정합성 불일치 - impUid: {}, 주문번호: {}, 유형: {}, 포트원 상태: {}, 포트원 금액: {}, 이력 상태: {}, 이력 금액: {}",
+                PaymentLogSupport.maskPaymentId(suspect.impUid),
+                discrepancy.getMerchantUid(),
+                type,
+                discrepancy.getPortOneStatus(),
+                discrepancy.getPortOneAmount(),
+                discrepancy.getHistoryStatus(),
+                discrepancy.getHistoryAmount()
+            );
+            result.setDiscrepancyCount(result.getDiscrepancyCount() + 1);
+
+            if (autoRepair && isRepairable(type, portOne) && repair(portOne)) {
+                discrepancy.setRepaired(true);
+                result.setRepairedCount(result.getRepairedCount() + 1);
+            }
+            if (result.getDiscrepancies().size() < MAX_REPORTED_DISCREPANCIES) {
+                result.getDiscrepancies().add(discrepancy);
+            }
+        }
+    }
+
+    // 포트원 조회 실패로 확인하지 못한 결제 기록(불일치 건수와 보정 대상에서 제외)
+    private void addUnverified(String impUid, PaymentHistory history, PaymentReconciliationResultDTO result) {
+        result.setUnverifiedCount(result.getUnverifiedCount() + 1);
+        if (result.getDiscrepancies().size() >= MAX_REPORTED_DISCREPANCIES) {
+            return;
+        }
+        PaymentReconciliationDiscrepancyDTO discrepancy = new PaymentReconciliationDiscrepancyDTO();
+        discrepancy.setImpUid(impUid);
+        discrepancy.setType(ReconciliationDiscrepancyType.UNVERIFIED);
+        if (history != null) {
+            discrepancy.setMerchantUid(history.getMerchantUid());
+            discrepancy.setHistoryStatus(history.getStatus());
+            discrepancy.setHistoryAmount(history.getPaidAmount());
+        }
+        result.getDiscrepancies().add(discrepancy);
+    }
+
+    // 불일치 유형 판정(일치하면 null)
+    private ReconciliationDiscrepancyType classify(PaymentDataDTO portOne, PaymentHistory history) {
+        if (portOne == null) {
+            return history == null ? null : ReconciliationDiscrepancyType.MISSING_IN_PORTONE;
+        }
+        if (history == null) {
+            return "ready".equals(portOne.getStatus()) ? null : ReconciliationDiscrepancyType.MISSING_IN_HISTORY;
+        }
+        if (!statusMatches(portOne.getStatus(), history.getStatus())) {
+            return ReconciliationDiscrepancyType.STATUS_MISMATCH;
+        }
+        if (history.getStatus() == PaymentStatus.PAID
+            && portOne.getPaid_amount() != null
+            && history.getPaidAmount() != null
+            && history.getPaidAmount().compareTo(BigDecimal.valueOf(portOne.getPaid_amount())) != 0) {
+            return ReconciliationDiscrepancyType.AMOUNT_MISMATCH;
+        }
+        return null;
+    }
+
+    private boolean statusMatches(String portOneStatus, PaymentStatus historyStatus) {
+        if (historyStatus == null || portOneStatus == null) {
+            return false;
+        }
+        // 부분 취소 결제는 포트원에서 paid 상태로 유지됨
+        if (historyStatus == PaymentStatus.PARTIAL_CANCELLED) {
+            return "paid".equals(portOneStatus) || "cancelled".equals(portOneStatus);
+        }
+        return historyStatus.name().equalsIgnoreCase(portOneStatus);
+    }
+
+    private boolean isRepairable(ReconciliationDiscrepancyType type, PaymentDataDTO portOne) {
+        return (type == ReconciliationDiscrepancyType.MISSING_IN_HISTORY || type == ReconciliationDiscrepancyType.STATUS_MISMATCH)
+            && portOne != null
+            && REPAIRABLE_STATUSES.contains(portOne.getStatus())
+            && StringUtils.hasText(portOne.getMerchant_uid());
+    }
+
+    // 포트원 결제 정보를 웹훅 수신함에 등록해 기존 웹훅 처리로 보정(이미 같은 상태의 웹훅이 있으면 false)
+    private boolean repair(PaymentDataDTO portOne) {
+        PortOneWebhookDTO webhookDTO = new PortOneWebhookDTO();
+        webhookDTO.setImpUid(portOne.getImp_uid());
+        webhookDTO.setMerchantUid(portOne.getMerchant_uid());
+        webhookDTO.setStatus(portOne.getStatus());
+        webhookDTO.setAmount(portOne.getPaid_amount());
+        webhookDTO.setPaidAt(portOne.getPaid_at());
+        try {
+            return paymentWebhookInboxService.receive(webhookDTO);
+        } catch (Exception e) {
+            log.error("결제 정합성 보정 등록 실패 - impUid: {}", PaymentLogSupport.maskPaymentId(portOne.getImp_uid()), e);
+            return false;
+        }
+    }
+
+    // 구간 내 포트원 결제 목록 조회(imp_uid 순 정렬, 중복 제거)
+    private List<PaymentDataDTO> fetchPortOnePayments(LocalDateTime windowStart, LocalDateTime windowEnd) {
+        long from = windowStart.atZone(ZoneId.systemDefault()).toEpochSecond();
+        // 포트원 조회 구간은 종료 시각을 포함하므로 다음 구간과 겹치지 않도록 1초 앞당김
+        long to = windowEnd.atZone(ZoneId.systemDefault()).toEpochSecond() - 1;
+
+        List<PaymentDataDTO> payments = new ArrayList<>();
+        int page = 1;
+        while (true) {
+            PaymentPageDTO paymentPage = portOneReactiveClient.getPayments(from, to, page, PAGE_LIMIT).block();
+            if (paymentPage == null || paymentPage.getList() == null || paymentPage.getList().isEmpty()) {
+                break;
+            }
+            for (PaymentDataDTO payment : paymentPage.getList()) {
+                if (StringUtils.hasText(payment.getImp_uid())) {
+                    payments.add(payment);
+                }
+            }
+            if (paymentPage.getNext() <= page) {
+                break;
+            }
+            page = paymentPage.getNext();
+        }
+
+        payments.sort(Comparator.comparing(PaymentDataDTO::getImp_uid));
+        List<PaymentDataDTO> distinctPayments = new ArrayList<>(payments.size());
+        for (PaymentDataDTO payment : payments) {
+            if (distinctPayments.isEmpty()
+                || !distinctPayments.get(distinctPayments.size() - 1).getImp_uid().equals(payment.getImp_uid())) {
+                distinctPayments.add(payment);
+            }
+        }
+        return distinctPayments;
+    }
+
+    // 포트원 단건 조회(포트원 404 응답이면 null, 그 외 조회 실패는 예외 전파)
+    private PaymentDataDTO fetchPortOnePayment(String impUid) {
+        try {
+            return portOneReactiveClient.getPayment(impUid).block();
+        } catch (PortOneException.PaymentNotFoundException e) {
+            return null;
+        }
+    }
+
+    // 불일치 후보(포트원 또는 결제 이력 중 한쪽은 없을 수 있음)
+    private static class Suspect {
+        private final String impUid;
+        private final PaymentDataDTO portOne;
+        private final PaymentHistory history;
+
+        private Suspect(String impUid, PaymentDataDTO portOne, PaymentHistory history) {
+            this.impUid = impUid;
+            this.portOne = portOne;
+            this.history = history;
+        }
+    }
+}
\ No newline at end of file
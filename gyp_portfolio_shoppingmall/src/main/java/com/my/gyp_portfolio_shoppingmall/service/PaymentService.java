@@ -4,31 +4,25 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
-import java.util.Collections;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
-import org.springframework.web.client.RestTemplate;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.my.gyp_portfolio_shoppingmall.dao.OrderDao;
 import com.my.gyp_portfolio_shoppingmall.dao.PaymentHistoryDao;
+import com.my.gyp_portfolio_shoppingmall.dao.PaymentWebhookInboxDao;
 import com.my.gyp_portfolio_shoppingmall.dao.ProductDao;
 import com.my.gyp_portfolio_shoppingmall.dao.UserDao;
 import com.my.gyp_portfolio_shoppingmall.dto.PaymentDto.BuyerInfoDTO;
-import com.my.gyp_portfolio_shoppingmall.dto.PaymentDto.CancelRequestDTO;
-import com.my.gyp_portfolio_shoppingmall.dto.PaymentDto.IamportV1ResponseDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.PaymentDto.PaymentCustomDataDTO;
 import com.my.gyp_portfolio_shoppingmall.dto.PaymentDto.PaymentDataDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.PaymentDto.PaymentHistoryPageDTO;
 import com.my.gyp_portfolio_shoppingmall.dto.PaymentDto.PaymentHistorySearchDTO;
 import com.my.gyp_portfolio_shoppingmall.dto.PaymentDto.PaymentInfoDTO;
 import com.my.gyp_portfolio_shoppingmall.dto.PaymentDto.PaymentPrepareRequestDTO;
@@ -41,6 +35,8 @@ import com.my.gyp_portfolio_shoppingmall.enums.PaymentEnums.PaymentStatus;
 import com.my.gyp_portfolio_shoppingmall.exception.PaymentException;
 import com.my.gyp_portfolio_shoppingmall.exception.PortOneException;
 import com.my.gyp_portfolio_shoppingmall.support.EmailSender;
+import com.my.gyp_portfolio_shoppingmall.support.JsonCodecs;
+import com.my.gyp_portfolio_shoppingmall.support.PaymentVerificationCoalescer;
 import com.my.gyp_portfolio_shoppingmall.support.PhoneEncryptionUtil;
 import com.my.gyp_portfolio_shoppingmall.vo.DeliveryHistory;
 import com.my.gyp_portfolio_shoppingmall.vo.Order;
@@ -59,39 +55,53 @@ import lombok.extern.slf4j.Slf4j;
 )
 public class PaymentService {
 
-    private final String baseUrl;
+    // 관리자용 결제 이력 검색 페이지 크기
+    private static final int DEFAULT_HISTORY_PAGE_SIZE = 50;
+    private static final int MAX_HISTORY_PAGE_SIZE = 200;
+
     private final UserDao userDao;
     private final OrderDao orderDao;
     private final ProductDao productDao;
     private final EmailSender emailSender;
     private final OrderService orderService;
-    private final RestTemplate restTemplate;
+    private final PortOneReactiveClient portOneReactiveClient;
     private final PaymentHistoryDao paymentHistoryDao;
+    private final PaymentWebhookInboxDao paymentWebhookInboxDao;
     private final PortOneApiService portOneApiService;
     private final PhoneEncryptionUtil phoneEncryptionUtil;
+    private final PaymentVerificationCoalescer paymentVerificationCoalescer;
+    private final DashboardService dashboardService;
+    private final JsonCodecs jsonCodecs;
 
     // 생성자 주입
     public PaymentService(
         PortOneApiService portOneApiService, 
-        RestTemplate restTemplate, 
+        PortOneReactiveClient portOneReactiveClient, 
         OrderDao orderDao, 
         ProductDao productDao, 
         OrderService orderService, 
         PaymentHistoryDao paymentHistoryDao, 
+        PaymentWebhookInboxDao paymentWebhookInboxDao,
         EmailSender emailSender, 
         UserDao userDao, 
-        PhoneEncryptionUtil phoneEncryptionUtil
+        PhoneEncryptionUtil phoneEncryptionUtil,
+        PaymentVerificationCoalescer paymentVerificationCoalescer,
+        DashboardService dashboardService,
+        JsonCodecs jsonCodecs
     ) {
         this.portOneApiService = portOneApiService;
-        this.restTemplate = restTemplate;
+        this.portOneReactiveClient = portOneReactiveClient;
         this.orderDao = orderDao;
         this.productDao = productDao;
         this.orderService = orderService;
         this.paymentHistoryDao = paymentHistoryDao;
-        this.baseUrl = portOneApiService.getBaseUrl();
+        this.paymentWebhookInboxDao = paymentWebhookInboxDao;
         this.emailSender = emailSender;
         this.userDao = userDao;
         this.phoneEncryptionUtil = phoneEncryptionUtil;
+        this.paymentVerificationCoalescer = paymentVerificationCoalescer;
+        this.dashboardService = dashboardService;
+        this.jsonCodecs = jsonCodecs;
     }
 
     // 결제 요청에 필요한 정보 생성(프론트엔드에서 포트원 SDK 초기화 용도)
@@ -126,8 +136,8 @@ public class PaymentService {
             throw new PortOneException.PaymentVerificationException("유효하지 않은 포트원 결제 ID 형식입니다.");
         }
     
-        // API 요청 및 응답 처리
-        PaymentDataDTO responseData = requestPaymentVerification(paymentId);
+        // API 요청 및 응답 처리(같은 결제 ID의 동시 조회는 포트원 호출 1회로 병합)
+        PaymentDataDTO responseData = paymentVerificationCoalescer.get(paymentId, () -> requestPaymentVerification(paymentId));
         
         // 결제 상태 검증
         if (!"paid".equals(responseData.getStatus()) && !"ready".equals(responseData.getStatus())) {
@@ -159,6 +169,7 @@ public class PaymentService {
 
         // API 요청 및 응답 처리
         PaymentDataDTO responseData = requestPortOneCancellation(paymentId, reason);
+        paymentVerificationCoalescer.evict(paymentId);
         
         // 취소 상태 검증
         if (!"cancelled".equals(responseData.getStatus())) {
@@ -189,7 +200,10 @@ public class PaymentService {
             throw new PortOneException.PaymentVerificationException("결제 ID 또는 주문번호가 누락되었습니다.");
         }
 
-        // 결제 정보 검증
+        // 결제 정보 검증(상태 변경 웹훅은 캐시된 이전 상태 대신 최신 결제 정보로 검증)
+        if (!"paid".equals(webhookDTO.getStatus())) {
+            paymentVerificationCoalescer.evict(impUid);
+        }
         PaymentDataDTO paymentData = verifyPayment(impUid);
 
         // 주문 정보 검증
@@ -232,6 +246,19 @@ public class PaymentService {
         }
     }
 
+    // 수신함 웹훅 처리(처리 결과와 수신함 완료 표시를 같은 트랜잭션으로 커밋)
+    public void processInboxWebhook(PortOneWebhookDTO webhookDTO, long webhookInboxId, String claimToken) {
+        processWebhook(webhookDTO);
+
+        // 임대 만료로 다른 워커가 다시 선점했다면 처리 결과를 롤백해 중복 반영 방지
+        if (paymentWebhookInboxDao.completeWebhookInbox(webhookInboxId, claimToken) == 0) {
+            log.warn("웹훅 수신함 선점 만료로 처리 결과 롤백 - 수신함ID: {}", webhookInboxId);
+            throw new PaymentException.WebhookInboxException(
+                String.format("웹훅 수신함 선점이 만료되었습니다. (수신함ID: %s)", webhookInboxId)
+            );
+        }
+    }
+
 
     /**
      * 포트원 결제 ID(imp_uid)로 결제 이력을 조회
@@ -347,24 +374,56 @@ public class PaymentService {
     /**
      * 결제 이력을 검색 조건에 따라 조회합니다.
      *
-     * @param searchDTO 검색 조건을 담은 DTO
-     * @return 검색 조건에 맞는 결제 이력 목록
+     * 기간 조건과 같은 결제 완료 시각(paid_at, payment_history_id) 내림차순 키셋 페이지로 조회하며,
+     * 연락처 복호화는 반환하는 페이지의 결제 이력에만 수행합니다.
+     *
+     * @param searchDTO 검색 조건 및 페이지 조회 위치를 담은 DTO
+     * @return 검색 조건에 맞는 결제 이력 페이지
      * @throws IllegalArgumentException 유효하지 않은 검색 조건이 입력된 경우
      */
-    public List<PaymentHistory> searchPaymentHistory(PaymentHistorySearchDTO searchDTO) {
+    @Transactional(
+        readOnly = true,
+        isolation = Isolation.READ_COMMITTED
+    )
+    public PaymentHistoryPageDTO searchPaymentHistory(PaymentHistorySearchDTO searchDTO) {
         // 검색 조건 검증
         validateSearchConditions(searchDTO);
-        
+        int size = searchDTO.getSize() == null ? DEFAULT_HISTORY_PAGE_SIZE :
+            Math.min(Math.max(searchDTO.getSize(), 1), MAX_HISTORY_PAGE_SIZE);
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("impUid", searchDTO.getImpUid());
+        params.put("merchantUid", searchDTO.getMerchantUid());
+        params.put("buyerEmail", searchDTO.getBuyerEmail());
+        params.put("orderId", searchDTO.getOrderId());
+        params.put("status", searchDTO.getStatus());
+        params.put("payMethod", searchDTO.getPayMethod());
+        params.put("startDate", searchDTO.getStartDate());
+        params.put("endDate", searchDTO.getEndDate());
+        params.put("cursorPaidAt", searchDTO.getCursorPaidAt());
+        params.put("cursorPaymentHistoryId", searchDTO.getCursorPaymentHistoryId());
+        // 다음 페이지 존재 여부 확인용으로 1건 더 조회
+        params.put("limit", size + 1);
+
         // 결제 이력 검색 실행
-        List<PaymentHistory> histories = paymentHistoryDao.searchPaymentHistory(searchDTO);
+        List<PaymentHistory> histories = paymentHistoryDao.searchPaymentHistory(params);
+        PaymentHistoryPageDTO paymentHistoryPageDTO = new PaymentHistoryPageDTO();
+        boolean hasNext = histories.size() > size;
+        if (hasNext) {
+            histories = histories.subList(0, size);
+            // 다음 페이지 조회 위치(마지막 결제 이력의 paid_at, payment_history_id)
+            PaymentHistory lastHistory = histories.get(size - 1);
+            paymentHistoryPageDTO.setNextCursorPaidAt(lastHistory.getPaidAt());
+            paymentHistoryPageDTO.setNextCursorPaymentHistoryId(lastHistory.getPaymentHistoryId());
+        }
+
+        // 반환하는 페이지의 연락처만 복호화
         for (PaymentHistory paymentHistory : histories) {
             paymentHistory.setBuyerTel(phoneEncryptionUtil.decrypt(paymentHistory.getBuyerTel()));
         }
-        
-        // 검색 결과가 없는 경우 빈 리스트 반환
-        histories = (histories != null) ? histories : Collections.emptyList();
-        
-        return histories;
+        paymentHistoryPageDTO.setHistories(histories);
+        paymentHistoryPageDTO.setHasNext(hasNext);
+        return paymentHistoryPageDTO;
     }
 
     // 총 매출 조회
@@ -379,63 +438,13 @@ public class PaymentService {
 
     // 결제 정보 검증 요청
     private PaymentDataDTO requestPaymentVerification(String paymentId) {
-        String url = baseUrl + "/payments/" + paymentId;
-        HttpEntity<Void> request = new HttpEntity<>(portOneApiService.createAuthHeaders());
-        
-        ResponseEntity<IamportV1ResponseDTO<PaymentDataDTO>> response = restTemplate.exchange(
-            url, 
-            HttpMethod.GET, 
-            request, 
-            new ParameterizedTypeReference<IamportV1ResponseDTO<PaymentDataDTO>>() {}
-        );
-            
-        if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
-            log.error("결제 정보 조회 실패");
-            throw new PortOneException.ServerException("결제 정보 조회 실패: " + response.getStatusCode());
-        }
-        
-        IamportV1ResponseDTO<PaymentDataDTO> responseBody = Objects.requireNonNull(response.getBody());
-
-        // V1 응답 코드 확인 (0이 성공)
-        if (responseBody.getCode() != 0) {
-            log.error("V1 API 오류: code={}, message={}", responseBody.getCode(), responseBody.getMessage());
-            throw new PortOneException.ServerException("V1 API 오류: " + responseBody.getMessage());
-        }
-        
-        return responseBody.getResponse();
+        // 동시 호출 제한/서킷 브레이커/제한 시간은 포트원 클라이언트에서 적용
+        return portOneReactiveClient.getPayment(paymentId).block();
     }
 
     // 결제 취소 요청
     private PaymentDataDTO requestPortOneCancellation(String paymentId, String reason) {
-        String url = baseUrl + "/payments/cancel";
-            
-        // 요청 본문 생성
-        CancelRequestDTO requestBody = new CancelRequestDTO();
-        requestBody.setReason(reason);
-            
-        // API 요청 객체 생성
-        HttpEntity<CancelRequestDTO> request = new HttpEntity<>(
-            requestBody, 
-            portOneApiService.createAuthHeaders()
-        );
-
-        // API 호출
-        ResponseEntity<IamportV1ResponseDTO<PaymentDataDTO>> response = restTemplate.exchange(
-            url, 
-            HttpMethod.POST, 
-            request, 
-            new ParameterizedTypeReference<IamportV1ResponseDTO<PaymentDataDTO>>() {}
-        );
-            
-        if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
-            log.error("결제 취소 실패");
-            throw new PortOneException.ServerException("결제 취소 실패: " + response.getStatusCode());
-        }
-        IamportV1ResponseDTO<PaymentDataDTO> responseBody = Objects.requireNonNull(response.getBody());
-        if (responseBody.getCode() != 0) {
-            throw new PortOneException.ServerException("V1 API 오류: " + responseBody.getMessage());
-        }
-        return responseBody.getResponse();
+        return portOneReactiveClient.cancelPayment(paymentId, reason).block();
     }
 
     // 결제 요청 기본 정보 검증
@@ -722,6 +731,7 @@ public class PaymentService {
             log.error("결제 이력 저장 실패. paymentImpUid: {}", paymentDataDTO.getImp_uid());
             throw new PaymentException.PaymentHistoryException("결제 이력 저장에 실패했습니다.");
         }
+        dashboardService.applyPaymentHistoryCreated(history);
     }
 
     // PaymentDataDTO로부터 PaymentHistory 엔티티를 생성
@@ -779,16 +789,12 @@ public class PaymentService {
             }
             
             // JSON 파싱
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode jsonNode = objectMapper.readTree(objectMapper.readTree(customData).asText());
+            PaymentCustomDataDTO customDataDTO = jsonCodecs.readPaymentCustomData(customData);
 
             // totalPrice와 shippingFee 추출
-            JsonNode totalPriceNode = jsonNode.get("totalPrice");
-            JsonNode shippingFeeNode = jsonNode.get("shippingFee");
-            
-            if (totalPriceNode != null && shippingFeeNode != null) {
-                BigDecimal totalPrice = BigDecimal.valueOf(totalPriceNode.asLong());
-                BigDecimal shippingFee = BigDecimal.valueOf(shippingFeeNode.asLong());
+            if (customDataDTO != null && customDataDTO.getTotalPrice() != null && customDataDTO.getShippingFee() != null) {
+                BigDecimal totalPrice = BigDecimal.valueOf(customDataDTO.getTotalPrice());
+                BigDecimal shippingFee = BigDecimal.valueOf(customDataDTO.getShippingFee());
                 return totalPrice.add(shippingFee);
             }
             
@@ -881,6 +887,7 @@ public class PaymentService {
                 log.error("웹훅 결제 이력 저장 실패. impUid: {}", webhookDTO.getImpUid());
                 throw new PaymentException.PaymentHistoryException("웹훅 결제 이력 저장에 실패했습니다.");
             }
+            dashboardService.applyPaymentHistoryCreated(history);
             log.info("웹훅 결제 이력 저장 성공 - impUid: {}, status: {}", webhookDTO.getImpUid(), webhookDTO.getStatus());
         } catch (Exception e) {
             log.error("웹훅 결제 이력 저장 중 오류 발생: {}", e.getMessage());
@@ -912,7 +919,7 @@ public class PaymentService {
     }
 
 
-    // 결제 완료 이메일 발송
+    // 결제 완료 이메일 발송 등록(커밋 후 발송함에서 발송)
     private void sendPaymentCompletionEmail(Order order, PortOneWebhookDTO webhookDTO) {
         User user = userDao.findByUserId(order.getUserId());
         if (user != null) {
@@ -924,8 +931,8 @@ public class PaymentService {
                     BigDecimal.valueOf(webhookDTO.getAmount())
                 );
             } catch (Exception e) {
-                // 이메일 발송 실패는 전체 프로세스를 중단시키지 않음
-                log.error("결제 완료 이메일 발송 실패 - 주문번호: {}, 에러: {}", 
+                // 이메일 발송 등록 실패는 전체 프로세스를 중단시키지 않음
+                log.error("결제 완료 이메일 발송 등록 실패 - 주문번호: {}, 에러: {}", 
                     webhookDTO.getMerchantUid(), 
                     e.getMessage()
                 );
@@ -0,0 +1,216 @@
+package com.my.gyp_portfolio_shoppingmall.service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import com.my.gyp_portfolio_shoppingmall.dao.PaymentWebhookInboxDao;
+import com.my.gyp_portfolio_shoppingmall.dto.PaymentDto.PortOneWebhookDTO;
+import com.my.gyp_portfolio_shoppingmall.exception.PortOneException;
+import com.my.gyp_portfolio_shoppingmall.support.PaymentLogSupport;
+import com.my.gyp_portfolio_shoppingmall.vo.PaymentWebhookInbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 포트원 웹훅 수신함
+ *
+ * 웹훅은 수신 즉시 수신함 테이블에 기록하고 응답하며, 실제 처리(결제 검증, 주문/재고 반영)는 워커 풀이 비동기로 수행한다.
+ * imp_uid + 상태 유니크 키로 포트원의 재전송을 한 건으로 합치고, 선점 시 주문번호별로 가장 먼저 수신된 미완료 웹훅만
+ * 가져가므로 같은 주문의 웹훅은 노드와 관계없이 수신 순서대로 하나씩 처리된다.
+ * 처리 결과와 완료 표시는 같은 트랜잭션으로 커밋되고, 일시적 오류는 지수 백오프로 재시도한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentWebhookInboxService {
+
+    private static final Set<String> SUPPORTED_STATUSES = Set.of("paid", "failed", "cancelled");
+    // 선점 임대 시간(결제 처리 트랜잭션 타임아웃보다 길게)
+    private static final int LOCK_SECONDS = 60;
+    private static final int MAX_ATTEMPTS = 10;
+    private static final long BASE_RETRY_DELAY_SECONDS = 5;
+    private static final long MAX_RETRY_DELAY_SECONDS = 30 * 60;
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Value("${payment.webhook.worker-threads:4}")
+    private int workerThreads;
+
+    private final PaymentService paymentService;
+    private final PaymentWebhookInboxDao paymentWebhookInboxDao;
+
+    private final String ownerId = resolveOwnerId();
+
+    private ExecutorService workerPool;
+    private Semaphore workerPermits;
+
+    @PostConstruct
+    public void startWorkerPool() {
+        int threads = Math.max(workerThreads, 1);
+        workerPool = Executors.newFixedThreadPool(threads);
+        workerPermits = new Semaphore(threads);
+    }
+
+    @PreDestroy
+    public void stopWorkerPool() throws InterruptedException {
+        // 처리 중인 웹훅은 완료를 기다리고, 끝나지 않은 건은 임대 만료 후 재처리
+        workerPool.shutdown();
+        if (!workerPool.awaitTermination(LOCK_SECONDS, TimeUnit.SECONDS)) {
+            workerPool.shutdownNow();
+        }
+    }
+
+    // 웹훅 수신 기록(중복 수신이면 false)
+    public boolean receive(PortOneWebhookDTO webhookDTO) {
+        if (webhookDTO == null) {
+            log.error("웹훅 데이터가 없습니다.");
+            throw new PortOneException.PaymentVerificationException("웹훅 데이터가 없습니다.");
+        }
+        if (!StringUtils.hasText(webhookDTO.getImpUid()) || !StringUtils.hasText(webhookDTO.getMerchantUid())) {
+            log.error("결제 ID 또는 주문번호가 누락되었습니다.");
+            throw new PortOneException.PaymentVerificationException("결제 ID 또는 주문번호가 누락되었습니다.");
+        }
+        if (!SUPPORTED_STATUSES.contains(webhookDTO.getStatus())) {
+            String message = "처리되지 않은 결제 상태: " + webhookDTO.getStatus();
+            log.error(message);
+            throw new PortOneException.PaymentVerificationException(message);
+        }
+
+        PaymentWebhookInbox inbox = new PaymentWebhookInbox();
+        inbox.setImpUid(webhookDTO.getImpUid());
+        inbox.setMerchantUid(webhookDTO.getMerchantUid());
+        inbox.setStatus(webhookDTO.getStatus());
+        inbox.setPaymentStatus(webhookDTO.getPaymentStatus());
+        inbox.setAmount(webhookDTO.getAmount());
+        inbox.setCancelAmount(webhookDTO.getCancelAmount());
+        inbox.setPaidAt(webhookDTO.getPaidAt());
+        inbox.setFailedAt(webhookDTO.getFailedAt());
+        inbox.setCancelledAt(webhookDTO.getCancelledAt());
+
+        boolean inserted = paymentWebhookInboxDao.insertWebhookInboxIfAbsent(inbox) > 0;
+        if (!inserted) {
+            log.info("중복 웹훅 수신 무시 - impUid: {}, status: {}",
+                PaymentLogSupport.maskPaymentId(webhookDTO.getImpUid()), webhookDTO.getStatus());
+        }
+        return inserted;
+    }
+
+    // 처리 가능한 웹훅을 유휴 워커 수만큼 선점해 워커 풀에 전달
+    @Scheduled(fixedDelay = 500L)
+    public void dispatchPendingWebhooks() {
+        int available = workerPermits.availablePermits();
+        if (available == 0) {
+            return;
+        }
+
+        String claimToken = ownerId + ":" + UUID.randomUUID();
+        List<PaymentWebhookInbox> claimed;
+        try {
+            claimed = paymentWebhookInboxDao.claimWebhookInboxes(claimToken, available, LOCK_SECONDS);
+        } catch (Exception e) {
+            log.error("웹훅 수신함 선점 실패", e);
+            return;
+        }
+
+        for (PaymentWebhookInbox inbox : claimed) {
+            workerPermits.acquireUninterruptibly();
+            try {
+                workerPool.execute(() -> {
+                    try {
+                        process(inbox);
+                    } finally {
+                        workerPermits.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                // 종료 중이라 제출하지 못한 건은 임대 만료 후 재처리
+                workerPermits.release();
+                log.warn("웹훅 처리 작업 제출 실패 - 수신함ID: {}", inbox.getWebhookInboxId());
+            }
+        }
+    }
+
+    // 웹훅 한 건 처리(검증 오류는 즉시 실패, 그 외 오류는 백오프 후 재시도)
+    private void process(PaymentWebhookInbox inbox) {
+        long webhookInboxId = inbox.getWebhookInboxId();
+        String claimToken = inbox.getClaimToken();
+        String maskedImpUid = PaymentLogSupport.maskPaymentId(inbox.getImpUid());
+
+        try {
+            paymentService.processInboxWebhook(toWebhookDTO(inbox), webhookInboxId, claimToken);
+            log.info("웹훅 처리 성공 - impUid: {}, status: {}, 시도: {}", maskedImpUid, inbox.getStatus(), inbox.getAttempts());
+        } catch (PortOneException.PaymentVerificationException | IllegalArgumentException e) {
+            log.error("웹훅 검증 실패 - impUid: {}, status: {}, 사유: {}", maskedImpUid, inbox.getStatus(), e.getMessage());
+            markFailed(webhookInboxId, claimToken, e);
+        } catch (Exception e) {
+            if (inbox.getAttempts() >= MAX_ATTEMPTS) {
+                log.error("웹훅 처리 재시도 한도 초과 - impUid: {}, status: {}, 시도: {}",
+                    maskedImpUid, inbox.getStatus(), inbox.getAttempts(), e);
+                markFailed(webhookInboxId, claimToken, e);
+                return;
+            }
+
+            long delaySeconds = Math.min(BASE_RETRY_DELAY_SECONDS << (inbox.getAttempts() - 1), MAX_RETRY_DELAY_SECONDS);
+            log.warn("웹훅 처리 실패, 재시도 예약 - impUid: {}, status: {}, 시도: {}, {}초 후 재시도, 사유: {}",
+                maskedImpUid, inbox.getStatus(), inbox.getAttempts(), delaySeconds, e.getMessage());
+            try {
+                paymentWebhookInboxDao.retryWebhookInbox(webhookInboxId, claimToken, delaySeconds, errorMessageOf(e));
+            } catch (Exception retryException) {
+                // 기록 실패 시 임대 만료 후 재처리
+                log.error("웹훅 재시도 예약 실패 - 수신함ID: {}", webhookInboxId, retryException);
+            }
+        }
+    }
+
+    private void markFailed(long webhookInboxId, String claimToken, Exception cause) {
+        try {
+            paymentWebhookInboxDao.failWebhookInbox(webhookInboxId, claimToken, errorMessageOf(cause));
+        } catch (Exception e) {
+            log.error("웹훅 실패 기록 실패 - 수신함ID: {}", webhookInboxId, e);
+        }
+    }
+
+    private PortOneWebhookDTO toWebhookDTO(PaymentWebhookInbox inbox) {
+        PortOneWebhookDTO webhookDTO = new PortOneWebhookDTO();
+        webhookDTO.setImpUid(inbox.getImpUid());
+        webhookDTO.setMerchantUid(inbox.getMerchantUid());
+        webhookDTO.setStatus(inbox.getStatus());
+        webhookDTO.setPaymentStatus(inbox.getPaymentStatus());
+        webhookDTO.setAmount(inbox.getAmount());
+        webhookDTO.setCancelAmount(inbox.getCancelAmount());
+        webhookDTO.setPaidAt(inbox.getPaidAt());
+        webhookDTO.setFailedAt(inbox.getFailedAt());
+        webhookDTO.setCancelledAt(inbox.getCancelledAt());
+        return webhookDTO;
+    }
+
+    private static String errorMessageOf(Exception e) {
+        String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    private static String resolveOwnerId() {
+        String hostName;
+        try {
+            hostName = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            hostName = "unknown";
+        }
+        return hostName + ":" + UUID.randomUUID();
+    }
+}
\ No newline at end of file
@@ -1,10 +1,17 @@
 package com.my.gyp_portfolio_shoppingmall.service;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -35,9 +42,33 @@ public class PortOneApiService {
     @Value("${iamport.api.base-url}")
     private String baseUrl;
 
+    // 노드 간 공유 토큰 및 갱신 잠금 키
+    private static final String TOKEN_KEY = "portone:access-token:shared";
+    private static final String TOKEN_LOCK_KEY = "portone:access-token:lock";
+    private static final long TOKEN_LOCK_TTL_MILLIS = 10 * 1000L;
+    // 만료 전 선제 갱신 구간
+    private static final long EARLY_REFRESH_MILLIS = 5 * 60 * 1000L;
+    // 포트원은 만료 약 1분 전까지 같은 토큰을 돌려주므로, 재발급 결과 만료 시각이 그대로면 이 구간 전까지 갱신 보류
+    private static final long REISSUE_THRESHOLD_MILLIS = 60 * 1000L;
+    // 재발급 기준 구간 안에서도 같은 토큰이 오면 최소 이 간격을 두고 재시도
+    private static final long REISSUE_RETRY_MILLIS = 5 * 1000L;
+    // 다른 노드의 갱신 결과 대기
+    private static final long LOCK_WAIT_MILLIS = 3 * 1000L;
+    private static final long LOCK_POLL_MILLIS = 100L;
+    // 응답에 만료 시각이 없을 때 사용하는 유효 시간(V1 토큰 기본 30분)
+    private static final long DEFAULT_TOKEN_TTL_MILLIS = 30 * 60 * 1000L;
+
+    // 본인이 잡은 잠금만 해제
+    private static final DefaultRedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+        Long.class
+    );
+
     private final RestTemplate restTemplate;
-    private String accessToken;
-    private long tokenExpiryTime;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile CachedToken cachedToken;
 
     public String getBaseUrl() {
         return baseUrl;
@@ -51,15 +82,154 @@ public class PortOneApiService {
         return impCode;
     }
 
-    // 아임포트 V1 토큰 발급
+    // 아임포트 V1 토큰 조회(만료 임박 시 노드당 한 스레드만 갱신, 나머지는 기존 토큰 사용 또는 대기)
     public String getAccessToken() {
-        if (accessToken == null || System.currentTimeMillis() >= tokenExpiryTime) {
-            obtainNewAccessToken();
+        CachedToken token = cachedToken;
+        long now = System.currentTimeMillis();
+        if (token != null && !token.needsRefresh(now)) {
+            return token.value;
+        }
+
+        // 아직 유효한 토큰이 있으면 다른 스레드가 갱신하는 동안 기다리지 않음
+        if (token != null && !token.isExpired(now)) {
+            if (!refreshLock.tryLock()) {
+                return token.value;
+            }
+        } else {
+            refreshLock.lock();
+        }
+
+        try {
+            token = cachedToken;
+            now = System.currentTimeMillis();
+            if (token != null && !token.needsRefresh(now)) {
+                return token.value;
+            }
+            cachedToken = refreshAccessToken(token);
+            return cachedToken.value;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    // 갱신 실패 시 아직 만료되지 않은 기존 토큰으로 계속 처리
+    private CachedToken refreshAccessToken(CachedToken currentToken) {
+        try {
+            return refreshSharedAccessToken(currentToken);
+        } catch (PortOneException.TokenAcquisitionException e) {
+            if (currentToken != null && !currentToken.isExpired(System.currentTimeMillis())) {
+                log.warn("포트원 토큰 선제 갱신 실패 - 기존 토큰 사용: {}", e.getMessage());
+                return currentToken;
+            }
+            throw e;
+        }
+    }
+
+    // 공유 토큰 확인 후 클러스터 잠금을 잡은 노드만 발급 요청
+    private CachedToken refreshSharedAccessToken(CachedToken currentToken) {
+        String lockOwner = UUID.randomUUID().toString();
+        CachedToken previousToken = currentToken;
+        boolean locked;
+        try {
+            CachedToken sharedToken = readSharedToken();
+            if (sharedToken != null && !sharedToken.needsRefresh(System.currentTimeMillis())) {
+                return sharedToken;
+            }
+            if (sharedToken != null) {
+                previousToken = sharedToken;
+            }
+            locked = Boolean.TRUE.equals(redisTemplate.opsForValue()
+                .setIfAbsent(TOKEN_LOCK_KEY, lockOwner, TOKEN_LOCK_TTL_MILLIS, TimeUnit.MILLISECONDS));
+        } catch (DataAccessException e) {
+            log.warn("포트원 토큰 공유 저장소 사용 불가 - 직접 발급: {}", e.getMessage());
+            return backOffIfNotReissued(previousToken, obtainNewAccessToken());
+        }
+
+        if (locked) {
+            try {
+                CachedToken newToken = backOffIfNotReissued(previousToken, obtainNewAccessToken());
+                writeSharedToken(newToken);
+                return newToken;
+            } finally {
+                releaseTokenLock(lockOwner);
+            }
+        }
+
+        // 다른 노드가 갱신 중이면 공유 토큰이 바뀔 때까지 대기
+        CachedToken sharedToken = waitForSharedToken();
+        if (sharedToken != null) {
+            return sharedToken;
+        }
+        log.warn("포트원 토큰 공유 갱신 대기 시간 초과 - 직접 발급");
+        return backOffIfNotReissued(previousToken, obtainNewAccessToken());
+    }
+
+    // 만료 시각이 늘지 않은 재발급(같은 토큰)이면 재발급 기준 구간 전까지 갱신 보류
+    private CachedToken backOffIfNotReissued(CachedToken previousToken, CachedToken issuedToken) {
+        if (previousToken == null || issuedToken.expiresAtMillis > previousToken.expiresAtMillis) {
+            return issuedToken;
+        }
+        log.info("포트원 토큰 만료 시각 변동 없음 - 만료 {}초 전까지 갱신 보류", REISSUE_THRESHOLD_MILLIS / 1000);
+        long refreshAtMillis = Math.max(issuedToken.expiresAtMillis - REISSUE_THRESHOLD_MILLIS,
+            System.currentTimeMillis() + REISSUE_RETRY_MILLIS);
+        return new CachedToken(issuedToken.value, issuedToken.expiresAtMillis, refreshAtMillis);
+    }
+
+    private CachedToken waitForSharedToken() {
+        long deadline = System.currentTimeMillis() + LOCK_WAIT_MILLIS;
+        try {
+            while (System.currentTimeMillis() < deadline) {
+                Thread.sleep(LOCK_POLL_MILLIS);
+                CachedToken sharedToken = readSharedToken();
+                if (sharedToken != null && !sharedToken.needsRefresh(System.currentTimeMillis())) {
+                    return sharedToken;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (DataAccessException e) {
+            log.warn("포트원 공유 토큰 조회 실패: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    // 공유 토큰 조회(값 형식: 만료시각|갱신시각|토큰)
+    private CachedToken readSharedToken() {
+        String value = redisTemplate.opsForValue().get(TOKEN_KEY);
+        String[] parts = value != null ? value.split("\\|", 3) : new String[0];
+        if (parts.length != 3) {
+            return null;
+        }
+        try {
+            return new CachedToken(parts[2], Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private void writeSharedToken(CachedToken token) {
+        long ttlMillis = token.expiresAtMillis - System.currentTimeMillis();
+        if (ttlMillis <= 0) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(TOKEN_KEY, token.expiresAtMillis + "|" + token.refreshAtMillis + "|" + token.value,
+                ttlMillis, TimeUnit.MILLISECONDS);
+        } catch (DataAccessException e) {
+            log.warn("포트원 공유 토큰 저장 실패: {}", e.getMessage());
         }
-        return accessToken;
     }
 
-    private void obtainNewAccessToken() {
+    // 본인이 잡은 잠금만 해제(실패 시 잠금 TTL로 만료)
+    private void releaseTokenLock(String lockOwner) {
+        try {
+            redisTemplate.execute(RELEASE_LOCK_SCRIPT, Collections.singletonList(TOKEN_LOCK_KEY), lockOwner);
+        } catch (DataAccessException e) {
+            log.warn("포트원 토큰 갱신 잠금 해제 실패: {}", e.getMessage());
+        }
+    }
+
+    private CachedToken obtainNewAccessToken() {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
 
@@ -92,16 +262,24 @@ public class PortOneApiService {
                     throw new PortOneException.TokenAcquisitionException("응답 데이터가 없습니다.");
                 }
                 
-                this.accessToken = (String) responseData.get("access_token");
-                if (this.accessToken == null) {
+                String accessToken = (String) responseData.get("access_token");
+                if (accessToken == null) {
                     throw new PortOneException.TokenAcquisitionException("액세스 토큰이 없습니다.");
                 }
                 
-                this.tokenExpiryTime = System.currentTimeMillis() + (3600 * 1000);
+                // 응답의 만료 시각(epoch 초) 우선 사용
+                Object expiredAt = responseData.get("expired_at");
+                long expiresAtMillis = expiredAt instanceof Number ? 
+                    ((Number) expiredAt).longValue() * 1000 : 
+                    System.currentTimeMillis() + DEFAULT_TOKEN_TTL_MILLIS;
                 log.info("아임포트 V1 토큰 발급 성공");
+                return new CachedToken(accessToken, expiresAtMillis);
             } else {
                 throw new PortOneException.TokenAcquisitionException("토큰 발급 실패");
             }
+        } catch (PortOneException.TokenAcquisitionException e) {
+            log.error("아임포트 V1 토큰 발급 실패", e);
+            throw e;
         } catch (Exception e) {
             log.error("아임포트 V1 토큰 발급 실패", e);
             throw new PortOneException.TokenAcquisitionException("토큰 발급 실패: " + e.getMessage());
@@ -115,4 +293,29 @@ public class PortOneApiService {
         headers.set("Authorization", getAccessToken()); // V1은 Bearer 없이 토큰만
         return headers;
     }
+
+    // 발급된 토큰과 만료 시각, 선제 갱신 시작 시각
+    private static final class CachedToken {
+        private final String value;
+        private final long expiresAtMillis;
+        private final long refreshAtMillis;
+
+        private CachedToken(String value, long expiresAtMillis) {
+            this(value, expiresAtMillis, expiresAtMillis - EARLY_REFRESH_MILLIS);
+        }
+
+        private CachedToken(String value, long expiresAtMillis, long refreshAtMillis) {
+            this.value = value;
+            this.expiresAtMillis = expiresAtMillis;
+            this.refreshAtMillis = refreshAtMillis;
+        }
+
+        private boolean needsRefresh(long nowMillis) {
+            return nowMillis >= refreshAtMillis || isExpired(nowMillis);
+        }
+
+        private boolean isExpired(long nowMillis) {
+            return nowMillis >= expiresAtMillis;
+        }
+    }
 }
\ No newline at end of file
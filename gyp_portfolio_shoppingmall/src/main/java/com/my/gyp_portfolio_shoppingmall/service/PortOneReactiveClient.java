@@ -0,0 +1,259 @@
+package com.my.gyp_portfolio_shoppingmall.service;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.my.gyp_portfolio_shoppingmall.dto.PaymentDto.CancelRequestDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.PaymentDto.IamportV1ResponseDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.PaymentDto.PaymentDataDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.PaymentDto.PaymentPageDTO;
+import com.my.gyp_portfolio_shoppingmall.exception.PortOneException;
+import com.my.gyp_portfolio_shoppingmall.support.CircuitBreaker;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 포트원 V1 API 논블로킹 클라이언트
+ *
+ * 모든 호출은 동시 호출 수 제한(벌크헤드), 서킷 브레이커, 작업별 제한 시간을 거친다.
+ * 동시 호출 수를 넘거나 서킷이 열려 있으면 연결을 기다리지 않고 즉시 실패하므로,
+ * 포트원 장애 시에도 요청 스레드가 외부 응답 대기로 묶이지 않는다.
+ * 연결 실패, 제한 시간 초과, 5xx/429 응답만 서킷 실패로 집계하고 그 외 응답은 정상 호출로 본다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PortOneReactiveClient {
+
+    private static final ParameterizedTypeReference<IamportV1ResponseDTO<PaymentDataDTO>> PAYMENT_RESPONSE_TYPE =
+        new ParameterizedTypeReference<IamportV1ResponseDTO<PaymentDataDTO>>() {};
+    private static final ParameterizedTypeReference<IamportV1ResponseDTO<PaymentPageDTO>> PAYMENT_PAGE_RESPONSE_TYPE =
+        new ParameterizedTypeReference<IamportV1ResponseDTO<PaymentPageDTO>>() {};
+
+    // 동시 호출 제한
+    @Value("${portone.client.max-concurrent-calls:50}")
+    private int maxConcurrentCalls;
+
+    // 작업별 제한 시간(인증 토큰 조회 포함)
+    @Value("${portone.client.verify-timeout-ms:3000}")
+    private long verifyTimeoutMillis;
+
+    @Value("${portone.client.cancel-timeout-ms:10000}")
+    private long cancelTimeoutMillis;
+
+    // 서킷 브레이커(최근 호출 수, 최소 호출 수, 실패율 %, 열림 유지 시간, 반열림 시험 호출 수)
+    @Value("${portone.client.circuit.window-size:20}")
+    private int circuitWindowSize;
+
+    @Value("${portone.client.circuit.minimum-calls:10}")
+    private int circuitMinimumCalls;
+
+    @Value("${portone.client.circuit.failure-rate-threshold:50}")
+    private int circuitFailureRateThreshold;
+
+    @Value("${portone.client.circuit.open-duration-ms:30000}")
+    private long circuitOpenDurationMillis;
+
+    @Value("${portone.client.circuit.half-open-calls:3}")
+    private int circuitHalfOpenCalls;
+
+    private final WebClient portOneWebClient;
+    private final PortOneApiService portOneApiService;
+
+    private final AtomicInteger activeCalls = new AtomicInteger();
+    private CircuitBreaker circuitBreaker;
+
+    @PostConstruct
+    public void initCircuitBreaker() {
+        circuitBreaker = new CircuitBreaker("portone", circuitWindowSize, circuitMinimumCalls,
+            circuitFailureRateThreshold, circuitOpenDurationMillis, circuitHalfOpenCalls);
+    }
+
+    // 결제 단건 조회
+    public Mono<PaymentDataDTO> getPayment(String impUid) {
+        Mono<PaymentDataDTO> call = authHeaders()
+            .flatMap(headers -> portOneWebClient.get()
+                .uri("/payments/{impUid}", impUid)
+                .headers(h -> h.addAll(headers))
+                .retrieve()
+                .bodyToMono(PAYMENT_RESPONSE_TYPE))
+            .map(response -> unwrap(response, "결제 정보 조회"));
+        return guard("결제 정보 조회", Duration.ofMillis(verifyTimeoutMillis), call);
+    }
+
+    // 가맹점 주문번호로 결제 단건 조회(가장 최근 결제 건)
+    public Mono<PaymentDataDTO> findPaymentByMerchantUid(String merchantUid) {
+        Mono<PaymentDataDTO> call = authHeaders()
+            .flatMap(headers -> portOneWebClient.get()
+                .uri("/payments/find/{merchantUid}", merchantUid)
+                .headers(h -> h.addAll(headers))
+                .retrieve()
+                .bodyToMono(PAYMENT_RESPONSE_TYPE))
+            .map(response -> unwrap(response, "주문번호 결제 조회"));
+        return guard("주문번호 결제 조회", Duration.ofMillis(verifyTimeoutMillis), call);
+    }
+
+    // 결제 취소
+    public Mono<PaymentDataDTO> cancelPayment(String impUid, String reason) {
+        CancelRequestDTO requestBody = new CancelRequestDTO();
+        requestBody.setImpUid(impUid);
+        requestBody.setReason(reason);
+
+        Mono<PaymentDataDTO> call = authHeaders()
+            .flatMap(headers -> portOneWebClient.post()
+                .uri("/payments/cancel")
+                .headers(h -> h.addAll(headers))
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToMono(PAYMENT_RESPONSE_TYPE))
+            .map(response -> unwrap(response, "결제 취소"));
+        return guard("결제 취소", Duration.ofMillis(cancelTimeoutMillis), call)
+            .onErrorResume(PortOneException.NetworkException.class, e -> confirmCancellation(impUid, e));
+    }
+
+    // 취소 응답을 받지 못한 경우 결제 상태를 다시 조회해 이미 취소되었으면 취소 결과로 사용
+    private Mono<PaymentDataDTO> confirmCancellation(String impUid, PortOneException.NetworkException cause) {
+        return getPayment(impUid)
+            .onErrorResume(e -> {
+                log.warn("결제 취소 결과 재조회 실패 - impUid: {}, 사유: {}", impUid, e.getMessage());
+                return Mono.empty();
+            })
+            .filter(payment -> "cancelled".equals(payment.getStatus()))
+            .doOnNext(payment -> log.info("결제 취소 응답 누락 후 재조회로 취소 확인 - impUid: {}", impUid))
+            .switchIfEmpty(Mono.defer(() -> {
+                // 취소 여부를 확인하지 못한 결제는 결제 정합성 점검에서 포트원 상태 기준으로 보정
+                log.error("결제 취소 결과 미확인 - impUid: {}, 결제 정합성 점검 대상", impUid);
+                return Mono.error(new PortOneException.NetworkException(
+                    cause.getMessage() + " 취소 결과를 확인하지 못해 결제 정합성 점검에서 확인합니다."));
+            }));
+    }
+
+    // 결제 요청 시각 구간별 결제 목록 조회(전체 상태, 요청 시각 오름차순)
+    public Mono<PaymentPageDTO> getPayments(long fromEpochSecond, long toEpochSecond, int page, int limit) {
+        Mono<PaymentPageDTO> call = authHeaders()
+            .flatMap(headers -> portOneWebClient.get()
+                .uri(uriBuilder -> uriBuilder
+                    .path("/payments/status/all")
+                    .queryParam("from", fromEpochSecond)
+                    .queryParam("to", toEpochSecond)
+                    .queryParam("page", page)
+                    .queryParam("limit", limit)
+                    .queryParam("sorting", "started")
+                    .build())
+                .headers(h -> h.addAll(headers))
+                .retrieve()
+                .bodyToMono(PAYMENT_PAGE_RESPONSE_TYPE))
+            .map(response -> unwrap(response, "결제 목록 조회"));
+        return guard("결제 목록 조회", Duration.ofMillis(verifyTimeoutMillis), call);
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    public int getActiveCalls() {
+        return activeCalls.get();
+    }
+
+    // 토큰 조회는 Redis/토큰 발급 호출로 블로킹될 수 있어 별도 스케줄러에서 수행
+    private Mono<HttpHeaders> authHeaders() {
+        return Mono.fromCallable(portOneApiService::createAuthHeaders)
+            .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // 벌크헤드 -> 서킷 브레이커 -> 제한 시간 순으로 적용하고 예외를 포트원 예외로 변환
+    private <T> Mono<T> guard(String operation, Duration timeout, Mono<T> call) {
+        return Mono.defer(() -> {
+            if (activeCalls.incrementAndGet() > maxConcurrentCalls) {
+                activeCalls.decrementAndGet();
+                log.warn("포트원 동시 호출 한도 초과로 즉시 실패 - 작업: {}, 한도: {}", operation, maxConcurrentCalls);
+                return Mono.error(new PortOneException.ServerException(
+                    operation + " 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+            }
+            if (!circuitBreaker.tryAcquirePermission()) {
+                activeCalls.decrementAndGet();
+                return Mono.error(new PortOneException.ServerException(
+                    "포트원 서버 장애로 " + operation + " 요청이 일시 차단되었습니다."));
+            }
+
+            return call
+                .timeout(timeout)
+                .doOnSuccess(result -> circuitBreaker.onSuccess())
+                .doOnError(e -> {
+                    if (isCircuitFailure(e)) {
+                        circuitBreaker.onFailure();
+                    } else {
+                        circuitBreaker.onSuccess();
+                    }
+                })
+                .doFinally(signal -> {
+                    if (signal == SignalType.CANCEL) {
+                        circuitBreaker.onIgnored();
+                    }
+                    activeCalls.decrementAndGet();
+                })
+                .onErrorMap(e -> toPortOneException(operation, e));
+        });
+    }
+
+    private <T> T unwrap(IamportV1ResponseDTO<T> response, String operation) {
+        // V1 응답 코드 확인 (0이 성공)
+        if (response.getCode() != 0) {
+            log.error("V1 API 오류: code={}, message={}", response.getCode(), response.getMessage());
+            throw new PortOneException.ServerException("V1 API 오류: " + response.getMessage());
+        }
+        if (response.getResponse() == null) {
+            log.error("{} 실패 - 응답 데이터 없음", operation);
+            throw new PortOneException.ResponseParsingException(operation + " 응답에 결제 정보가 없습니다.");
+        }
+        return response.getResponse();
+    }
+
+    private static boolean isCircuitFailure(Throwable e) {
+        if (e instanceof TimeoutException || e instanceof WebClientRequestException
+            || e instanceof PortOneException.TokenAcquisitionException) {
+            return true;
+        }
+        if (e instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is5xxServerError() || responseException.getRawStatusCode() == 429;
+        }
+        return false;
+    }
+
+    private static Throwable toPortOneException(String operation, Throwable e) {
+        if (e instanceof TimeoutException) {
+            log.error("{} 제한 시간 초과", operation);
+            return new PortOneException.NetworkException(operation + " 응답 시간이 초과되었습니다.");
+        }
+        if (e instanceof WebClientRequestException) {
+            log.error("{} 연결 실패 - 사유: {}", operation, e.getMessage());
+            return new PortOneException.NetworkException();
+        }
+        if (e instanceof WebClientResponseException responseException
+            && responseException.getStatusCode() == HttpStatus.NOT_FOUND) {
+            log.warn("{} 대상 결제 정보 없음", operation);
+            return new PortOneException.PaymentNotFoundException(operation + " 대상 결제 정보가 없습니다.");
+        }
+        if (e instanceof WebClientResponseException responseException) {
+            log.error("{} 실패 - 상태 코드: {}", operation, responseException.getRawStatusCode());
+            return new PortOneException.ServerException(operation + " 실패: " + responseException.getStatusCode());
+        }
+        return e;
+    }
+}
\ No newline at end of file
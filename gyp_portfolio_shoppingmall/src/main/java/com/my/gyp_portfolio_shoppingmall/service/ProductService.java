@@ -6,6 +6,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -14,24 +15,32 @@ import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.my.gyp_portfolio_shoppingmall.dao.BatchJobDao;
 import com.my.gyp_portfolio_shoppingmall.dao.ProductDao;
 import com.my.gyp_portfolio_shoppingmall.dto.ProductDto.BulkProductInventoryDTO;
 import com.my.gyp_portfolio_shoppingmall.dto.ProductDto.CategoryDTO;
 import com.my.gyp_portfolio_shoppingmall.dto.ProductDto.ImageResourceResponse;
+import com.my.gyp_portfolio_shoppingmall.dto.ProductDto.ImageUrlManifestDTO;
 import com.my.gyp_portfolio_shoppingmall.dto.ProductDto.ProductDTO;
 import com.my.gyp_portfolio_shoppingmall.dto.ProductDto.ProductInventoryDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.ProductDto.ProductItemAvailabilityDTO;
 import com.my.gyp_portfolio_shoppingmall.dto.ProductDto.ProductItemDTO;
 import com.my.gyp_portfolio_shoppingmall.dto.ProductDto.ProductSearchDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.ProductDto.StockReconciliationDTO;
+import com.my.gyp_portfolio_shoppingmall.enums.BatchJobEnums.BatchJobStatus;
 import com.my.gyp_portfolio_shoppingmall.enums.ProductEnums.ProductInventoryStatus;
+import com.my.gyp_portfolio_shoppingmall.exception.OrderException;
 import com.my.gyp_portfolio_shoppingmall.exception.ProductException;
+import com.my.gyp_portfolio_shoppingmall.support.JsonCodecs;
 import com.my.gyp_portfolio_shoppingmall.support.OptimisticLock;
+import com.my.gyp_portfolio_shoppingmall.support.ProductAvailabilityCache;
 import com.my.gyp_portfolio_shoppingmall.support.ProductCodeGenerator;
+import com.my.gyp_portfolio_shoppingmall.vo.BatchJobCheckpoint;
 import com.my.gyp_portfolio_shoppingmall.vo.Category;
 import com.my.gyp_portfolio_shoppingmall.vo.InventoryHistory;
 import com.my.gyp_portfolio_shoppingmall.vo.Product;
@@ -47,7 +56,12 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ProductService {
     private static final String UPLOAD_DIR = "src/main/resources/static/images/products";
+    // 구매 가능 수량 노출 상한
+    private static final int MAX_AVAILABLE_QUANTITY = 99;
     private final ProductDao productDao;
+    private final ProductAvailabilityCache productAvailabilityCache;
+    private final JsonCodecs jsonCodecs;
+    private final BatchJobDao batchJobDao;
     
     // 상태 업데이트만 수행하는 낙관적 잠금 전용 메서드
     @OptimisticLock
@@ -212,6 +226,9 @@ public class ProductService {
         productItem.setColor(productItemDTO.getColor());
         productItem.setIsActive(productItemDTO.getIsActive());
         productDao.insertProductItem(productItem);
+
+        // 커밋 이후 구매 가능 여부 캐시 무효화
+        productAvailabilityCache.evictProductAfterCommit(productItemDTO.getProductId());
     }
 
     // 상품 품목 정보 수정
@@ -243,6 +260,9 @@ public class ProductService {
         productItem.setVersion(productItemDTO.getVersion());
 
         updateProductItemWithOptimisticLock(productItem);
+
+        // 커밋 이후 구매 가능 여부 캐시 무효화
+        productAvailabilityCache.evictProductAfterCommit(productItem.getProductId());
     }
 
     // 상품 품목 입고(단일 품목)
@@ -349,6 +369,37 @@ public class ProductService {
         return productDao.getProductItemsByProductId(productId);
     }
 
+    // 상품 품목 구매 가능 여부 조회(캐시 적중 시 커넥션을 사용하지 않도록 트랜잭션 미생성)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<ProductItemAvailabilityDTO> getProductItemAvailability(Integer productId) {
+        return productAvailabilityCache.get(productId, this::loadProductItemAvailability);
+    }
+
+    // 상품 품목 구매 가능 여부 적재(잠금 없는 일관된 읽기)
+    private List<ProductItemAvailabilityDTO> loadProductItemAvailability(Integer productId) {
+        // 상품 존재 여부 확인
+        Product product = productDao.getProductById(productId);
+        if (product == null) {
+            throw new ProductException.ProductNotFoundException();
+        }
+
+        List<ProductItemAvailabilityDTO> availabilities = new ArrayList<>();
+        for (ProductItem productItem : productDao.getProductItemsByProductId(productId)) {
+            // 판매 가능 재고는 예약 수량이 이미 차감된 stock_quantity 기준
+            int stockQuantity = productItem.getStockQuantity() == null ? 0 : productItem.getStockQuantity();
+            boolean inStock = Integer.valueOf(1).equals(productItem.getIsActive()) && stockQuantity > 0;
+
+            ProductItemAvailabilityDTO availability = new ProductItemAvailabilityDTO();
+            availability.setProductItemId(productItem.getProductItemId());
+            availability.setSize(productItem.getSize());
+            availability.setColor(productItem.getColor());
+            availability.setInStock(inStock);
+            availability.setAvailableQuantity(inStock ? Math.min(stockQuantity, MAX_AVAILABLE_QUANTITY) : 0);
+            availabilities.add(availability);
+        }
+        return availabilities;
+    }
+
     // 상품 품목 재고 목록 조회
     @Transactional(readOnly = true)
     public List<ProductInventory> getProductInventories(Integer productItemId) {
@@ -360,6 +411,93 @@ public class ProductService {
         return productDao.getProductInventories(productItemId);
     }
 
+    // 재고 정합성 불일치 보정(재고 단위 기준으로 가용 재고 조정)
+    // 점검 시점의 차이는 그 사이 주문/입고로 달라졌을 수 있으므로 상품 품목을 잠근 뒤 다시 계산해 보정
+    @Transactional(
+        isolation = Isolation.REPEATABLE_READ,
+        timeout = 5
+    )
+    public int correctStockMismatches(List<StockReconciliationDTO> mismatches) {
+        // 주문 재고 잠금과 같은 상품 품목 ID 순으로 잠금
+        List<Integer> productItemIds = mismatches.stream()
+            .map(StockReconciliationDTO::getProductItemId)
+            .distinct()
+            .sorted()
+            .toList();
+
+        int correctedCount = 0;
+        for (Integer productItemId : productItemIds) {
+            ProductItem productItem = productDao.getProductItemForUpdate(productItemId);
+            if (productItem == null) {
+                continue;
+            }
+
+            StockReconciliationDTO current = productDao.getProductInventoryCountsForShare(productItemId);
+            current.setStockQuantity(productItem.getStockQuantity());
+            current.setReservedQuantity(productItem.getReservedQuantity());
+            current.setSalesCount(productItem.getSalesCount());
+            if (current.getStockDifference() == 0) {
+                continue;
+            }
+            correctedCount += productDao.adjustStockByReconciliation(productItemId, current.getStockDifference());
+        }
+        return correctedCount;
+    }
+
+    // 스케줄 재고 정합성 불일치 보정(임대를 잃은 노드의 늦은 보정 차단)
+    @Transactional(
+        isolation = Isolation.REPEATABLE_READ,
+        timeout = 5
+    )
+    public int correctStockMismatches(List<StockReconciliationDTO> mismatches, String jobName, long fencingToken) {
+        if (!batchJobDao.isScheduledJobLeaseValidForShare(jobName, fencingToken)) {
+            throw new OrderException.ScheduledJobLeaseLostException();
+        }
+        return correctStockMismatches(mismatches);
+    }
+
+    // 스케줄 재고 정합성 점검 시작(runDate 이후 시작해 완료된 실행이 있으면 false)
+    @Transactional(
+        isolation = Isolation.REPEATABLE_READ,
+        timeout = 5
+    )
+    public boolean beginStockReconciliation(String jobName, LocalDateTime runDate) {
+        BatchJobCheckpoint checkpoint = batchJobDao.getBatchJobCheckpointForUpdate(jobName);
+        if (checkpoint.getStatus() == BatchJobStatus.COMPLETED &&
+            checkpoint.getStartedAt() != null && !checkpoint.getStartedAt().isBefore(runDate)) {
+            return false;
+        }
+
+        checkpoint.setStatus(BatchJobStatus.RUNNING);
+        checkpoint.setProcessedCount(0);
+        checkpoint.setStartedAt(LocalDateTime.now());
+        batchJobDao.updateBatchJobCheckpoint(checkpoint);
+        return true;
+    }
+
+    // 스케줄 재고 정합성 점검 완료 기록
+    @Transactional(
+        isolation = Isolation.REPEATABLE_READ,
+        timeout = 5
+    )
+    public void completeStockReconciliation(String jobName, int checkedCount) {
+        BatchJobCheckpoint checkpoint = batchJobDao.getBatchJobCheckpointForUpdate(jobName);
+        checkpoint.setStatus(BatchJobStatus.COMPLETED);
+        checkpoint.setProcessedCount(checkedCount);
+        batchJobDao.updateBatchJobCheckpoint(checkpoint);
+    }
+
+    // 특정 시점의 상품 품목 수량 조회(감사용)
+    @Transactional(readOnly = true)
+    public ProductItem getProductItemStockAt(Integer productItemId, LocalDateTime at) {
+        // 상품 품목 존재 여부 확인
+        ProductItem productItem = productDao.getProductItem(productItemId);
+        if (productItem == null) {
+            throw new ProductException.ProductItemNotFoundException();
+        }
+        return productDao.getStockAt(productItemId, at);
+    }
+
     // 재고 변동 이력 목록 조회
     @Transactional(readOnly = true)
     public List<InventoryHistory> getInventoryHistories(Integer productInventoryId) {
@@ -485,13 +623,12 @@ public class ProductService {
             if (imageUrlJson == null || imageUrlJson.trim().isEmpty()) {
                 return new ArrayList<>();
             }
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode root = mapper.readTree(imageUrlJson);
+            ImageUrlManifestDTO manifest = jsonCodecs.readImageUrlManifest(imageUrlJson);
             List<String> urls = new ArrayList<>();
-            if (root.has("urls") && root.get("urls").isArray()) {
-                root.get("urls").forEach(url -> {
-                    if (url.isTextual()) {
-                        urls.add(url.asText());
+            if (manifest != null && manifest.getUrls() != null) {
+                manifest.getUrls().forEach(url -> {
+                    if (url != null) {
+                        urls.add(url);
                     }
                 });
             }
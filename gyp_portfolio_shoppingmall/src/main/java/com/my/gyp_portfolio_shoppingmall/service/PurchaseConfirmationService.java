@@ -0,0 +1,107 @@
+package com.my.gyp_portfolio_shoppingmall.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.my.gyp_portfolio_shoppingmall.dao.OrderDao;
+import com.my.gyp_portfolio_shoppingmall.enums.BatchJobEnums.BatchJobStatus;
+import com.my.gyp_portfolio_shoppingmall.vo.BatchJobCheckpoint;
+import com.my.gyp_portfolio_shoppingmall.vo.ScheduledJobLease;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PurchaseConfirmationService {
+
+    private static final String JOB_NAME = "AUTO_CONFIRM_PURCHASE";
+    private static final int CONFIRM_AFTER_DAYS = 7;
+    private static final int CHUNK_SIZE = 200;
+    private static final int LEASE_TTL_SECONDS = 120;
+    // 파티션 모드에서 주문 상품 ID를 나누는 구간 폭
+    private static final int PARTITION_RANGE_WIDTH = 10000;
+
+    // 1이면 한 노드가 전체 처리, 2 이상이면 ID 구간별 파티션을 노드들이 나눠 처리
+    @Value("${scheduling.auto-confirm-purchase.partitions:1}")
+    private int partitionCount;
+
+    private final OrderDao orderDao;
+    private final OrderService orderService;
+    private final ScheduledJobLeaseService scheduledJobLeaseService;
+
+    // 자동 구매 확정 처리(배송완료/교환 배송완료 7일 후, 파티션별 임대 획득 노드만 실행)
+    @Scheduled(cron = "0 0 0 * * *")
+    public void autoConfirmPurchase() {
+        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(CONFIRM_AFTER_DAYS);
+        LocalDateTime runDate = LocalDate.now().atStartOfDay();
+        int partitions = Math.max(partitionCount, 1);
+
+        // 노드마다 시작 파티션을 달리해 임대 경합 감소
+        int offset = ThreadLocalRandom.current().nextInt(partitions);
+        for (int i = 0; i < partitions; i++) {
+            int partitionIndex = (offset + i) % partitions;
+            String jobName = partitions > 1 ? JOB_NAME + ":" + partitionIndex : JOB_NAME;
+
+            ScheduledJobLease lease = scheduledJobLeaseService.tryAcquire(jobName, LEASE_TTL_SECONDS);
+            if (lease == null) {
+                continue;
+            }
+            try {
+                confirmPartition(lease, cutoffDate, runDate, partitions, partitionIndex);
+            } finally {
+                scheduledJobLeaseService.release(lease);
+            }
+        }
+    }
+
+    // 파티션 단위 자동 구매 확정(키셋 페이징 & 청크 단위 커밋)
+    private void confirmPartition(ScheduledJobLease lease, LocalDateTime cutoffDate, LocalDateTime runDate,
+                                  int partitions, int partitionIndex) {
+        String jobName = lease.getJobName();
+        BatchJobCheckpoint checkpoint = orderService.beginAutoConfirmPurchase(jobName, cutoffDate, runDate);
+        if (checkpoint.getStatus() == BatchJobStatus.COMPLETED) {
+            // 오늘 이미 다른 노드에서 완료한 파티션
+            return;
+        }
+        if (checkpoint.getLastProcessedId() > 0) {
+            log.info("자동 구매 확정 재개 - 작업: {}, 마지막 처리 주문 상품ID: {}, 처리 건수: {}",
+                jobName, checkpoint.getLastProcessedId(), checkpoint.getProcessedCount());
+        }
+
+        // 후보 조회는 잠금 없이 수행하고 청크 트랜잭션 안에서 상태를 다시 확인
+        while (true) {
+            List<Integer> orderProductIds = orderDao.findUnconfirmedDeliveries(
+                checkpoint.getCutoffDate(), checkpoint.getLastProcessedId(), CHUNK_SIZE,
+                partitions, partitionIndex, PARTITION_RANGE_WIDTH);
+            if (orderProductIds.isEmpty()) {
+                break;
+            }
+
+            if (!scheduledJobLeaseService.renew(lease, LEASE_TTL_SECONDS)) {
+                log.warn("자동 구매 확정 임대 만료로 중단 - 작업: {}", jobName);
+                return;
+            }
+
+            try {
+                checkpoint = orderService.confirmPurchaseChunk(
+                    jobName, lease.getFencingToken(), checkpoint.getLastProcessedId(), orderProductIds);
+            } catch (Exception e) {
+                // 커밋된 청크는 유지되고 다음 실행에서 체크포인트부터 재개
+                log.error("자동 구매 확정 청크 처리 실패 - 작업: {}, 마지막 처리 주문 상품ID: {}",
+                    jobName, checkpoint.getLastProcessedId(), e);
+                return;
+            }
+        }
+
+        orderService.completeAutoConfirmPurchase(jobName);
+        log.info("자동 구매 확정 완료 - 작업: {}, 처리 건수: {}", jobName, checkpoint.getProcessedCount());
+    }
+}
\ No newline at end of file
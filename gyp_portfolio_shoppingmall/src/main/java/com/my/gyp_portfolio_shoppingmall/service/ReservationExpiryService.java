@@ -0,0 +1,162 @@
+package com.my.gyp_portfolio_shoppingmall.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.my.gyp_portfolio_shoppingmall.dao.OrderDao;
+import com.my.gyp_portfolio_shoppingmall.dto.OrderDto.OrderCreatedEventDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.PaymentDto.PaymentDataDTO;
+import com.my.gyp_portfolio_shoppingmall.exception.PortOneException;
+import com.my.gyp_portfolio_shoppingmall.support.HierarchicalTimingWheel;
+import com.my.gyp_portfolio_shoppingmall.vo.Order;
+import com.my.gyp_portfolio_shoppingmall.vo.OrderProduct;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationExpiryService {
+
+    // 1초 단위 60칸 휠 3단(최대 60시간)
+    private static final long TICK_MILLIS = 1000L;
+    private static final int WHEEL_SIZE = 60;
+    private static final int WHEEL_LEVELS = 3;
+    private static final int BATCH_SIZE = 100;
+    private static final long RETRY_DELAY_MILLIS = 60 * 1000L;
+
+    @Value("${order.reservation.ttl-minutes:30}")
+    private long reservationTtlMinutes;
+
+    private final OrderDao orderDao;
+    private final OrderService orderService;
+    private final PortOneReactiveClient portOneReactiveClient;
+
+    private final HierarchicalTimingWheel<Integer> timingWheel =
+        new HierarchicalTimingWheel<>(TICK_MILLIS, WHEEL_SIZE, WHEEL_LEVELS, System.currentTimeMillis());
+
+    private volatile boolean ready = false;
+
+    // 애플리케이션 시작 시 결제 대기 주문으로 타이밍 휠 재구성
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildTimingWheel() {
+        int trackedCount = syncPaymentPendingOrders();
+        ready = true;
+        log.info("예약 재고 만료 타이밍 휠 재구성 완료 - 결제 대기 주문 수: {}", trackedCount);
+    }
+
+    // 주문 접수 트랜잭션 커밋 후 타이밍 휠 등록
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderCreated(OrderCreatedEventDTO event) {
+        track(event.getOrderId(), event.getCreatedAt());
+    }
+
+    // 다른 인스턴스/경로에서 생성된 결제 대기 주문 동기화
+    @Scheduled(fixedDelay = 10 * 60 * 1000L, initialDelay = 10 * 60 * 1000L)
+    public void resyncTimingWheel() {
+        if (!ready) {
+            return;
+        }
+        syncPaymentPendingOrders();
+    }
+
+    // 만료된 예약 재고 배치 해제
+    @Scheduled(fixedDelay = TICK_MILLIS)
+    public void sweepExpiredReservations() {
+        if (!ready) {
+            return;
+        }
+
+        List<Integer> expiredOrderIds = timingWheel.advance(System.currentTimeMillis());
+        if (expiredOrderIds.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime cutoffDate = LocalDateTime.now().minusMinutes(reservationTtlMinutes);
+        for (int from = 0; from < expiredOrderIds.size(); from += BATCH_SIZE) {
+            List<Integer> batch = expiredOrderIds.subList(from, Math.min(from + BATCH_SIZE, expiredOrderIds.size()));
+            try {
+                List<Integer> unpaidOrderIds = filterUnpaidOrders(batch, cutoffDate);
+                if (unpaidOrderIds.isEmpty()) {
+                    continue;
+                }
+                int releasedCount = orderService.releaseExpiredReservations(unpaidOrderIds, cutoffDate);
+                if (releasedCount > 0) {
+                    log.info("예약 재고 만료 해제 완료 - 주문 수: {}, 해제된 주문 상품 수: {}", batch.size(), releasedCount);
+                }
+            } catch (Exception e) {
+                // 실패한 배치는 일정 시간 후 재시도
+                log.error("예약 재고 만료 해제 실패 - 주문ID: {}", batch, e);
+                long retryAt = System.currentTimeMillis() + RETRY_DELAY_MILLIS;
+                for (Integer orderId : batch) {
+                    timingWheel.schedule(orderId, retryAt);
+                }
+            }
+        }
+    }
+
+    // 포트원 결제 상태를 확인해 결제되지 않은 주문만 해제 대상으로 선별
+    private List<Integer> filterUnpaidOrders(List<Integer> orderIds, LocalDateTime cutoffDate) {
+        List<Integer> unpaidOrderIds = new ArrayList<>();
+        for (Order order : orderDao.getExpiredPaymentPendingOrders(orderIds, cutoffDate)) {
+            try {
+                PaymentDataDTO payment = portOneReactiveClient.findPaymentByMerchantUid(order.getMerchantUid()).block();
+                if ("paid".equals(payment.getStatus())) {
+                    // 늦게 결제된 주문은 취소하지 않고 웹훅/결제 대사에서 결제 완료 처리(미처리 시 재동기화에서 다시 확인)
+                    log.warn("결제 대기 만료 주문이 포트원에서 결제 완료 상태 - 주문ID: {}, 주문번호: {}",
+                        order.getOrderId(), order.getMerchantUid());
+                    continue;
+                }
+                if (isAwaitingVirtualAccountDeposit(payment)) {
+                    // 가상계좌 발급 후 입금 대기 중인 주문은 입금 기한이 지난 뒤 다시 확인
+                    timingWheel.schedule(order.getOrderId(), payment.getVbank_date() * 1000L);
+                    continue;
+                }
+            } catch (PortOneException.PaymentNotFoundException e) {
+                // 결제 시도 이력이 없는 주문은 그대로 해제
+            } catch (Exception e) {
+                // 결제 상태를 확인할 수 없으면 취소하지 않고 일정 시간 후 재확인
+                log.warn("결제 대기 만료 주문 결제 상태 확인 실패 - 주문ID: {}, 사유: {}", order.getOrderId(), e.getMessage());
+                timingWheel.schedule(order.getOrderId(), System.currentTimeMillis() + RETRY_DELAY_MILLIS);
+                continue;
+            }
+            unpaidOrderIds.add(order.getOrderId());
+        }
+        return unpaidOrderIds;
+    }
+
+    // 가상계좌 입금 대기 여부(ready 상태이고 입금 기한이 남아 있음)
+    private boolean isAwaitingVirtualAccountDeposit(PaymentDataDTO payment) {
+        return "ready".equals(payment.getStatus())
+            && payment.getVbank_date() != null
+            && payment.getVbank_date() * 1000L > System.currentTimeMillis();
+    }
+
+    // 결제 대기 주문 조회 후 타이밍 휠 등록
+    private int syncPaymentPendingOrders() {
+        List<OrderProduct> pendingOrders = orderDao.getPaymentPendingOrders();
+        for (OrderProduct pendingOrder : pendingOrders) {
+            if (!timingWheel.contains(pendingOrder.getOrderId())) {
+                track(pendingOrder.getOrderId(), pendingOrder.getCreatedAt());
+            }
+        }
+        return pendingOrders.size();
+    }
+
+    // 주문 생성 시각 기준 만료 시각으로 등록
+    private void track(Integer orderId, LocalDateTime createdAt) {
+        LocalDateTime expiresAt = createdAt.plusMinutes(reservationTtlMinutes);
+        timingWheel.schedule(orderId, expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+}
@@ -1,6 +1,14 @@
 package com.my.gyp_portfolio_shoppingmall.service;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -12,7 +20,10 @@ import com.my.gyp_portfolio_shoppingmall.dao.OrderDao;
 import com.my.gyp_portfolio_shoppingmall.dao.ReviewDao;
 import com.my.gyp_portfolio_shoppingmall.dao.UserDao;
 import com.my.gyp_portfolio_shoppingmall.dto.ReviewDto.ReviewDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.ReviewDto.ReviewRatingSearchDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.ReviewDto.ReviewRatingSummaryDTO;
 import com.my.gyp_portfolio_shoppingmall.dto.ReviewDto.ReviewSearchDTO;
+import com.my.gyp_portfolio_shoppingmall.enums.ReviewEnums.RatingTarget;
 import com.my.gyp_portfolio_shoppingmall.exception.ReviewException;
 import com.my.gyp_portfolio_shoppingmall.exception.UserException;
 import com.my.gyp_portfolio_shoppingmall.support.OptimisticLock;
@@ -27,9 +38,13 @@ import lombok.RequiredArgsConstructor;
 @Transactional
 public class ReviewService {
 
+    // 평점 집계 배치 조회 최대 대상 수
+    private static final int MAX_RATING_SUMMARY_TARGETS = 200;
+
     private final ReviewDao reviewDao;
     private final UserDao userDao;
     private final OrderDao orderDao;
+    private final DashboardService dashboardService;
     
     @OptimisticLock
     public int updateReviewWithOptimisticLock(Review review) {
@@ -42,6 +57,8 @@ public class ReviewService {
         timeout = 5
     )
     public void insertReview(ReviewDTO reviewDTO) {
+        int rating = parseRating(reviewDTO.getRating());
+
         // 토큰에서 유저 정보 조회
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
         User user = userDao.findByEmailForUpdate(email);
@@ -75,6 +92,8 @@ public class ReviewService {
         review.setRating(reviewDTO.getRating());
         review.setComment(reviewDTO.getComment());
         reviewDao.insertReview(review);
+        reviewDao.applyReviewRatingDelta(review.getProductItemId(), rating, 1);
+        dashboardService.increaseReviewCount();
     }
 
     // 리뷰 수정(본인 리뷰만 수정 가능)
@@ -83,12 +102,14 @@ public class ReviewService {
         timeout = 5
     )
     public void updateReview(ReviewDTO reviewDTO) {
+        int rating = parseRating(reviewDTO.getRating());
+
         // 토큰에서 유저 정보 조회
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
         User user = userDao.findByEmailForUpdate(email);
 
-        // 리뷰 존재 여부 확인
-        Review Review = reviewDao.selectReviewById(reviewDTO.getReviewId());
+        // 리뷰 존재 여부 확인(평점 집계 변경을 위해 행 잠금)
+        Review Review = reviewDao.selectReviewByIdForUpdate(reviewDTO.getReviewId());
         if (Review == null) {
             throw new ReviewException.ReviewNotFoundException();
         }
@@ -99,11 +120,18 @@ public class ReviewService {
         }
 
         // 리뷰 수정
+        int previousRating = parseRating(Review.getRating());
         Review.setReviewId(reviewDTO.getReviewId());
         Review.setRating(reviewDTO.getRating());
         Review.setComment(reviewDTO.getComment());
         Review.setVersion(reviewDTO.getVersion());
-        updateReviewWithOptimisticLock(Review);
+        int updated = updateReviewWithOptimisticLock(Review);
+
+        // 평점이 바뀐 경우 집계 이동(삭제된 리뷰는 집계에서 이미 제외됨)
+        if (updated > 0 && isActive(Review) && previousRating != rating) {
+            reviewDao.applyReviewRatingDelta(Review.getProductItemId(), previousRating, -1);
+            reviewDao.applyReviewRatingDelta(Review.getProductItemId(), rating, 1);
+        }
     }
 
     // 리뷰 리스트 조회(검색 조건 포함, 페이징 처리)
@@ -127,8 +155,8 @@ public class ReviewService {
             throw new UserException.UserNotFoundException();
         }
 
-        // 리뷰 존재 여부 확인
-        Review Review = reviewDao.selectReviewById(reviewId);
+        // 리뷰 존재 여부 확인(평점 집계 변경을 위해 행 잠금)
+        Review Review = reviewDao.selectReviewByIdForUpdate(reviewId);
         if (Review == null) {
             throw new ReviewException.ReviewNotFoundException();
         }
@@ -140,8 +168,76 @@ public class ReviewService {
             Review.getUserId()
         );
 
-        // 리뷰 삭제
-        reviewDao.deleteReview(reviewId);
+        // 리뷰 삭제(이미 삭제된 리뷰는 집계 변경 없음)
+        if (reviewDao.deleteReview(reviewId) > 0) {
+            reviewDao.applyReviewRatingDelta(Review.getProductItemId(), parseRating(Review.getRating()), -1);
+        }
+    }
+
+    /**
+     * 상품/상품 품목 평점 집계 배치 조회
+     *
+     * 목록 화면의 대상 ID 묶음을 집계 테이블 한 번 조회로 처리하고, 리뷰가 없는 대상은 0건으로 채운다.
+     * 결과는 요청한 ID 순서(중복 제거)를 따른다.
+     *
+     * @return 대상별 리뷰 수, 평균 평점, 점수별 분포
+     */
+    @Transactional(readOnly = true)
+    public List<ReviewRatingSummaryDTO> getRatingSummaries(ReviewRatingSearchDTO searchDTO) {
+        RatingTarget targetType = searchDTO.getTargetType() != null ? searchDTO.getTargetType() : RatingTarget.PRODUCT;
+        Set<Integer> targetIds = new LinkedHashSet<>();
+        if (searchDTO.getTargetIds() != null) {
+            for (Integer targetId : searchDTO.getTargetIds()) {
+                if (targetId != null) {
+                    targetIds.add(targetId);
+                }
+            }
+        }
+        if (targetIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        if (targetIds.size() > MAX_RATING_SUMMARY_TARGETS) {
+            throw new IllegalArgumentException("평점 집계는 한 번에 " + MAX_RATING_SUMMARY_TARGETS + "개까지 조회할 수 있습니다.");
+        }
+
+        Map<Integer, ReviewRatingSummaryDTO> summaries = reviewDao.getReviewRatingSummaries(targetType, new ArrayList<>(targetIds))
+            .stream()
+            .collect(Collectors.toMap(ReviewRatingSummaryDTO::getTargetId, Function.identity()));
+
+        List<ReviewRatingSummaryDTO> result = new ArrayList<>(targetIds.size());
+        for (Integer targetId : targetIds) {
+            ReviewRatingSummaryDTO summary = summaries.get(targetId);
+            if (summary == null) {
+                summary = new ReviewRatingSummaryDTO();
+                summary.setTargetType(targetType);
+                summary.setTargetId(targetId);
+            } else if (summary.getReviewCount() > 0) {
+                summary.setAverageRating(BigDecimal.valueOf(summary.getRatingSum())
+                    .divide(BigDecimal.valueOf(summary.getReviewCount()), 2, RoundingMode.HALF_UP)
+                    .doubleValue());
+            }
+            result.add(summary);
+        }
+        return result;
+    }
+
+    /**
+     * 평점 집계 전체 재계산
+     *
+     * 집계 도입 전 리뷰 반영이나 수동 데이터 변경 후 보정용이다.
+     * 삭제와 재계산을 한 트랜잭션에서 처리하므로 조회 측에는 커밋 시점에 한 번에 바뀐다.
+     * READ COMMITTED로 실행해 INSERT ... SELECT가 원본(reviews, product_items)을 공유 잠금 없이 읽도록 한다.
+     * REPEATABLE READ에서는 product_items 전 행에 공유 잠금이 걸려 주문 시 상품 품목 잠금 조회가 재계산이 끝날 때까지 대기한다.
+     *
+     * @return 재계산한 집계 행 수(상품 + 상품 품목)
+     */
+    @Transactional(
+        isolation = Isolation.READ_COMMITTED,
+        timeout = 60
+    )
+    public int rebuildRatingAggregates() {
+        reviewDao.deleteReviewRatingAggregates();
+        return reviewDao.rebuildReviewRatingAggregates();
     }
 
     // 리뷰 수 조회
@@ -171,4 +267,20 @@ public class ReviewService {
 
         return reviewDao.getReviewByUserId(userCheck.getUserId());
     }
+
+    // 평점 문자열(1~5) 검증 후 숫자로 변환
+    private static int parseRating(String rating) {
+        return switch (rating != null ? rating.trim() : "") {
+            case "1" -> 1;
+            case "2" -> 2;
+            case "3" -> 3;
+            case "4" -> 4;
+            case "5" -> 5;
+            default -> throw new ReviewException.InvalidRatingException();
+        };
+    }
+
+    private static boolean isActive(Review review) {
+        return review.getIsDeleted() == null || review.getIsDeleted() == 0;
+    }
 }
@@ -0,0 +1,111 @@
+package com.my.gyp_portfolio_shoppingmall.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.my.gyp_portfolio_shoppingmall.dao.SalesRollupDao;
+import com.my.gyp_portfolio_shoppingmall.dto.DashboardDto.SalesRollupSourceDTO;
+import com.my.gyp_portfolio_shoppingmall.enums.DashboardEnums.SalesRollupSource;
+import com.my.gyp_portfolio_shoppingmall.vo.BatchJobCheckpoint;
+import com.my.gyp_portfolio_shoppingmall.vo.ScheduledJobLease;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시간/일 단위 매출 집계(sales_rollups) 증분 반영
+ *
+ * 주문(orders)과 결제 이력(payment_histories)을 원본별 워터마크(batch_job_checkpoints) 이후 ID 순으로 읽어
+ * 청크 단위로 집계 테이블에 더한다. 조회 API는 집계 테이블만 읽으므로 원본 테이블 전체 집계가 필요 없다.
+ * 자동 증가 ID는 커밋 순서와 다를 수 있으므로 생성 후 settleSeconds가 지나지 않은 행에서 청크를 끊고,
+ * 그 행부터는 다음 실행에서 처리한다(settleSeconds는 쓰기 트랜잭션 제한 시간보다 길어야 함).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SalesRollupAggregationService {
+
+    private static final int CHUNK_SIZE = 500;
+    // 한 번 실행에서 처리할 최대 청크 수(백필 시 주 DB 부하 분산)
+    private static final int MAX_CHUNKS_PER_RUN = 40;
+    private static final int LEASE_TTL_SECONDS = 120;
+
+    @Value("${sales.rollup.settle-seconds:120}")
+    private int settleSeconds;
+
+    private final SalesRollupDao salesRollupDao;
+    private final SalesRollupService salesRollupService;
+    private final ScheduledJobLeaseService scheduledJobLeaseService;
+
+    // 매출 집계 증분 반영(임대 획득 노드만 실행)
+    @Scheduled(fixedDelay = 5 * 60 * 1000L, initialDelay = 60 * 1000L)
+    public void aggregateSalesRollups() {
+        ScheduledJobLease lease = scheduledJobLeaseService.tryAcquire(SalesRollupService.JOB_NAME, LEASE_TTL_SECONDS);
+        if (lease == null) {
+            return;
+        }
+        try {
+            for (SalesRollupSource source : SalesRollupSource.values()) {
+                if (!aggregateSource(lease, source)) {
+                    break;
+                }
+            }
+        } finally {
+            scheduledJobLeaseService.release(lease);
+        }
+    }
+
+    // 원본별 증분 반영(임대를 잃으면 false)
+    private boolean aggregateSource(ScheduledJobLease lease, SalesRollupSource source) {
+        BatchJobCheckpoint checkpoint = salesRollupService.getSalesRollupCheckpoint(source);
+        long lastProcessedId = checkpoint.getLastProcessedId();
+        int appliedCount = 0;
+
+        for (int chunk = 0; chunk < MAX_CHUNKS_PER_RUN; chunk++) {
+            List<SalesRollupSourceDTO> rows = salesRollupDao.getSourceIdsForSalesRollup(
+                source, lastProcessedId, CHUNK_SIZE, settleSeconds);
+
+            // 확정되지 않은 첫 행 앞에서 청크를 끊음
+            long toId = lastProcessedId;
+            int rowCount = 0;
+            for (SalesRollupSourceDTO row : rows) {
+                if (!row.isSettled()) {
+                    break;
+                }
+                toId = row.getId();
+                rowCount++;
+            }
+            if (rowCount == 0) {
+                break;
+            }
+
+            if (!scheduledJobLeaseService.renew(lease, LEASE_TTL_SECONDS)) {
+                log.warn("매출 집계 임대 만료로 중단 - 원본: {}, 워터마크: {}", source, lastProcessedId);
+                return false;
+            }
+
+            try {
+                checkpoint = salesRollupService.applySalesRollupChunk(
+                    lease.getFencingToken(), source, lastProcessedId, toId, rowCount);
+            } catch (Exception e) {
+                // 커밋된 청크는 유지되고 다음 실행에서 워터마크부터 재개
+                log.error("매출 집계 청크 처리 실패 - 원본: {}, 워터마크: {}", source, lastProcessedId, e);
+                return true;
+            }
+            lastProcessedId = checkpoint.getLastProcessedId();
+            appliedCount += rowCount;
+
+            if (rowCount < CHUNK_SIZE) {
+                break;
+            }
+        }
+
+        if (appliedCount > 0) {
+            log.info("매출 집계 반영 - 원본: {}, 반영 행 수: {}, 워터마크: {}", source, appliedCount, lastProcessedId);
+        }
+        return true;
+    }
+}
\ No newline at end of file
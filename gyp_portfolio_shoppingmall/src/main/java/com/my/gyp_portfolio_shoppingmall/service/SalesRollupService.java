@@ -0,0 +1,121 @@
+package com.my.gyp_portfolio_shoppingmall.service;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.my.gyp_portfolio_shoppingmall.dao.BatchJobDao;
+import com.my.gyp_portfolio_shoppingmall.dao.SalesRollupDao;
+import com.my.gyp_portfolio_shoppingmall.dto.DashboardDto.SalesRollupDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.DashboardDto.SalesRollupSearchDTO;
+import com.my.gyp_portfolio_shoppingmall.enums.DashboardEnums.SalesRollupPeriod;
+import com.my.gyp_portfolio_shoppingmall.enums.DashboardEnums.SalesRollupSource;
+import com.my.gyp_portfolio_shoppingmall.exception.OrderException;
+import com.my.gyp_portfolio_shoppingmall.vo.BatchJobCheckpoint;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SalesRollupService {
+
+    public static final String JOB_NAME = "SALES_ROLLUP";
+    // 조회 가능한 최대 구간(시간 단위 / 일 단위)
+    private static final Duration MAX_HOURLY_RANGE = Duration.ofDays(31);
+    private static final Duration MAX_DAILY_RANGE = Duration.ofDays(366);
+
+    private final SalesRollupDao salesRollupDao;
+    private final BatchJobDao batchJobDao;
+
+    // 원본별 매출 집계 워터마크 조회(체크포인트가 없으면 생성)
+    @Transactional(
+        isolation = Isolation.READ_COMMITTED,
+        timeout = 5
+    )
+    public BatchJobCheckpoint getSalesRollupCheckpoint(SalesRollupSource source) {
+        return batchJobDao.getBatchJobCheckpointForUpdate(checkpointName(source));
+    }
+
+    /**
+     * 원본 ID 구간의 매출 집계를 반영하고 같은 트랜잭션에서 워터마크를 이동
+     *
+     * 집계 반영과 워터마크 이동이 함께 커밋되므로 재시도나 노드 전환 시에도 같은 행이 두 번 집계되지 않는다.
+     * READ COMMITTED에서 INSERT ... SELECT의 원본 조회는 비잠금 읽기이므로 주문/결제 행 잠금을 기다리게 하지 않는다.
+     *
+     * @param fencingToken 스케줄 작업 임대 펜싱 토큰
+     * @param source 집계 원본
+     * @param expectedLastProcessedId 조회 시점의 워터마크
+     * @param toId 이번 구간의 마지막 원본 ID
+     * @param rowCount 이번 구간의 원본 행 수
+     * @return 갱신된 체크포인트
+     * @throws OrderException.ScheduledJobLeaseLostException 임대를 잃은 경우
+     * @throws OrderException.BatchJobCheckpointConflictException 다른 실행에서 워터마크가 이동한 경우
+     */
+    @Transactional(
+        isolation = Isolation.READ_COMMITTED,
+        timeout = 30
+    )
+    public BatchJobCheckpoint applySalesRollupChunk(long fencingToken, SalesRollupSource source,
+                                                    long expectedLastProcessedId, long toId, int rowCount) {
+        // 임대를 잃은 노드의 늦은 쓰기 차단(펜싱 토큰 확인)
+        if (!batchJobDao.isScheduledJobLeaseValidForShare(JOB_NAME, fencingToken)) {
+            throw new OrderException.ScheduledJobLeaseLostException();
+        }
+
+        // 워터마크 잠금 후 다른 실행에서 진행되었는지 확인
+        BatchJobCheckpoint checkpoint = batchJobDao.getBatchJobCheckpointForUpdate(checkpointName(source));
+        if (checkpoint.getLastProcessedId() != expectedLastProcessedId) {
+            throw new OrderException.BatchJobCheckpointConflictException();
+        }
+
+        salesRollupDao.applySalesRollups(source, expectedLastProcessedId, toId);
+
+        checkpoint.setLastProcessedId(toId);
+        checkpoint.setProcessedCount(checkpoint.getProcessedCount() + rowCount);
+        batchJobDao.updateBatchJobCheckpoint(checkpoint);
+        return checkpoint;
+    }
+
+    // 매출 집계 구간 조회(집계 테이블만 조회)
+    @Transactional(
+        readOnly = true,
+        isolation = Isolation.READ_COMMITTED
+    )
+    public List<SalesRollupDTO> getSalesRollups(SalesRollupSearchDTO searchDTO) {
+        validateSalesRollupSearch(searchDTO);
+        return salesRollupDao.getSalesRollups(searchDTO);
+    }
+
+    private static String checkpointName(SalesRollupSource source) {
+        return JOB_NAME + ":" + source.name();
+    }
+
+    // 매출 집계 조회 조건 검증
+    private void validateSalesRollupSearch(SalesRollupSearchDTO searchDTO) {
+        if (searchDTO == null || searchDTO.getPeriodType() == null) {
+            log.error("집계 단위가 없습니다.");
+            throw new IllegalArgumentException("집계 단위(HOUR/DAY)를 지정해주세요.");
+        }
+        if (searchDTO.getStartDate() == null || searchDTO.getEndDate() == null) {
+            log.error("조회 기간이 없습니다.");
+            throw new IllegalArgumentException("조회 시작일과 종료일을 지정해주세요.");
+        }
+        if (!searchDTO.getStartDate().isBefore(searchDTO.getEndDate())) {
+            log.error("시작일이 종료일보다 늦을 수 없습니다.");
+            throw new IllegalArgumentException("시작일이 종료일보다 늦을 수 없습니다.");
+        }
+
+        Duration maxRange = searchDTO.getPeriodType() == SalesRollupPeriod.HOUR ? MAX_HOURLY_RANGE : MAX_DAILY_RANGE;
+        if (Duration.between(searchDTO.getStartDate(), searchDTO.getEndDate()).compareTo(maxRange) > 0) {
+            log.error("조회 기간 초과 - 단위: {}, 기간: {} ~ {}",
+                searchDTO.getPeriodType(), searchDTO.getStartDate(), searchDTO.getEndDate());
+            throw new IllegalArgumentException("조회 기간은 " + (searchDTO.getPeriodType() == SalesRollupPeriod.HOUR ?
+                "시간 단위 최대 31일" : "일 단위 최대 366일") + "까지 가능합니다.");
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,67 @@
+package com.my.gyp_portfolio_shoppingmall.service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+
+import com.my.gyp_portfolio_shoppingmall.dao.BatchJobDao;
+import com.my.gyp_portfolio_shoppingmall.vo.ScheduledJobLease;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 스케줄 작업 임대(lease) 관리
+ * 
+ * 여러 노드에서 같은 스케줄 작업이 동시에 실행되지 않도록 DB 행 단위 임대를 사용한다.
+ * 임대는 TTL이 지나면 다른 노드가 가져갈 수 있으며, 획득할 때마다 펜싱 토큰이 증가하므로
+ * 쓰기 트랜잭션에서 토큰을 확인하면 임대를 잃은 노드의 늦은 쓰기를 막을 수 있다.
+ * 각 호출은 트랜잭션 밖에서 문장 단위로 즉시 커밋된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScheduledJobLeaseService {
+
+    private final BatchJobDao batchJobDao;
+
+    private final String ownerId = resolveOwnerId();
+
+    // 스케줄 작업 임대 획득 시도(다른 노드가 보유 중이면 null)
+    public ScheduledJobLease tryAcquire(String jobName, int ttlSeconds) {
+        ScheduledJobLease lease = batchJobDao.acquireScheduledJobLease(jobName, ownerId, ttlSeconds);
+        if (lease == null) {
+            log.info("스케줄 작업 임대 획득 실패(다른 노드에서 실행 중) - 작업: {}", jobName);
+            return null;
+        }
+        log.info("스케줄 작업 임대 획득 - 작업: {}, 펜싱 토큰: {}", jobName, lease.getFencingToken());
+        return lease;
+    }
+
+    // 스케줄 작업 임대 연장(임대를 잃었으면 false)
+    public boolean renew(ScheduledJobLease lease, int ttlSeconds) {
+        return batchJobDao.renewScheduledJobLease(lease, ttlSeconds) > 0;
+    }
+
+    // 스케줄 작업 임대 반납
+    public void release(ScheduledJobLease lease) {
+        try {
+            batchJobDao.releaseScheduledJobLease(lease);
+        } catch (Exception e) {
+            // 반납 실패 시 TTL 만료 후 다른 노드가 획득
+            log.error("스케줄 작업 임대 반납 실패 - 작업: {}", lease.getJobName(), e);
+        }
+    }
+
+    private static String resolveOwnerId() {
+        String hostName;
+        try {
+            hostName = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            hostName = "unknown";
+        }
+        return hostName + ":" + UUID.randomUUID();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,180 @@
+package com.my.gyp_portfolio_shoppingmall.service;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.SqlSession;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.my.gyp_portfolio_shoppingmall.dao.StockReconciliationDao;
+import com.my.gyp_portfolio_shoppingmall.dto.ProductDto.StockReconciliationDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.ProductDto.StockReconciliationResultDTO;
+import com.my.gyp_portfolio_shoppingmall.exception.OrderException;
+import com.my.gyp_portfolio_shoppingmall.exception.ProductException;
+import com.my.gyp_portfolio_shoppingmall.vo.ScheduledJobLease;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockReconciliationService {
+
+    private static final int CHUNK_SIZE = 100;
+    private static final int MAX_REPORTED_MISMATCHES = 100;
+    private static final String JOB_NAME = "STOCK_RECONCILIATION";
+    private static final int LEASE_TTL_SECONDS = 30 * 60;
+    // 스트리밍 중 임대 연장 간격(점검 상품 품목 수)
+    private static final int LEASE_RENEW_INTERVAL = 10000;
+
+    @Value("${inventory.reconciliation.auto-correct:false}")
+    private boolean autoCorrectOnSchedule;
+
+    private final StockReconciliationDao stockReconciliationDao;
+    private final ProductService productService;
+    private final ScheduledJobLeaseService scheduledJobLeaseService;
+
+    // 야간 재고 정합성 점검(임대 획득 노드만 실행, 오늘 이미 완료했으면 건너뜀)
+    @Scheduled(cron = "0 30 3 * * *")
+    public void scheduledReconcileStock() {
+        ScheduledJobLease lease = scheduledJobLeaseService.tryAcquire(JOB_NAME, LEASE_TTL_SECONDS);
+        if (lease == null) {
+            return;
+        }
+        try {
+            LocalDateTime runDate = LocalDate.now().atStartOfDay();
+            if (!productService.beginStockReconciliation(JOB_NAME, runDate)) {
+                log.info("재고 정합성 점검 건너뜀(오늘 이미 완료) - 기준일: {}", runDate.toLocalDate());
+                return;
+            }
+
+            StockReconciliationResultDTO result = reconcileStock(autoCorrectOnSchedule, lease);
+            productService.completeStockReconciliation(JOB_NAME, result.getCheckedCount());
+            log.info("재고 정합성 점검 완료 - 점검: {}, 불일치: {}, 보정: {}",
+                result.getCheckedCount(), result.getMismatchCount(), result.getCorrectedCount());
+        } catch (OrderException.ScheduledJobLeaseLostException e) {
+            // 다음 실행 또는 임대를 가져간 노드가 처음부터 다시 점검
+            log.warn("재고 정합성 점검 임대 만료로 중단 - 작업: {}", JOB_NAME);
+        } finally {
+            scheduledJobLeaseService.release(lease);
+        }
+    }
+
+    /**
+     * 상품 품목 수량과 재고 단위(product_inventories)를 비교
+     * 
+     * 양쪽을 상품 품목 ID 순 커서로 비잠금 스트리밍하여 병합하고,
+     * 불일치 후보는 청크 단위로 재확인한 뒤 보고 또는 원장 보정한다.
+     * 
+     * @param autoCorrect 불일치 확정 시 가용 재고 보정 여부
+     * @return 점검 결과
+     * @throws ProductException.StockReconciliationException 커서 처리 중 오류 발생 시
+     */
+    public StockReconciliationResultDTO reconcileStock(boolean autoCorrect) {
+        return reconcileStock(autoCorrect, null);
+    }
+
+    // 스케줄 실행 시 임대를 주기적으로 연장하고 보정 트랜잭션에서 펜싱 토큰 확인
+    private StockReconciliationResultDTO reconcileStock(boolean autoCorrect, ScheduledJobLease lease) {
+        StockReconciliationResultDTO result = new StockReconciliationResultDTO();
+        List<Integer> suspectIds = new ArrayList<>(CHUNK_SIZE);
+
+        try (SqlSession itemSession = stockReconciliationDao.openStreamingSession();
+             SqlSession inventorySession = stockReconciliationDao.openStreamingSession();
+             Cursor<StockReconciliationDTO> items = stockReconciliationDao.streamProductItemStocks(itemSession);
+             Cursor<StockReconciliationDTO> inventoryCounts = stockReconciliationDao.streamInventoryCounts(inventorySession)) {
+
+            Iterator<StockReconciliationDTO> countIterator = inventoryCounts.iterator();
+            StockReconciliationDTO count = countIterator.hasNext() ? countIterator.next() : null;
+
+            for (StockReconciliationDTO item : items) {
+                // 상품 품목 ID 순으로 정렬된 두 스트림 병합
+                while (count != null && count.getProductItemId() < item.getProductItemId()) {
+                    count = countIterator.hasNext() ? countIterator.next() : null;
+                }
+                if (count != null && count.getProductItemId().equals(item.getProductItemId())) {
+                    item.setInStockCount(count.getInStockCount());
+                    item.setOutOfStockCount(count.getOutOfStockCount());
+                    item.setDefectiveCount(count.getDefectiveCount());
+                }
+                result.setCheckedCount(result.getCheckedCount() + 1);
+                if (result.getCheckedCount() % LEASE_RENEW_INTERVAL == 0) {
+                    renewLease(lease);
+                }
+
+                if (item.getStockDifference() != 0) {
+                    suspectIds.add(item.getProductItemId());
+                }
+                if (suspectIds.size() >= CHUNK_SIZE) {
+                    processSuspects(suspectIds, autoCorrect, lease, result);
+                    suspectIds.clear();
+                }
+            }
+
+            if (!suspectIds.isEmpty()) {
+                processSuspects(suspectIds, autoCorrect, lease, result);
+            }
+        } catch (IOException e) {
+            log.error("재고 정합성 점검 커서 처리 실패", e);
+            throw new ProductException.StockReconciliationException("재고 정합성 점검 커서 처리 실패: " + e.getMessage(), e);
+        }
+
+        return result;
+    }
+
+    // 불일치 후보 재확인 후 보고 및 보정
+    private void processSuspects(List<Integer> suspectIds, boolean autoCorrect, ScheduledJobLease lease,
+                                 StockReconciliationResultDTO result) {
+        renewLease(lease);
+
+        // 스트리밍 중 변경된 항목을 걸러내기 위해 단일 구문으로 양쪽 재조회
+        List<StockReconciliationDTO> mismatches = new ArrayList<>();
+        for (StockReconciliationDTO rechecked : stockReconciliationDao.recheckStockMismatches(suspectIds)) {
+            if (rechecked.getStockDifference() != 0) {
+                mismatches.add(rechecked);
+            }
+        }
+        if (mismatches.isEmpty()) {
+            return;
+        }
+
+        for (StockReconciliationDTO mismatch : mismatches) {
+            log.warn("재고 정합성 불일치 - 상품품목ID: {}, 가용: {}, 예약: {}, 판매: {}, 입고 단위: {}, 출고 단위: {}, 불량 단위: {}, 차이: {}",
+                mismatch.getProductItemId(),
+                mismatch.getStockQuantity(),
+                mismatch.getReservedQuantity(),
+                mismatch.getSalesCount(),
+                mismatch.getInStockCount(),
+                mismatch.getOutOfStockCount(),
+                mismatch.getDefectiveCount(),
+                mismatch.getStockDifference()
+            );
+            if (result.getMismatches().size() < MAX_REPORTED_MISMATCHES) {
+                result.getMismatches().add(mismatch);
+            }
+        }
+        result.setMismatchCount(result.getMismatchCount() + mismatches.size());
+
+        if (autoCorrect) {
+            int correctedCount = lease == null
+                ? productService.correctStockMismatches(mismatches)
+                : productService.correctStockMismatches(mismatches, lease.getJobName(), lease.getFencingToken());
+            result.setCorrectedCount(result.getCorrectedCount() + correctedCount);
+        }
+    }
+
+    // 청크 사이 임대 연장(임대를 잃었으면 중단)
+    private void renewLease(ScheduledJobLease lease) {
+        if (lease != null && !scheduledJobLeaseService.renew(lease, LEASE_TTL_SECONDS)) {
+            throw new OrderException.ScheduledJobLeaseLostException();
+        }
+    }
+}
\ No newline at end of file
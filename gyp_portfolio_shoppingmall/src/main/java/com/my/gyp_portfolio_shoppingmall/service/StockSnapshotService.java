@@ -0,0 +1,68 @@
+package com.my.gyp_portfolio_shoppingmall.service;
+
+import java.util.List;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.my.gyp_portfolio_shoppingmall.dao.ProductDao;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockSnapshotService {
+
+    // 한 번에 반영할 최대 원장 수
+    private static final int MAX_LEDGER_ROWS = 50000;
+    // 한 번에 반영할 최대 상품 품목 수
+    private static final int MAX_PRODUCT_ITEMS = 1000;
+
+    private final ProductDao productDao;
+
+    // 재고 변동 원장을 상품 품목 수량에 반영하고 스냅샷 생성
+    // 원장 ID 구간이 아니라 커밋된 미반영 원장에 회차를 표시해 반영하므로, 늦게 커밋된 원장도 다음 회차에 반영됨
+    // READ COMMITTED: 표시 UPDATE가 간격 잠금 없이 커밋된 행만 잠그도록 해 재고 변동 원장 등록을 막지 않음
+    @Scheduled(fixedDelay = 60 * 1000L)
+    @Transactional(
+        isolation = Isolation.READ_COMMITTED,
+        timeout = 30
+    )
+    public void compactStockLedger() {
+        // 스냅샷 작업 직렬화 및 이번 회차 결정
+        long snapshotSeq = productDao.getLastSnapshotSeqForUpdate() + 1;
+
+        // 원장 도입 이전 수량을 최초 기준 스냅샷으로 저장
+        if (productDao.getStockSnapshotCount() == 0) {
+            int baselineCount = productDao.insertBaselineStockSnapshots();
+            log.info("재고 기준 스냅샷 생성 완료 - 상품 품목 수: {}", baselineCount);
+        }
+
+        // 반영할 상품 품목을 원장보다 먼저 ID 순으로 잠금
+        // 주문은 상품 품목 잠금 후 미반영 원장을 공유 잠금으로 읽으므로, 원장을 먼저 잠그면 서로 기다리는 교착이 생김
+        List<Integer> productItemIds = productDao.getUnappliedStockLedgerProductItemIds(MAX_PRODUCT_ITEMS);
+        if (productItemIds.isEmpty()) {
+            return;
+        }
+        List<Integer> lockedProductItemIds = productDao.lockProductItemsForUpdate(productItemIds);
+        if (lockedProductItemIds.isEmpty()) {
+            return;
+        }
+
+        // 잠근 상품 품목의 커밋된 미반영 원장에 회차 표시(표시된 원장은 잠겨 있어 반영 중 변경되지 않음)
+        int markedCount = productDao.markUnappliedStockLedgers(snapshotSeq, lockedProductItemIds, MAX_LEDGER_ROWS);
+        if (markedCount == 0) {
+            return;
+        }
+
+        // 표시된 원장 합계 반영 후 반영된 상품 품목의 스냅샷 생성
+        int appliedCount = productDao.applyStockLedgers(snapshotSeq);
+        productDao.insertStockSnapshots(snapshotSeq);
+
+        log.info("재고 원장 스냅샷 반영 완료 - 회차: {}, 원장 수: {}, 상품 품목 수: {}", snapshotSeq, markedCount, appliedCount);
+    }
+}
@@ -53,6 +53,7 @@ public class UserService {
     private final LoginHistorySupport loginHistoryUtil;
     private final PhoneEncryptionUtil phoneEncryptionUtil;
     private final TokenBlacklistSupport tokenBlacklistSupport;
+    private final DashboardService dashboardService;
 
     // 상태 업데이트만 수행하는 낙관적 잠금 전용 메서드
     @OptimisticLock
@@ -90,6 +91,7 @@ public class UserService {
         user.setPassword(encodedPassword);
 
         userDao.insertUser(user);
+        dashboardService.increaseUserCount();
 
         // 가입 환영 이메일 발송
         emailSender.sendWelcomeEmail(user.getEmail(), user.getName());
@@ -0,0 +1,143 @@
+package com.my.gyp_portfolio_shoppingmall.support;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 호출 횟수 기반 서킷 브레이커
+ *
+ * 최근 windowSize건의 호출 결과 중 실패율이 임계값 이상이면 열림 상태로 바뀌어 openDurationMillis 동안 호출을 즉시 거절한다.
+ * 열림 시간이 지나면 반열림 상태에서 halfOpenPermits건만 시험 호출을 허용하고,
+ * 모두 성공하면 닫힘 상태로 복귀하며 하나라도 실패하면 다시 열림 상태가 된다.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String name;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openDurationMillis;
+    private final int halfOpenPermits;
+
+    // 닫힘 상태의 최근 호출 결과(true: 실패)
+    private final boolean[] outcomes;
+    private int nextIndex;
+    private int recordedCount;
+    private int failureCount;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenInFlight;
+    private int halfOpenSuccesses;
+
+    public CircuitBreaker(String name, int windowSize, int minimumCalls, int failureRateThreshold,
+                          long openDurationMillis, int halfOpenPermits) {
+        if (windowSize <= 0 || minimumCalls <= 0 || minimumCalls > windowSize
+            || failureRateThreshold <= 0 || failureRateThreshold > 100
+            || openDurationMillis <= 0 || halfOpenPermits <= 0) {
+            throw new IllegalArgumentException("서킷 브레이커 설정값이 올바르지 않습니다.");
+        }
+
+        this.name = name;
+        this.outcomes = new boolean[windowSize];
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationMillis = openDurationMillis;
+        this.halfOpenPermits = halfOpenPermits;
+    }
+
+    // 호출 허용 여부(허용된 호출은 onSuccess/onFailure/onIgnored 중 하나로 결과를 알려야 함)
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAt < openDurationMillis) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenInFlight >= halfOpenPermits) {
+                return false;
+            }
+            halfOpenInFlight++;
+        }
+        return true;
+    }
+
+    // 호출 성공
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            releaseHalfOpenPermit();
+            if (++halfOpenSuccesses >= halfOpenPermits) {
+                transitionTo(State.CLOSED);
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    // 호출 실패
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (recordedCount >= minimumCalls && failureCount * 100 >= failureRateThreshold * recordedCount) {
+                transitionTo(State.OPEN);
+            }
+        }
+    }
+
+    // 결과를 집계하지 않는 호출 종료(취소 등)
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            releaseHalfOpenPermit();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failed) {
+        if (recordedCount == outcomes.length) {
+            if (outcomes[nextIndex]) {
+                failureCount--;
+            }
+        } else {
+            recordedCount++;
+        }
+        outcomes[nextIndex] = failed;
+        if (failed) {
+            failureCount++;
+        }
+        nextIndex = (nextIndex + 1) % outcomes.length;
+    }
+
+    private void releaseHalfOpenPermit() {
+        if (halfOpenInFlight > 0) {
+            halfOpenInFlight--;
+        }
+    }
+
+    private void transitionTo(State newState) {
+        log.warn("서킷 브레이커 상태 변경 - 이름: {}, {} -> {}, 최근 실패: {}/{}",
+            name, state, newState, failureCount, recordedCount);
+
+        state = newState;
+        halfOpenInFlight = 0;
+        halfOpenSuccesses = 0;
+        if (newState == State.OPEN) {
+            openedAt = System.currentTimeMillis();
+        }
+        if (newState == State.CLOSED) {
+            nextIndex = 0;
+            recordedCount = 0;
+            failureCount = 0;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.my.gyp_portfolio_shoppingmall.support;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 스트리밍 CSV 작성기
+ *
+ * 행 단위로 버퍼에 기록하며, 호출자가 flush 시점을 정한다.
+ * 엑셀 호환을 위해 UTF-8 BOM을 먼저 기록하고, 수식으로 해석될 수 있는 텍스트 값은 작은따옴표를 붙인다.
+ * 하위 스트림은 닫지 않는다.
+ */
+public class CsvWriter {
+
+    private static final char UTF8_BOM = '\uFEFF';
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Writer writer;
+
+    public CsvWriter(OutputStream outputStream) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        this.writer.write(UTF8_BOM);
+    }
+
+    // 한 행 기록(null은 빈 값)
+    public void writeRow(Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writer.write(escape(values[i]));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private String escape(Object value) {
+        String text = value.toString();
+        if (value instanceof CharSequence && !text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
\ No newline at end of file
@@ -6,10 +6,23 @@ import javax.mail.MessagingException;
 import javax.mail.internet.MimeMessage;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailPreparationException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.my.gyp_portfolio_shoppingmall.dao.EmailOutboxDao;
+import com.my.gyp_portfolio_shoppingmall.enums.EmailEnums.EmailType;
+import com.my.gyp_portfolio_shoppingmall.vo.EmailOutbox;
+
+/**
+ * 이메일 작성 및 발송
+ *
+ * send* 메서드는 SMTP로 바로 보내지 않고 호출한 업무 트랜잭션 안에서 email_outbox에 기록만 한다.
+ * 실제 발송은 커밋 후 EmailOutboxService가 createMessage로 만든 메시지를 SMTP 연결 풀로 보내므로
+ * SMTP 지연이 DB 트랜잭션에 포함되지 않는다.
+ */
 @Component
 public class EmailSender {
 
@@ -20,45 +33,62 @@ public class EmailSender {
     private String mailUsername;
 
     private final JavaMailSender javaMailSender;
+    private final EmailOutboxDao emailOutboxDao;
 
-    public EmailSender(JavaMailSender javaMailSender) {
+    public EmailSender(JavaMailSender javaMailSender, EmailOutboxDao emailOutboxDao) {
         this.javaMailSender = javaMailSender;
+        this.emailOutboxDao = emailOutboxDao;
     }
     
-    // 일반적인 이메일 발송 메서드
-    public void sendEmail(String to, String subject, String htmlContent) {
+    // 발송할 이메일을 발송함에 기록(업무 트랜잭션 안에서 호출, 커밋 후 발송)
+    public void sendEmail(EmailType emailType, String to, String subject, String htmlContent) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("이메일 발송함 기록은 트랜잭션 안에서만 가능합니다.");
+        }
+
+        EmailOutbox emailOutbox = new EmailOutbox();
+        emailOutbox.setEmailType(emailType);
+        emailOutbox.setRecipient(to);
+        emailOutbox.setSubject(subject);
+        emailOutbox.setHtmlContent(htmlContent);
+        emailOutboxDao.insertEmailOutbox(emailOutbox);
+    }
+
+    // 발송함에 기록된 이메일로 발송할 메시지 작성
+    public MimeMessage createMessage(EmailOutbox emailOutbox) {
         MimeMessage message = javaMailSender.createMimeMessage();
         try {
             MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
             helper.setFrom(mailUsername);
-            helper.setTo(to);
-            helper.setSubject(subject);
-            helper.setText(htmlContent, true);
-            javaMailSender.send(message);
+            helper.setTo(emailOutbox.getRecipient());
+            helper.setSubject(emailOutbox.getSubject());
+            helper.setText(emailOutbox.getHtmlContent(), true);
+            message.saveChanges();
         } catch (MessagingException e) {
-            throw new RuntimeException("메일 전송 실패", e);
+            throw new MailPreparationException("메일 작성 실패", e);
         }
+        return message;
     }
 
     // 비밀번호 재설정 이메일
     public void sendPasswordResetEmail(String email, String resetToken) {
         String subject = "[GYP.Portfolio Mall] 비밀번호 재설정";
         String content = createPasswordResetEmailContent(resetToken);
-        sendEmail(email, subject, content);
+        sendEmail(EmailType.PASSWORD_RESET, email, subject, content);
     }
 
     // 가입 환영 이메일
     public void sendWelcomeEmail(String email, String userName) {
         String subject = "[GYP.Portfolio Mall] 가입을 환영합니다";
         String content = createWelcomeEmailContent(userName);
-        sendEmail(email, subject, content);
+        sendEmail(EmailType.WELCOME, email, subject, content);
     }
     
     // 결제 완료 이메일
     public void sendPaymentCompletedEmail(String email, String userName, String orderNumber, BigDecimal amount) {
         String subject = "[GYP.Portfolio Mall] 결제가 완료되었습니다";
         String content = createPaymentCompletedEmailContent(userName, orderNumber, amount);
-        sendEmail(email, subject, content);
+        sendEmail(EmailType.PAYMENT_COMPLETED, email, subject, content);
     }
     
     // 비밀번호 재설정 이메일 템플릿
@@ -0,0 +1,160 @@
+package com.my.gyp_portfolio_shoppingmall.support;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 계층형 타이밍 휠
+ *
+ * 하위 휠은 tickMillis 단위, 상위 휠은 하위 휠 한 바퀴 단위로 슬롯을 나누며,
+ * 상위 휠의 슬롯 경계를 지날 때 해당 슬롯의 키를 하위 휠로 재배치한다.
+ * 등록/취소는 O(1), 만료 처리는 지나간 슬롯 수에 비례하며 만료 시각 이후 최대 tickMillis 안에 반환된다.
+ */
+public class HierarchicalTimingWheel<K> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long[] levelTickMillis;
+    private final List<List<Set<K>>> levels = new ArrayList<>();
+
+    // 키별 만료 시각 및 현재 위치한 슬롯
+    private final Map<K, Long> deadlines = new HashMap<>();
+    private final Map<K, Set<K>> locations = new HashMap<>();
+
+    // 등록 시점에 이미 만료된 키
+    private final List<K> expiredOnSchedule = new ArrayList<>();
+
+    private long currentTime;
+
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, int levelCount, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 1 || levelCount <= 0) {
+            throw new IllegalArgumentException("타이밍 휠 설정값이 올바르지 않습니다.");
+        }
+
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.levelTickMillis = new long[levelCount];
+        this.currentTime = startMillis - (startMillis % tickMillis);
+
+        long levelTick = tickMillis;
+        for (int level = 0; level < levelCount; level++) {
+            levelTickMillis[level] = levelTick;
+            List<Set<K>> buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new HashSet<>());
+            }
+            levels.add(buckets);
+            levelTick *= wheelSize;
+        }
+    }
+
+    // 키 등록(이미 등록된 키는 만료 시각 갱신)
+    public synchronized void schedule(K key, long deadlineMillis) {
+        remove(key);
+        deadlines.put(key, deadlineMillis);
+        place(key, deadlineMillis);
+    }
+
+    // 키 등록 해제
+    public synchronized boolean cancel(K key) {
+        return remove(key);
+    }
+
+    // 등록 여부 확인
+    public synchronized boolean contains(K key) {
+        return deadlines.containsKey(key);
+    }
+
+    // 등록된 키 수
+    public synchronized int size() {
+        return deadlines.size();
+    }
+
+    // 현재 시각까지 휠을 진행하고 만료된 키 반환
+    public synchronized List<K> advance(long nowMillis) {
+        List<K> expired = new ArrayList<>(expiredOnSchedule);
+        expiredOnSchedule.clear();
+
+        while (currentTime + tickMillis <= nowMillis) {
+            // 지나간 하위 휠 슬롯의 키 만료 처리
+            Set<K> bucket = bucketOf(0, currentTime);
+            for (K key : bucket) {
+                deadlines.remove(key);
+                locations.remove(key);
+                expired.add(key);
+            }
+            bucket.clear();
+
+            currentTime += tickMillis;
+
+            // 상위 휠부터 경계에 도달한 슬롯을 하위 휠로 재배치
+            for (int level = levels.size() - 1; level > 0; level--) {
+                if (currentTime % levelTickMillis[level] == 0) {
+                    cascade(level);
+                }
+            }
+
+            expired.addAll(expiredOnSchedule);
+            expiredOnSchedule.clear();
+        }
+
+        return expired;
+    }
+
+    // 만료 시각에 맞는 휠/슬롯에 배치
+    private void place(K key, long deadlineMillis) {
+        if (deadlineMillis < currentTime) {
+            deadlines.remove(key);
+            expiredOnSchedule.add(key);
+            return;
+        }
+
+        int topLevel = levels.size() - 1;
+        for (int level = 0; level <= topLevel; level++) {
+            long span = levelTickMillis[level] * wheelSize;
+            if (deadlineMillis - currentTime < span || level == topLevel) {
+                // 최상위 휠 범위를 넘는 키는 마지막 슬롯에 두고 재배치 시 다시 판단
+                long slotTime = Math.min(deadlineMillis, currentTime + span - levelTickMillis[level]);
+                Set<K> bucket = bucketOf(level, slotTime);
+                bucket.add(key);
+                locations.put(key, bucket);
+                return;
+            }
+        }
+    }
+
+    // 상위 휠 슬롯의 키를 다시 배치
+    private void cascade(int level) {
+        Set<K> bucket = bucketOf(level, currentTime);
+        if (bucket.isEmpty()) {
+            return;
+        }
+
+        List<K> keys = new ArrayList<>(bucket);
+        bucket.clear();
+        for (K key : keys) {
+            locations.remove(key);
+            place(key, deadlines.get(key));
+        }
+    }
+
+    private Set<K> bucketOf(int level, long timeMillis) {
+        int index = (int) ((timeMillis / levelTickMillis[level]) % wheelSize);
+        return levels.get(level).get(index);
+    }
+
+    private boolean remove(K key) {
+        if (deadlines.remove(key) == null) {
+            return expiredOnSchedule.remove(key);
+        }
+        Set<K> bucket = locations.remove(key);
+        if (bucket != null) {
+            bucket.remove(key);
+        }
+        return true;
+    }
+}
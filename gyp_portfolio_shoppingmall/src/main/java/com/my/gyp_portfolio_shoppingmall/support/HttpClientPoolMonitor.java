@@ -0,0 +1,42 @@
+package com.my.gyp_portfolio_shoppingmall.support;
+
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HttpClientPoolMonitor {
+
+    private final PoolingHttpClientConnectionManager httpClientConnectionManager;
+
+    // 외부 API 연결 풀 상태 기록(대기 요청이 있으면 경고)
+    @Scheduled(fixedDelay = 60 * 1000L, initialDelay = 60 * 1000L)
+    public void logPoolStats() {
+        PoolStats totalStats = httpClientConnectionManager.getTotalStats();
+        if (totalStats.getPending() > 0) {
+            log.warn("HTTP 연결 풀 대기 발생 - 사용 중: {}, 대기: {}, 유휴: {}, 최대: {}",
+                totalStats.getLeased(), totalStats.getPending(), totalStats.getAvailable(), totalStats.getMax());
+        } else {
+            log.info("HTTP 연결 풀 상태 - 사용 중: {}, 대기: {}, 유휴: {}, 최대: {}",
+                totalStats.getLeased(), totalStats.getPending(), totalStats.getAvailable(), totalStats.getMax());
+        }
+
+        for (HttpRoute route : httpClientConnectionManager.getRoutes()) {
+            PoolStats routeStats = httpClientConnectionManager.getStats(route);
+            log.debug("HTTP 연결 풀 호스트별 상태 - 호스트: {}, 사용 중: {}, 대기: {}, 유휴: {}, 최대: {}",
+                route.getTargetHost(), routeStats.getLeased(), routeStats.getPending(), routeStats.getAvailable(), routeStats.getMax());
+        }
+    }
+
+    // 현재 전체 연결 풀 상태
+    public PoolStats getTotalStats() {
+        return httpClientConnectionManager.getTotalStats();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.my.gyp_portfolio_shoppingmall.support;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.my.gyp_portfolio_shoppingmall.dto.PaymentDto.PaymentCustomDataDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.ProductDto.ImageUrlManifestDTO;
+
+/**
+ * 공유 ObjectMapper 기반 JSON 읽기
+ *
+ * 스프링이 구성한 ObjectMapper 하나를 웹 계층, 포트원 클라이언트와 함께 쓰고,
+ * 자주 읽는 형식은 미리 만든 ObjectReader를 재사용해 호출마다 매퍼 생성과 타입 분석 비용을 치르지 않는다.
+ * ObjectReader는 불변이라 여러 스레드에서 공유해도 안전하다.
+ */
+@Component
+public class JsonCodecs {
+
+    private final ObjectReader imageUrlManifestReader;
+    private final ObjectReader jsonStringReader;
+    private final ObjectReader paymentCustomDataReader;
+
+    public JsonCodecs(ObjectMapper objectMapper) {
+        this.imageUrlManifestReader = objectMapper.readerFor(ImageUrlManifestDTO.class);
+        this.jsonStringReader = objectMapper.readerFor(String.class);
+        this.paymentCustomDataReader = objectMapper.readerFor(PaymentCustomDataDTO.class);
+    }
+
+    // 상품 이미지 URL 목록({"urls": [...]}) 읽기
+    public ImageUrlManifestDTO readImageUrlManifest(String json) throws JsonProcessingException {
+        return imageUrlManifestReader.readValue(json);
+    }
+
+    // 포트원 custom_data 읽기(주문 정보 JSON이 문자열로 한 번 더 감싸져 전달됨)
+    public PaymentCustomDataDTO readPaymentCustomData(String customData) throws JsonProcessingException {
+        String json = jsonStringReader.readValue(customData);
+        return json != null ? paymentCustomDataReader.readValue(json) : null;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.my.gyp_portfolio_shoppingmall.support;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.my.gyp_portfolio_shoppingmall.enums.OrderEnums.OrderProductStatus;
+import com.my.gyp_portfolio_shoppingmall.exception.OrderException;
+
+/**
+ * 주문 상품 상태 전이표
+ *
+ * 허용된 (현재 상태 -> 다음 상태) 조합과 이력에 남길 기본 사유를 한 곳에서 관리한다.
+ * 단건 처리와 일괄 처리가 같은 표로 검증하므로 전이 규칙 변경은 이 표만 수정한다.
+ */
+public class OrderProductStateMachine {
+
+    private static final Map<OrderProductStatus, Map<OrderProductStatus, String>> TRANSITIONS =
+        new EnumMap<>(OrderProductStatus.class);
+
+    static {
+        allow(OrderProductStatus.PAYMENT_PENDING, OrderProductStatus.PAYMENT_COMPLETED, "결제 완료");
+        allow(OrderProductStatus.PAYMENT_PENDING, OrderProductStatus.CANCEL_REQUESTED, "주문 취소 요청");
+        allow(OrderProductStatus.PAYMENT_PENDING, OrderProductStatus.CANCELED, "주문 취소");
+        allow(OrderProductStatus.PAYMENT_COMPLETED, OrderProductStatus.PREPARING, "상품 준비중");
+        allow(OrderProductStatus.PAYMENT_COMPLETED, OrderProductStatus.CANCEL_REQUESTED, "주문 취소 요청");
+        allow(OrderProductStatus.PAYMENT_COMPLETED, OrderProductStatus.CANCELED, "주문 취소");
+        allow(OrderProductStatus.PREPARING, OrderProductStatus.DELIVERING, "배송 중");
+        allow(OrderProductStatus.PREPARING, OrderProductStatus.CANCEL_REQUESTED, "주문 취소 요청");
+        allow(OrderProductStatus.PREPARING, OrderProductStatus.CANCELED, "주문 취소");
+        allow(OrderProductStatus.DELIVERING, OrderProductStatus.DELIVERED, "배송 완료");
+        allow(OrderProductStatus.DELIVERED, OrderProductStatus.DELIVERY_CONFIRMED, "구매 확정");
+        allow(OrderProductStatus.DELIVERED, OrderProductStatus.RETURN_REQUESTED, "반품 요청");
+        allow(OrderProductStatus.DELIVERED, OrderProductStatus.EXCHANGE_REQUESTED, "교환 요청");
+        allow(OrderProductStatus.CANCEL_REQUESTED, OrderProductStatus.CANCELED, "주문 취소 완료");
+        allow(OrderProductStatus.RETURN_REQUESTED, OrderProductStatus.RETURNING, "반품 중");
+        allow(OrderProductStatus.RETURNING, OrderProductStatus.RETURNED, "반품 완료");
+        allow(OrderProductStatus.EXCHANGE_REQUESTED, OrderProductStatus.EXCHANGE_RETURNING, "교환 반품 중");
+        allow(OrderProductStatus.EXCHANGE_RETURNING, OrderProductStatus.EXCHANGE_PREPARING, "교환 제품 준비 중");
+        allow(OrderProductStatus.EXCHANGE_PREPARING, OrderProductStatus.EXCHANGE_DELIVERING, "교환 배송 중");
+        allow(OrderProductStatus.EXCHANGE_DELIVERING, OrderProductStatus.EXCHANGE_DELIVERED, "교환 배송 완료");
+        allow(OrderProductStatus.EXCHANGE_DELIVERED, OrderProductStatus.DELIVERY_CONFIRMED, "구매 확정");
+    }
+
+    private OrderProductStateMachine() {
+    }
+
+    private static void allow(OrderProductStatus from, OrderProductStatus to, String reason) {
+        TRANSITIONS.computeIfAbsent(from, key -> new EnumMap<>(OrderProductStatus.class)).put(to, reason);
+    }
+
+    // 전이 허용 여부
+    public static boolean canTransition(OrderProductStatus from, OrderProductStatus to) {
+        return from != null && to != null && TRANSITIONS.getOrDefault(from, Collections.emptyMap()).containsKey(to);
+    }
+
+    // 전이 검증(허용되지 않으면 요청 불가 예외)
+    public static void validateTransition(OrderProductStatus from, OrderProductStatus to) {
+        if (!canTransition(from, to)) {
+            throw new OrderException.OrderProductRequestException();
+        }
+    }
+
+    // 전이 기본 사유(이력 기록용)
+    public static String reasonOf(OrderProductStatus from, OrderProductStatus to) {
+        return TRANSITIONS.getOrDefault(from, Collections.emptyMap()).get(to);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,112 @@
+package com.my.gyp_portfolio_shoppingmall.support;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.my.gyp_portfolio_shoppingmall.dto.PaymentDto.PaymentDataDTO;
+
+/**
+ * 포트원 결제 조회 요청 병합
+ *
+ * 같은 imp_uid에 대한 동시 조회는 먼저 들어온 요청 하나만 포트원을 호출하고 나머지는 그 결과(또는 예외)를 공유한다.
+ * paid/failed/cancelled 상태의 응답은 짧은 TTL 동안 노드 로컬에 보관하며, 결제 상태를 바꾸는 처리에서는 evict로 즉시 무효화한다.
+ * 조회 도중 무효화된 경우 조회 결과는 반환만 하고 캐시에 저장하지 않는다.
+ */
+@Component
+public class PaymentVerificationCoalescer {
+
+    private static final Set<String> CACHEABLE_STATUSES = Set.of("paid", "failed", "cancelled");
+
+    @Value("${portone.verification.cache-ttl-ms:3000}")
+    private long cacheTtlMillis;
+
+    private final Map<String, InFlightVerification> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, CachedVerification> cache = new ConcurrentHashMap<>();
+
+    // 결제 조회(캐시 또는 진행 중인 조회가 있으면 공유, 없으면 loader 호출)
+    public PaymentDataDTO get(String impUid, Supplier<PaymentDataDTO> loader) {
+        CachedVerification cached = cache.get(impUid);
+        if (cached != null) {
+            if (cached.expiresAt > System.currentTimeMillis()) {
+                return cached.data;
+            }
+            cache.remove(impUid, cached);
+        }
+
+        InFlightVerification created = new InFlightVerification();
+        InFlightVerification existing = inFlight.putIfAbsent(impUid, created);
+        if (existing != null) {
+            return await(existing.future);
+        }
+
+        try {
+            PaymentDataDTO data = loader.get();
+            if (data != null && CACHEABLE_STATUSES.contains(data.getStatus())) {
+                // 무효화와 같은 키 잠금 안에서 확인해 무효화 이후 저장되는 경합 방지
+                cache.compute(impUid, (key, current) ->
+                    created.evicted ? current : new CachedVerification(data, System.currentTimeMillis() + cacheTtlMillis)
+                );
+            }
+            created.future.complete(data);
+            return data;
+        } catch (RuntimeException e) {
+            created.future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(impUid, created);
+        }
+    }
+
+    // imp_uid 기준 무효화(진행 중인 조회 결과도 저장하지 않고, 이후 요청은 새로 조회)
+    public void evict(String impUid) {
+        InFlightVerification current = inFlight.remove(impUid);
+        cache.compute(impUid, (key, cached) -> {
+            if (current != null) {
+                current.evicted = true;
+            }
+            return null;
+        });
+    }
+
+    // 만료된 캐시 정리
+    @Scheduled(fixedDelay = 60 * 1000L)
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        cache.values().removeIf(cached -> cached.expiresAt <= now);
+    }
+
+    private static PaymentDataDTO await(CompletableFuture<PaymentDataDTO> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // 먼저 조회한 요청과 같은 예외로 실패 처리
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static class InFlightVerification {
+        private final CompletableFuture<PaymentDataDTO> future = new CompletableFuture<>();
+        private volatile boolean evicted;
+    }
+
+    private static class CachedVerification {
+        private final PaymentDataDTO data;
+        private final long expiresAt;
+
+        private CachedVerification(PaymentDataDTO data, long expiresAt) {
+            this.data = data;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
\ No newline at end of file
@@ -32,9 +32,21 @@ public class PhoneEncryptionUtil {
 
     @Value("${encryption.phone.salt}")
     private String baseSalt;
+
+    // 설정값이 고정이므로 파생 키는 최초 1회만 생성
+    private volatile SecretKeySpec derivedKey;
     
     // PBKDF2WithHmacSHA256 알고리즘을 사용하여 AES 키 생성
     private SecretKeySpec generateKey() throws Exception {
+        SecretKeySpec key = derivedKey;
+        if (key == null) {
+            key = deriveKey();
+            derivedKey = key;
+        }
+        return key;
+    }
+
+    private SecretKeySpec deriveKey() throws Exception {
         KeySpec spec = new PBEKeySpec(
             secretKey.toCharArray(), 
             baseSalt.getBytes(StandardCharsets.UTF_8), 
@@ -0,0 +1,104 @@
+package com.my.gyp_portfolio_shoppingmall.support;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.my.gyp_portfolio_shoppingmall.dto.ProductDto.ProductItemAvailabilityDTO;
+
+/**
+ * 상품 품목 구매 가능 여부 near-cache
+ *
+ * 상품 상세 화면의 사이즈/컬러 조회를 주문 처리 중인 품목 행 잠금과 분리하기 위한 읽기 모델.
+ * 재고 변동 트랜잭션이 커밋된 뒤 해당 상품 항목을 무효화하며, TTL은 다른 인스턴스 변경 등 누락 대비용이다.
+ * 적재 도중 무효화가 일어난 경우 적재 결과는 반환만 하고 캐시에 저장하지 않는다.
+ */
+@Component
+public class ProductAvailabilityCache {
+
+    private static final long TTL_MILLIS = 30 * 1000L;
+
+    private final Map<Integer, CachedAvailability> cache = new ConcurrentHashMap<>();
+    private final Map<Integer, Integer> productIdByItemId = new ConcurrentHashMap<>();
+    private final Map<Integer, Long> evictedSequences = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    // 캐시 조회(없거나 만료 시 loader로 적재)
+    public List<ProductItemAvailabilityDTO> get(Integer productId, Function<Integer, List<ProductItemAvailabilityDTO>> loader) {
+        long now = System.currentTimeMillis();
+        CachedAvailability cached = cache.get(productId);
+        if (cached != null && cached.expiresAt > now) {
+            return cached.items;
+        }
+
+        long loadSequence = sequence.incrementAndGet();
+        List<ProductItemAvailabilityDTO> items = List.copyOf(loader.apply(productId));
+        for (ProductItemAvailabilityDTO item : items) {
+            productIdByItemId.put(item.getProductItemId(), productId);
+        }
+
+        // 적재 중 무효화된 상품은 저장하지 않음
+        cache.compute(productId, (key, current) -> {
+            Long evictedSequence = evictedSequences.get(key);
+            if (evictedSequence != null && evictedSequence > loadSequence) {
+                return current;
+            }
+            return new CachedAvailability(items, System.currentTimeMillis() + TTL_MILLIS);
+        });
+        return items;
+    }
+
+    // 상품 품목 기준 무효화(현재 트랜잭션 커밋 이후)
+    public void evictProductItemAfterCommit(Integer productItemId) {
+        runAfterCommit(() -> evictProductItem(productItemId));
+    }
+
+    // 상품 기준 무효화(현재 트랜잭션 커밋 이후)
+    public void evictProductAfterCommit(Integer productId) {
+        runAfterCommit(() -> evictProduct(productId));
+    }
+
+    // 상품 품목 기준 무효화
+    public void evictProductItem(Integer productItemId) {
+        Integer productId = productIdByItemId.get(productItemId);
+        if (productId != null) {
+            evictProduct(productId);
+        }
+    }
+
+    // 상품 기준 무효화
+    public void evictProduct(Integer productId) {
+        long evictSequence = sequence.incrementAndGet();
+        evictedSequences.merge(productId, evictSequence, Math::max);
+        cache.remove(productId);
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static class CachedAvailability {
+        private final List<ProductItemAvailabilityDTO> items;
+        private final long expiresAt;
+
+        private CachedAvailability(List<ProductItemAvailabilityDTO> items, long expiresAt) {
+            this.items = items;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.my.gyp_portfolio_shoppingmall.support;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 초당 허용 건수 기반 속도 제한
+ *
+ * 허용 시각을 1/permitsPerSecond 간격으로 예약하므로 여러 스레드가 동시에 요청해도
+ * 전체 처리 속도가 permitsPerSecond를 넘지 않는다(쉬었던 시간만큼 몰아서 허용하지 않음).
+ */
+public class RateLimiter {
+
+    private final long intervalNanos;
+    private long nextPermitAt = System.nanoTime();
+
+    public RateLimiter(double permitsPerSecond) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("초당 허용 건수는 0보다 커야 합니다.");
+        }
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+    }
+
+    // 다음 허용 시각까지 대기
+    public void acquire() throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long permitAt = Math.max(nextPermitAt, now);
+            nextPermitAt = permitAt + intervalNanos;
+            waitNanos = permitAt - now;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,164 @@
+package com.my.gyp_portfolio_shoppingmall.support;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.mail.MessagingException;
+import javax.mail.Session;
+import javax.mail.Transport;
+import javax.mail.internet.MimeMessage;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인증된 SMTP 연결 풀
+ *
+ * 메일마다 연결/인증/종료하지 않고 최대 maxSize개의 인증된 연결을 재사용한다.
+ * 릴레이 정책에 맞춰 연결당 최대 maxMessagesPerConnection건을 보낸 뒤 다시 연결하고,
+ * maxIdleMillis 동안 쓰지 않은 연결은 버리며, validateAfterIdleMillis 이상 쉬었던 연결은 NOOP으로 확인 후 빌려준다.
+ */
+@Slf4j
+public class SmtpTransportPool implements AutoCloseable {
+
+    private final Session session;
+    private final String protocol;
+    private final String host;
+    private final int port;
+    private final String username;
+    private final String password;
+    private final int maxSize;
+    private final int maxMessagesPerConnection;
+    private final long maxIdleMillis;
+    private final long validateAfterIdleMillis;
+
+    private final Semaphore permits;
+    private final ConcurrentLinkedDeque<PooledTransport> idle = new ConcurrentLinkedDeque<>();
+    private final AtomicLong openedCount = new AtomicLong();
+
+    private volatile boolean closed;
+
+    public SmtpTransportPool(Session session, String protocol, String host, int port, String username, String password,
+                             int maxSize, int maxMessagesPerConnection, long maxIdleMillis, long validateAfterIdleMillis) {
+        if (maxSize <= 0 || maxMessagesPerConnection <= 0 || maxIdleMillis <= 0 || validateAfterIdleMillis < 0) {
+            throw new IllegalArgumentException("SMTP 연결 풀 설정값이 올바르지 않습니다.");
+        }
+
+        this.session = session;
+        this.protocol = protocol;
+        this.host = host;
+        this.port = port;
+        this.username = username;
+        this.password = password;
+        this.maxSize = maxSize;
+        this.maxMessagesPerConnection = maxMessagesPerConnection;
+        this.maxIdleMillis = maxIdleMillis;
+        this.validateAfterIdleMillis = validateAfterIdleMillis;
+        this.permits = new Semaphore(maxSize);
+    }
+
+    // 연결 대여(유휴 연결 우선, 없으면 새로 연결/인증, 반드시 release로 반납)
+    public PooledTransport borrow(long timeoutMillis) throws MessagingException, InterruptedException {
+        if (closed) {
+            throw new IllegalStateException("SMTP 연결 풀이 종료되었습니다.");
+        }
+        if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+            throw new MessagingException("SMTP 연결 대기 시간이 초과되었습니다.");
+        }
+
+        try {
+            PooledTransport pooled;
+            while ((pooled = idle.pollFirst()) != null) {
+                if (isReusable(pooled)) {
+                    return pooled;
+                }
+                pooled.close();
+            }
+            return open();
+        } catch (MessagingException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    // 연결 반납(오류가 난 연결이나 한도에 도달한 연결은 종료)
+    public void release(PooledTransport pooled, boolean healthy) {
+        try {
+            if (healthy && !closed && pooled.messageCount < maxMessagesPerConnection) {
+                pooled.lastUsedAt = System.currentTimeMillis();
+                idle.offerFirst(pooled);
+                return;
+            }
+            pooled.close();
+        } finally {
+            permits.release();
+        }
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    public int getActiveCount() {
+        return maxSize - permits.availablePermits();
+    }
+
+    // 지금까지 새로 연결한 횟수
+    public long getOpenedCount() {
+        return openedCount.get();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        PooledTransport pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            pooled.close();
+        }
+    }
+
+    private PooledTransport open() throws MessagingException {
+        Transport transport = session.getTransport(protocol);
+        transport.connect(host, port, username, password);
+        openedCount.incrementAndGet();
+        log.debug("SMTP 연결 생성 - 호스트: {}, 포트: {}", host, port);
+        return new PooledTransport(transport);
+    }
+
+    private boolean isReusable(PooledTransport pooled) {
+        long idleMillis = System.currentTimeMillis() - pooled.lastUsedAt;
+        if (idleMillis > maxIdleMillis) {
+            return false;
+        }
+        return idleMillis < validateAfterIdleMillis || pooled.transport.isConnected();
+    }
+
+    // 풀에서 빌려준 연결과 보낸 메시지 수
+    public static class PooledTransport {
+        private final Transport transport;
+        private int messageCount;
+        private long lastUsedAt = System.currentTimeMillis();
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+
+        public void send(MimeMessage message) throws MessagingException {
+            transport.sendMessage(message, message.getAllRecipients());
+            messageCount++;
+        }
+
+        private void close() {
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                log.debug("SMTP 연결 종료 실패: {}", e.getMessage());
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.my.gyp_portfolio_shoppingmall.support;
+
+public class SqlLikeSupport {
+    private static final char ESCAPE_CHAR = '\\';
+    
+    // LIKE 검색어의 와일드카드(%, _)와 이스케이프 문자를 일반 문자로 처리(매퍼에서 ESCAPE '\\' 와 함께 사용)
+    public static String escapeLike(String value) {
+        if (value == null) return null;
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ESCAPE_CHAR || c == '%' || c == '_') {
+                escaped.append(ESCAPE_CHAR);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
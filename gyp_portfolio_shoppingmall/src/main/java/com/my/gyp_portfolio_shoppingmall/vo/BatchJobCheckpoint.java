@@ -0,0 +1,71 @@
+package com.my.gyp_portfolio_shoppingmall.vo;
+
+import java.time.LocalDateTime;
+
+import com.my.gyp_portfolio_shoppingmall.enums.BatchJobEnums.BatchJobStatus;
+
+public class BatchJobCheckpoint {
+    private String jobName;
+    private Long lastProcessedId;
+    private LocalDateTime cutoffDate;
+    private BatchJobStatus status;
+    private Integer processedCount;
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+
+    public String getJobName() {
+        return jobName;
+    }
+
+    public void setJobName(String jobName) {
+        this.jobName = jobName;
+    }
+
+    public Long getLastProcessedId() {
+        return lastProcessedId;
+    }
+
+    public void setLastProcessedId(Long lastProcessedId) {
+        this.lastProcessedId = lastProcessedId;
+    }
+
+    public LocalDateTime getCutoffDate() {
+        return cutoffDate;
+    }
+
+    public void setCutoffDate(LocalDateTime cutoffDate) {
+        this.cutoffDate = cutoffDate;
+    }
+
+    public BatchJobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(BatchJobStatus status) {
+        this.status = status;
+    }
+
+    public Integer getProcessedCount() {
+        return processedCount;
+    }
+
+    public void setProcessedCount(Integer processedCount) {
+        this.processedCount = processedCount;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,126 @@
+package com.my.gyp_portfolio_shoppingmall.vo;
+
+import java.time.LocalDateTime;
+
+import com.my.gyp_portfolio_shoppingmall.enums.EmailEnums.EmailOutboxStatus;
+import com.my.gyp_portfolio_shoppingmall.enums.EmailEnums.EmailType;
+
+public class EmailOutbox {
+    private Long emailOutboxId;
+    private EmailType emailType;
+    private String recipient;
+    private String subject;
+    private String htmlContent;
+    private EmailOutboxStatus processStatus;
+    private Integer attempts;
+    private String claimToken;
+    private LocalDateTime lockedUntil;
+    private LocalDateTime nextAttemptAt;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime sentAt;
+
+    public Long getEmailOutboxId() {
+        return emailOutboxId;
+    }
+
+    public void setEmailOutboxId(Long emailOutboxId) {
+        this.emailOutboxId = emailOutboxId;
+    }
+
+    public EmailType getEmailType() {
+        return emailType;
+    }
+
+    public void setEmailType(EmailType emailType) {
+        this.emailType = emailType;
+    }
+
+    public String getRecipient() {
+        return recipient;
+    }
+
+    public void setRecipient(String recipient) {
+        this.recipient = recipient;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public void setSubject(String subject) {
+        this.subject = subject;
+    }
+
+    public String getHtmlContent() {
+        return htmlContent;
+    }
+
+    public void setHtmlContent(String htmlContent) {
+        this.htmlContent = htmlContent;
+    }
+
+    public EmailOutboxStatus getProcessStatus() {
+        return processStatus;
+    }
+
+    public void setProcessStatus(EmailOutboxStatus processStatus) {
+        this.processStatus = processStatus;
+    }
+
+    public Integer getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(Integer attempts) {
+        this.attempts = attempts;
+    }
+
+    public String getClaimToken() {
+        return claimToken;
+    }
+
+    public void setClaimToken(String claimToken) {
+        this.claimToken = claimToken;
+    }
+
+    public LocalDateTime getLockedUntil() {
+        return lockedUntil;
+    }
+
+    public void setLockedUntil(LocalDateTime lockedUntil) {
+        this.lockedUntil = lockedUntil;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getSentAt() {
+        return sentAt;
+    }
+
+    public void setSentAt(LocalDateTime sentAt) {
+        this.sentAt = sentAt;
+    }
+}
\ No newline at end of file
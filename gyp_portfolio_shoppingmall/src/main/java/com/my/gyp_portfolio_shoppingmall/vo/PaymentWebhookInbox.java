@@ -0,0 +1,170 @@
+package com.my.gyp_portfolio_shoppingmall.vo;
+
+import java.time.LocalDateTime;
+
+import com.my.gyp_portfolio_shoppingmall.enums.PaymentEnums.WebhookInboxStatus;
+
+public class PaymentWebhookInbox {
+    private Long webhookInboxId;
+    private String impUid;
+    private String merchantUid;
+    private String status;
+    private String paymentStatus;
+    private Long amount;
+    private Long cancelAmount;
+    private Long paidAt;
+    private Long failedAt;
+    private Long cancelledAt;
+    private WebhookInboxStatus processStatus;
+    private Integer attempts;
+    private String claimToken;
+    private LocalDateTime lockedUntil;
+    private LocalDateTime nextAttemptAt;
+    private String lastError;
+    private LocalDateTime receivedAt;
+    private LocalDateTime processedAt;
+
+    public Long getWebhookInboxId() {
+        return webhookInboxId;
+    }
+
+    public void setWebhookInboxId(Long webhookInboxId) {
+        this.webhookInboxId = webhookInboxId;
+    }
+
+    public String getImpUid() {
+        return impUid;
+    }
+
+    public void setImpUid(String impUid) {
+        this.impUid = impUid;
+    }
+
+    public String getMerchantUid() {
+        return merchantUid;
+    }
+
+    public void setMerchantUid(String merchantUid) {
+        this.merchantUid = merchantUid;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getPaymentStatus() {
+        return paymentStatus;
+    }
+
+    public void setPaymentStatus(String paymentStatus) {
+        this.paymentStatus = paymentStatus;
+    }
+
+    public Long getAmount() {
+        return amount;
+    }
+
+    public void setAmount(Long amount) {
+        this.amount = amount;
+    }
+
+    public Long getCancelAmount() {
+        return cancelAmount;
+    }
+
+    public void setCancelAmount(Long cancelAmount) {
+        this.cancelAmount = cancelAmount;
+    }
+
+    public Long getPaidAt() {
+        return paidAt;
+    }
+
+    public void setPaidAt(Long paidAt) {
+        this.paidAt = paidAt;
+    }
+
+    public Long getFailedAt() {
+        return failedAt;
+    }
+
+    public void setFailedAt(Long failedAt) {
+        this.failedAt = failedAt;
+    }
+
+    public Long getCancelledAt() {
+        return cancelledAt;
+    }
+
+    public void setCancelledAt(Long cancelledAt) {
+        this.cancelledAt = cancelledAt;
+    }
+
+    public WebhookInboxStatus getProcessStatus() {
+        return processStatus;
+    }
+
+    public void setProcessStatus(WebhookInboxStatus processStatus) {
+        this.processStatus = processStatus;
+    }
+
+    public Integer getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(Integer attempts) {
+        this.attempts = attempts;
+    }
+
+    public String getClaimToken() {
+        return claimToken;
+    }
+
+    public void setClaimToken(String claimToken) {
+        this.claimToken = claimToken;
+    }
+
+    public LocalDateTime getLockedUntil() {
+        return lockedUntil;
+    }
+
+    public void setLockedUntil(LocalDateTime lockedUntil) {
+        this.lockedUntil = lockedUntil;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public LocalDateTime getReceivedAt() {
+        return receivedAt;
+    }
+
+    public void setReceivedAt(LocalDateTime receivedAt) {
+        this.receivedAt = receivedAt;
+    }
+
+    public LocalDateTime getProcessedAt() {
+        return processedAt;
+    }
+
+    public void setProcessedAt(LocalDateTime processedAt) {
+        this.processedAt = processedAt;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.my.gyp_portfolio_shoppingmall.vo;
+
+import java.time.LocalDateTime;
+
+public class ScheduledJobLease {
+    private String jobName;
+    private String ownerId;
+    private Long fencingToken;
+    private LocalDateTime leaseUntil;
+
+    public String getJobName() {
+        return jobName;
+    }
+
+    public void setJobName(String jobName) {
+        this.jobName = jobName;
+    }
+
+    public String getOwnerId() {
+        return ownerId;
+    }
+
+    public void setOwnerId(String ownerId) {
+        this.ownerId = ownerId;
+    }
+
+    public Long getFencingToken() {
+        return fencingToken;
+    }
+
+    public void setFencingToken(Long fencingToken) {
+        this.fencingToken = fencingToken;
+    }
+
+    public LocalDateTime getLeaseUntil() {
+        return leaseUntil;
+    }
+
+    public void setLeaseUntil(LocalDateTime leaseUntil) {
+        this.leaseUntil = leaseUntil;
+    }
+}
\ No newline at end of file
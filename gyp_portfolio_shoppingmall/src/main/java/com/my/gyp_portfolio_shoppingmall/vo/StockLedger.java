@@ -0,0 +1,89 @@
+package com.my.gyp_portfolio_shoppingmall.vo;
+
+import java.time.LocalDateTime;
+
+import com.my.gyp_portfolio_shoppingmall.enums.ProductEnums.StockMovementType;
+
+public class StockLedger {
+    private Long stockLedgerId;
+    private Integer productItemId;
+    private Integer orderProductId;
+    private StockMovementType movementType;
+    private Integer stockDelta;
+    private Integer reservedDelta;
+    private Integer salesDelta;
+    private Long snapshotSeq;
+    private LocalDateTime createdAt;
+
+    public Long getStockLedgerId() {
+        return stockLedgerId;
+    }
+
+    public void setStockLedgerId(Long stockLedgerId) {
+        this.stockLedgerId = stockLedgerId;
+    }
+
+    public Integer getProductItemId() {
+        return productItemId;
+    }
+
+    public void setProductItemId(Integer productItemId) {
+        this.productItemId = productItemId;
+    }
+
+    public Integer getOrderProductId() {
+        return orderProductId;
+    }
+
+    public void setOrderProductId(Integer orderProductId) {
+        this.orderProductId = orderProductId;
+    }
+
+    public StockMovementType getMovementType() {
+        return movementType;
+    }
+
+    public void setMovementType(StockMovementType movementType) {
+        this.movementType = movementType;
+    }
+
+    public Integer getStockDelta() {
+        return stockDelta;
+    }
+
+    public void setStockDelta(Integer stockDelta) {
+        this.stockDelta = stockDelta;
+    }
+
+    public Integer getReservedDelta() {
+        return reservedDelta;
+    }
+
+    public void setReservedDelta(Integer reservedDelta) {
+        this.reservedDelta = reservedDelta;
+    }
+
+    public Integer getSalesDelta() {
+        return salesDelta;
+    }
+
+    public void setSalesDelta(Integer salesDelta) {
+        this.salesDelta = salesDelta;
+    }
+
+    public Long getSnapshotSeq() {
+        return snapshotSeq;
+    }
+
+    public void setSnapshotSeq(Long snapshotSeq) {
+        this.snapshotSeq = snapshotSeq;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
\ No newline at end of file
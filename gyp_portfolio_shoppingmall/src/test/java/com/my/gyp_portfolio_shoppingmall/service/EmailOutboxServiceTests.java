@@ -0,0 +1,175 @@
+package com.my.gyp_portfolio_shoppingmall.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.my.gyp_portfolio_shoppingmall.dao.EmailOutboxDao;
+import com.my.gyp_portfolio_shoppingmall.dto.EmailDto.EmailDispatchMetricsDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.EmailDto.EmailOutboxQueueStatsDTO;
+import com.my.gyp_portfolio_shoppingmall.enums.EmailEnums.EmailOutboxStatus;
+import com.my.gyp_portfolio_shoppingmall.enums.EmailEnums.EmailType;
+import com.my.gyp_portfolio_shoppingmall.support.EmailSender;
+import com.my.gyp_portfolio_shoppingmall.support.SmtpStandInServer;
+import com.my.gyp_portfolio_shoppingmall.support.SmtpTransportPool;
+import com.my.gyp_portfolio_shoppingmall.vo.EmailOutbox;
+
+// 로컬 SMTP 대역 서버를 상대로 한 이메일 발송함 발송기 테스트
+class EmailOutboxServiceTests {
+
+	private static final int POOL_SIZE = 2;
+
+	private SmtpStandInServer smtpStandIn;
+	private SmtpTransportPool smtpTransportPool;
+	private EmailOutboxDao emailOutboxDao;
+	private EmailOutboxService emailOutboxService;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		smtpStandIn = SmtpStandInServer.start();
+
+		JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+		mailSender.setHost(smtpStandIn.getHost());
+		mailSender.setPort(smtpStandIn.getPort());
+		mailSender.setUsername("mailer");
+		mailSender.setPassword("secret");
+
+		emailOutboxDao = mock(EmailOutboxDao.class);
+		when(emailOutboxDao.getEmailOutboxQueueStats()).thenReturn(new EmailOutboxQueueStatsDTO());
+
+		EmailSender emailSender = new EmailSender(mailSender, emailOutboxDao);
+		ReflectionTestUtils.setField(emailSender, "mailUsername", "noreply@gyp.test");
+
+		smtpTransportPool = new SmtpTransportPool(mailSender.getSession(), mailSender.getProtocol(), mailSender.getHost(),
+			mailSender.getPort(), mailSender.getUsername(), mailSender.getPassword(), POOL_SIZE, 100, 60000L, 5000L);
+
+		emailOutboxService = new EmailOutboxService(emailOutboxDao, emailSender, smtpTransportPool);
+		ReflectionTestUtils.setField(emailOutboxService, "batchSize", 50);
+		ReflectionTestUtils.setField(emailOutboxService, "retentionDays", 14);
+		ReflectionTestUtils.setField(emailOutboxService, "maxMessagesPerSecond", 1000.0);
+		emailOutboxService.startSenderPool();
+	}
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		emailOutboxService.stopSenderPool();
+		smtpTransportPool.close();
+		smtpStandIn.close();
+	}
+
+	@Test
+	void 묶음을_연결_풀로_나눠_발송하고_성공_건은_한_번에_완료한다() {
+		List<EmailOutbox> batch = emailOutboxes(1, 12);
+		batch.get(4).setRecipient("reject@gyp.test");
+		when(emailOutboxDao.claimEmailOutboxes(anyString(), anyInt(), anyInt())).thenReturn(batch);
+
+		emailOutboxService.drainPendingEmails();
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Long>> completedIds = ArgumentCaptor.forClass(List.class);
+		verify(emailOutboxDao).completeEmailOutboxes(completedIds.capture(), anyString());
+		assertThat(completedIds.getValue()).hasSize(11).doesNotContain(5L);
+		verify(emailOutboxDao).failEmailOutbox(eq(5L), anyString(), anyString());
+		verify(emailOutboxDao, never()).retryEmailOutbox(anyLong(), anyString(), anyLong(), anyString());
+
+		// 수신자 거부로 교체한 연결 하나를 빼면 연결은 풀 크기만큼만 맺음
+		assertThat(smtpStandIn.getMessageCount()).isEqualTo(11);
+		assertThat(smtpStandIn.getConnectionCount()).isLessThanOrEqualTo(POOL_SIZE + 1);
+
+		EmailDispatchMetricsDTO metrics = emailOutboxService.getMetrics();
+		assertThat(metrics.getSentCount()).isEqualTo(11);
+		assertThat(metrics.getFailedCount()).isEqualTo(1);
+		assertThat(metrics.getSampleCount()).isEqualTo(11);
+		assertThat(metrics.getSendLatencyP99Millis()).isGreaterThan(0);
+	}
+
+	@Test
+	void 다음_묶음은_인증된_연결을_재사용한다() {
+		when(emailOutboxDao.claimEmailOutboxes(anyString(), anyInt(), anyInt()))
+			.thenReturn(emailOutboxes(1, 10))
+			.thenReturn(emailOutboxes(11, 10));
+
+		emailOutboxService.drainPendingEmails();
+		emailOutboxService.drainPendingEmails();
+
+		verify(emailOutboxDao, times(2)).completeEmailOutboxes(anyList(), anyString());
+		assertThat(smtpStandIn.getMessageCount()).isEqualTo(20);
+		assertThat(smtpStandIn.getConnectionCount()).isLessThanOrEqualTo(POOL_SIZE);
+		assertThat(smtpStandIn.getAuthCount()).isEqualTo(smtpStandIn.getConnectionCount());
+		assertThat(smtpStandIn.getMaxOpenConnections()).isLessThanOrEqualTo(POOL_SIZE);
+	}
+
+	@Test
+	void SMTP_연결_실패_시_남은_건은_재시도를_예약한다() {
+		smtpStandIn.close();
+		when(emailOutboxDao.claimEmailOutboxes(anyString(), anyInt(), anyInt())).thenReturn(emailOutboxes(1, 4));
+
+		emailOutboxService.drainPendingEmails();
+
+		verify(emailOutboxDao, times(4)).retryEmailOutbox(anyLong(), anyString(), eq(30L), anyString());
+		verify(emailOutboxDao, never()).completeEmailOutboxes(anyList(), anyString());
+		assertThat(emailOutboxService.getMetrics().getRetryCount()).isEqualTo(4);
+	}
+
+	@Test
+	void 발송_루프는_전용_스레드에서_하나만_실행한다() throws InterruptedException {
+		CountDownLatch claimStarted = new CountDownLatch(1);
+		CountDownLatch releaseClaim = new CountDownLatch(1);
+		when(emailOutboxDao.claimEmailOutboxes(anyString(), anyInt(), anyInt())).thenAnswer(invocation -> {
+			claimStarted.countDown();
+			releaseClaim.await(5, TimeUnit.SECONDS);
+			return emailOutboxes(1, 4);
+		});
+
+		// 스케줄 메서드는 발송 루프를 시작만 하고 바로 반환
+		emailOutboxService.dispatchPendingEmails();
+		assertThat(claimStarted.await(5, TimeUnit.SECONDS)).isTrue();
+		// 실행 중인 발송 루프가 있으면 새로 시작하지 않음
+		emailOutboxService.dispatchPendingEmails();
+		releaseClaim.countDown();
+
+		verify(emailOutboxDao, timeout(5000)).completeEmailOutboxes(anyList(), anyString());
+		verify(emailOutboxDao, times(1)).claimEmailOutboxes(anyString(), anyInt(), anyInt());
+		assertThat(smtpStandIn.getMessageCount()).isEqualTo(4);
+	}
+
+	private static List<EmailOutbox> emailOutboxes(long firstId, int count) {
+		List<EmailOutbox> emailOutboxes = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			long emailOutboxId = firstId + i;
+			EmailOutbox emailOutbox = new EmailOutbox();
+			emailOutbox.setEmailOutboxId(emailOutboxId);
+			emailOutbox.setEmailType(EmailType.WELCOME);
+			emailOutbox.setRecipient("user" + emailOutboxId + "@gyp.test");
+			emailOutbox.setSubject("[GYP.Portfolio Mall] 회원가입을 환영합니다");
+			emailOutbox.setHtmlContent("<p>환영합니다</p>");
+			emailOutbox.setProcessStatus(EmailOutboxStatus.PROCESSING);
+			emailOutbox.setAttempts(1);
+			emailOutbox.setClaimToken("test-owner:claim");
+			emailOutboxes.add(emailOutbox);
+		}
+		return emailOutboxes;
+	}
+}
@@ -0,0 +1,336 @@
+package com.my.gyp_portfolio_shoppingmall.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import com.my.gyp_portfolio_shoppingmall.config.PortOneWebClientConfig;
+import com.my.gyp_portfolio_shoppingmall.config.RestTemplateConfig;
+import com.my.gyp_portfolio_shoppingmall.dao.OrderDao;
+import com.my.gyp_portfolio_shoppingmall.dao.PaymentHistoryDao;
+import com.my.gyp_portfolio_shoppingmall.dao.PaymentWebhookInboxDao;
+import com.my.gyp_portfolio_shoppingmall.dao.ProductDao;
+import com.my.gyp_portfolio_shoppingmall.dao.UserDao;
+import com.my.gyp_portfolio_shoppingmall.dto.PaymentDto.PaymentPrepareRequestDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.PaymentDto.PortOneWebhookDTO;
+import com.my.gyp_portfolio_shoppingmall.enums.OrderEnums.OrderProductStatus;
+import com.my.gyp_portfolio_shoppingmall.enums.OrderEnums.PaymentMethod;
+import com.my.gyp_portfolio_shoppingmall.support.EmailSender;
+import com.my.gyp_portfolio_shoppingmall.support.JsonCodecs;
+import com.my.gyp_portfolio_shoppingmall.support.PaymentVerificationCoalescer;
+import com.my.gyp_portfolio_shoppingmall.support.PhoneEncryptionUtil;
+import com.my.gyp_portfolio_shoppingmall.support.PortOneStandInServer;
+import com.my.gyp_portfolio_shoppingmall.vo.Order;
+import com.my.gyp_portfolio_shoppingmall.vo.OrderProduct;
+
+/**
+ * 포트원 대역 서버를 상대로 한 결제 흐름 부하 측정(./gradlew loadTest로 실행, 기본 test에서는 제외)
+ *
+ * 실제 결제 서비스/포트원 클라이언트/연결 풀 설정으로 주문 -> 결제 검증 -> 결제 완료 웹훅(일부는 결제 취소) 흐름을
+ * 동시에 실행하고 단계별 처리량과 지연 백분위를 출력한다. DB와 Redis는 목으로 대체하므로 결과는
+ * 애플리케이션과 포트원 연동 구간의 처리 한계이며, 부하 조건은 -Dload.* 시스템 속성으로 바꾼다.
+ */
+@Tag("load")
+@SpringJUnitConfig(classes = {
+	JacksonAutoConfiguration.class,
+	JsonCodecs.class,
+	RestTemplateConfig.class,
+	PortOneWebClientConfig.class,
+	PortOneApiService.class,
+	PortOneReactiveClient.class,
+	PaymentVerificationCoalescer.class,
+	PaymentService.class
+})
+@TestPropertySource(properties = {
+	"iamport.imp.code=imp_standin",
+	"iamport.api.key=standin_key",
+	"iamport.api.secret=standin_secret"
+})
+class PaymentLoadHarnessTests {
+
+	private static final int CLIENTS = Integer.getInteger("load.clients", 32);
+	private static final int FLOWS_PER_CLIENT = Integer.getInteger("load.flows-per-client", 100);
+	private static final int WARMUP_FLOWS = Integer.getInteger("load.warmup-flows", 50);
+	private static final double CANCEL_RATE = Double.parseDouble(System.getProperty("load.cancel-rate", "0.1"));
+	private static final long PORTONE_LATENCY_MILLIS = Long.getLong("load.portone.latency-ms", 80L);
+	private static final long PORTONE_JITTER_MILLIS = Long.getLong("load.portone.jitter-ms", 40L);
+	private static final double PORTONE_FAILURE_RATE = Double.parseDouble(System.getProperty("load.portone.failure-rate", "0"));
+
+	private static final long ORDER_AMOUNT = 39000L;
+	private static final String[] STAGES = {"order", "verify", "webhook", "cancel", "flow"};
+
+	private static PortOneStandInServer standIn;
+
+	@Autowired
+	private PaymentService paymentService;
+
+	@MockBean
+	private RedisTemplate<String, String> redisTemplate;
+	@MockBean
+	private OrderDao orderDao;
+	@MockBean
+	private ProductDao productDao;
+	@MockBean
+	private OrderService orderService;
+	@MockBean
+	private PaymentHistoryDao paymentHistoryDao;
+	@MockBean
+	private PaymentWebhookInboxDao paymentWebhookInboxDao;
+	@MockBean
+	private EmailSender emailSender;
+	@MockBean
+	private UserDao userDao;
+	@MockBean
+	private PhoneEncryptionUtil phoneEncryptionUtil;
+	@MockBean
+	private DashboardService dashboardService;
+
+	// 주문 테이블 대역(주문번호 -> 주문)
+	private final Map<String, Order> orders = new ConcurrentHashMap<>();
+	private final AtomicInteger orderSequence = new AtomicInteger();
+
+	@DynamicPropertySource
+	static void portOneProperties(DynamicPropertyRegistry registry) throws IOException {
+		standIn = PortOneStandInServer.start(CLIENTS * 2);
+		registry.add("iamport.api.base-url", standIn::getBaseUrl);
+		registry.add("portone.client.max-concurrent-calls", () -> CLIENTS * 2);
+		registry.add("http.client.portone-max-per-route", () -> CLIENTS * 2);
+	}
+
+	@AfterAll
+	static void stopStandIn() {
+		if (standIn != null) {
+			standIn.close();
+		}
+	}
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		// 공유 토큰 저장소 대역(항상 비어 있고 갱신 잠금은 항상 획득)
+		ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.setIfAbsent(anyString(), anyString(), anyLong(), any(TimeUnit.class))).thenReturn(true);
+
+		when(orderDao.getOrderInfoByMerchantUid(anyString())).thenAnswer(invocation -> orders.get(invocation.getArgument(0)));
+		when(orderDao.getOrderProductList(any(OrderProduct.class))).thenAnswer(invocation -> {
+			OrderProduct query = invocation.getArgument(0);
+			OrderProduct orderProduct = new OrderProduct();
+			orderProduct.setOrderProductId(query.getOrderId());
+			orderProduct.setOrderId(query.getOrderId());
+			orderProduct.setStatus(OrderProductStatus.PAYMENT_PENDING);
+			return List.of(orderProduct);
+		});
+		when(paymentHistoryDao.insertPaymentHistory(any())).thenReturn(1);
+		when(phoneEncryptionUtil.encrypt(any())).thenAnswer(invocation -> invocation.getArgument(0));
+	}
+
+	@Test
+	void measureCheckoutFlowUnderConcurrentLoad() throws InterruptedException {
+		standIn.setLatency(PORTONE_LATENCY_MILLIS, PORTONE_JITTER_MILLIS);
+		standIn.setFailureRate(0);
+
+		// 토큰 발급, 연결 풀, JIT 예열(측정 제외)
+		LoadResult warmup = new LoadResult(WARMUP_FLOWS);
+		for (int i = 0; i < WARMUP_FLOWS; i++) {
+			runFlow(warmup);
+		}
+		assertThat(warmup.failureCount()).isZero();
+
+		standIn.setFailureRate(PORTONE_FAILURE_RATE);
+		long lookupsBefore = standIn.getRequestCount(PortOneStandInServer.PAYMENT_PATH);
+		long tokensBefore = standIn.getRequestCount(PortOneStandInServer.TOKEN_PATH);
+
+		int totalFlows = CLIENTS * FLOWS_PER_CLIENT;
+		LoadResult result = new LoadResult(totalFlows);
+		ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(CLIENTS);
+		for (int client = 0; client < CLIENTS; client++) {
+			clients.execute(() -> {
+				try {
+					start.await();
+					for (int i = 0; i < FLOWS_PER_CLIENT; i++) {
+						runFlow(result);
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+
+		long startedAt = System.nanoTime();
+		start.countDown();
+		boolean finished = done.await(10, TimeUnit.MINUTES);
+		long elapsedNanos = System.nanoTime() - startedAt;
+		clients.shutdownNow();
+
+		result.print(elapsedNanos,
+			standIn.getRequestCount(PortOneStandInServer.PAYMENT_PATH) - lookupsBefore,
+			standIn.getRequestCount(PortOneStandInServer.TOKEN_PATH) - tokensBefore);
+
+		assertThat(finished).isTrue();
+		assertThat(result.completedCount() + result.failureCount()).isEqualTo(totalFlows);
+		if (PORTONE_FAILURE_RATE == 0) {
+			assertThat(result.failureCount()).isZero();
+			// 예열에서 발급한 토큰을 계속 사용
+			assertThat(standIn.getRequestCount(PortOneStandInServer.TOKEN_PATH)).isEqualTo(tokensBefore);
+		}
+	}
+
+	// 주문 -> 결제 검증 -> 결제 완료 웹훅 -> (일부) 결제 취소
+	private void runFlow(LoadResult result) {
+		long flowStartedAt = System.nanoTime();
+		int sequence = orderSequence.incrementAndGet();
+		String merchantUid = String.format("ORD_LOAD_%08d", sequence);
+		String impUid = String.format("imp_load_%08d", sequence);
+
+		try {
+			long stageStartedAt = System.nanoTime();
+			paymentService.createPaymentInfo(prepareRequest(merchantUid));
+			orders.put(merchantUid, order(sequence, merchantUid));
+			standIn.registerPayment(impUid, merchantUid, ORDER_AMOUNT);
+			stageStartedAt = result.record("order", stageStartedAt);
+
+			paymentService.verifyPayment(impUid);
+			stageStartedAt = result.record("verify", stageStartedAt);
+
+			paymentService.processWebhook(webhook(impUid, merchantUid, "paid"));
+			stageStartedAt = result.record("webhook", stageStartedAt);
+
+			if (ThreadLocalRandom.current().nextDouble() < CANCEL_RATE) {
+				paymentService.cancelPayment(impUid, "부하 테스트 취소");
+				result.record("cancel", stageStartedAt);
+			}
+			result.record("flow", flowStartedAt);
+			result.completed.increment();
+		} catch (RuntimeException e) {
+			result.failures.computeIfAbsent(e.getClass().getSimpleName(), key -> new LongAdder()).increment();
+		} finally {
+			orders.remove(merchantUid);
+		}
+	}
+
+	private static PaymentPrepareRequestDTO prepareRequest(String merchantUid) {
+		PaymentPrepareRequestDTO requestDTO = new PaymentPrepareRequestDTO();
+		requestDTO.setOrderCode(merchantUid);
+		requestDTO.setAmount(ORDER_AMOUNT);
+		requestDTO.setProductName("부하 테스트 상품");
+		requestDTO.setBuyerName("부하테스트");
+		requestDTO.setBuyerEmail("load@example.com");
+		return requestDTO;
+	}
+
+	private static Order order(int orderId, String merchantUid) {
+		Order order = new Order();
+		order.setOrderId(orderId);
+		order.setMerchantUid(merchantUid);
+		order.setUserId(orderId);
+		order.setCurrentTotalPrice(BigDecimal.valueOf(ORDER_AMOUNT));
+		order.setPaymentMethod(PaymentMethod.CARD);
+		return order;
+	}
+
+	private static PortOneWebhookDTO webhook(String impUid, String merchantUid, String status) {
+		PortOneWebhookDTO webhookDTO = new PortOneWebhookDTO();
+		webhookDTO.setImpUid(impUid);
+		webhookDTO.setMerchantUid(merchantUid);
+		webhookDTO.setStatus(status);
+		webhookDTO.setAmount(ORDER_AMOUNT);
+		return webhookDTO;
+	}
+
+	// 단계별 지연 기록(나노초)과 실패 유형별 건수
+	private static class LoadResult {
+		private final Map<String, long[]> latencies = new ConcurrentHashMap<>();
+		private final Map<String, AtomicInteger> counts = new ConcurrentHashMap<>();
+		private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+		private final LongAdder completed = new LongAdder();
+
+		private LoadResult(int capacity) {
+			for (String stage : STAGES) {
+				latencies.put(stage, new long[capacity]);
+				counts.put(stage, new AtomicInteger());
+			}
+		}
+
+		// 단계 지연 기록 후 다음 단계 시작 시각 반환
+		private long record(String stage, long startedAt) {
+			long now = System.nanoTime();
+			latencies.get(stage)[counts.get(stage).getAndIncrement()] = now - startedAt;
+			return now;
+		}
+
+		private long completedCount() {
+			return completed.sum();
+		}
+
+		private long failureCount() {
+			return failures.values().stream().mapToLong(LongAdder::sum).sum();
+		}
+
+		private void print(long elapsedNanos, long portOneLookups, long portOneTokens) {
+			double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+			System.out.printf("%n[결제 부하 측정] 동시 클라이언트: %d, 흐름: %d, 소요: %.2fs, 처리량: %.1f flows/s%n",
+				CLIENTS, completedCount() + failureCount(), elapsedSeconds, completedCount() / elapsedSeconds);
+			System.out.printf("포트원 대역: 지연 %d+%dms, 실패율 %.2f, 조회 요청 %d, 토큰 요청 %d, 주입 실패 %d%n",
+				PORTONE_LATENCY_MILLIS, PORTONE_JITTER_MILLIS, PORTONE_FAILURE_RATE,
+				portOneLookups, portOneTokens, standIn.getInjectedFailureCount());
+			System.out.printf("%-8s %8s %9s %9s %9s %9s%n", "stage", "count", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+			for (String stage : STAGES) {
+				int count = counts.get(stage).get();
+				if (count == 0) {
+					continue;
+				}
+				long[] sorted = Arrays.copyOf(latencies.get(stage), count);
+				Arrays.sort(sorted);
+				System.out.printf("%-8s %8d %9.1f %9.1f %9.1f %9.1f%n", stage, count,
+					percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99), sorted[count - 1] / 1_000_000.0);
+			}
+			if (!failures.isEmpty()) {
+				Map<String, Long> failureCounts = new TreeMap<>();
+				failures.forEach((type, count) -> failureCounts.put(type, count.sum()));
+				System.out.printf("실패: %s%n", failureCounts);
+			}
+		}
+
+		private static double percentile(long[] sorted, int percentile) {
+			int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+			return sorted[Math.max(index, 0)] / 1_000_000.0;
+		}
+	}
+}
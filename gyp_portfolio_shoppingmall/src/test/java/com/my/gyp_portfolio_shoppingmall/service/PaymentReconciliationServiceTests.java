@@ -0,0 +1,185 @@
+package com.my.gyp_portfolio_shoppingmall.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.SqlSession;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.my.gyp_portfolio_shoppingmall.dao.PaymentReconciliationDao;
+import com.my.gyp_portfolio_shoppingmall.dto.PaymentDto.PaymentReconciliationDiscrepancyDTO;
+import com.my.gyp_portfolio_shoppingmall.dto.PaymentDto.PaymentReconciliationResultDTO;
+import com.my.gyp_portfolio_shoppingmall.enums.PaymentEnums.PaymentStatus;
+import com.my.gyp_portfolio_shoppingmall.enums.PaymentEnums.ReconciliationDiscrepancyType;
+import com.my.gyp_portfolio_shoppingmall.support.PortOneStandInServer;
+import com.my.gyp_portfolio_shoppingmall.vo.PaymentHistory;
+
+// 포트원 대역 서버를 상대로 한 결제 정합성 점검 테스트
+class PaymentReconciliationServiceTests {
+
+	private static final LocalDateTime WINDOW_START = LocalDateTime.of(2024, 1, 1, 0, 0);
+	private static final LocalDateTime WINDOW_END = LocalDateTime.of(2024, 1, 1, 1, 0);
+
+	private PortOneStandInServer standIn;
+	private PaymentReconciliationDao paymentReconciliationDao;
+	private PaymentWebhookInboxService paymentWebhookInboxService;
+	private PaymentReconciliationService paymentReconciliationService;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		standIn = PortOneStandInServer.start(4);
+		// 점검 구간 안에 요청된 결제(imp_r 미결제, imp_c 취소, imp_b/imp_a 결제 완료)
+		long startedAt = epochSecond(WINDOW_START.plusMinutes(10));
+		standIn.registerPayment("imp_r", "ORD_20240101_000004", "ready", 4000, startedAt);
+		standIn.registerPayment("imp_c", "ORD_20240101_000003", "cancelled", 3000, startedAt);
+		standIn.registerPayment("imp_b", "ORD_20240101_000002", "paid", 2000, startedAt);
+		standIn.registerPayment("imp_a", "ORD_20240101_000001", "paid", 1000, startedAt);
+		// 점검 구간 이전에 요청된 결제(목록에 없고 단건 조회로만 확인), imp_e 는 포트원에 없음, imp_f 는 단건 조회 실패
+		standIn.registerPayment("imp_d", "ORD_20231231_000005", "paid", 4000, epochSecond(WINDOW_START.minusHours(1)));
+		standIn.failPaymentLookup("imp_f", 500);
+
+		PortOneApiService portOneApiService = mock(PortOneApiService.class);
+		HttpHeaders headers = new HttpHeaders();
+		headers.set("Authorization", standIn.issueAccessToken());
+		when(portOneApiService.createAuthHeaders()).thenReturn(headers);
+
+		WebClient webClient = WebClient.create(standIn.getBaseUrl());
+		PortOneReactiveClient portOneReactiveClient = new PortOneReactiveClient(webClient, portOneApiService);
+		ReflectionTestUtils.setField(portOneReactiveClient, "maxConcurrentCalls", 10);
+		ReflectionTestUtils.setField(portOneReactiveClient, "verifyTimeoutMillis", 5000L);
+		ReflectionTestUtils.setField(portOneReactiveClient, "cancelTimeoutMillis", 5000L);
+		ReflectionTestUtils.setField(portOneReactiveClient, "circuitWindowSize", 20);
+		ReflectionTestUtils.setField(portOneReactiveClient, "circuitMinimumCalls", 10);
+		ReflectionTestUtils.setField(portOneReactiveClient, "circuitFailureRateThreshold", 50);
+		ReflectionTestUtils.setField(portOneReactiveClient, "circuitOpenDurationMillis", 30000L);
+		ReflectionTestUtils.setField(portOneReactiveClient, "circuitHalfOpenCalls", 3);
+		portOneReactiveClient.initCircuitBreaker();
+
+		paymentReconciliationDao = mock(PaymentReconciliationDao.class);
+		paymentWebhookInboxService = mock(PaymentWebhookInboxService.class);
+		paymentReconciliationService = new PaymentReconciliationService(
+			paymentReconciliationDao, portOneReactiveClient, paymentWebhookInboxService, mock(ScheduledJobLeaseService.class));
+		ReflectionTestUtils.setField(paymentReconciliationService, "windowMinutes", 60L);
+	}
+
+	@AfterEach
+	void tearDown() {
+		standIn.close();
+	}
+
+	@Test
+	void reconcilePaymentsReportsAndRepairsDiscrepancies() {
+		// imp_uid 순 결제 이력(imp_a 일치, imp_b 금액 불일치, imp_d 구간 밖 결제, imp_e 포트원에 없음, imp_f 포트원 조회 실패)
+		List<PaymentHistory> histories = List.of(
+			history("imp_a", "ORD_20240101_000001", PaymentStatus.PAID, 1000),
+			history("imp_b", "ORD_20240101_000002", PaymentStatus.PAID, 2500),
+			history("imp_d", "ORD_20231231_000005", PaymentStatus.PAID, 4000),
+			history("imp_e", "ORD_20240101_000006", PaymentStatus.PAID, 5000),
+			history("imp_f", "ORD_20240101_000007", PaymentStatus.PAID, 6000)
+		);
+		Map<String, PaymentHistory> latestHistories = histories.stream()
+			.collect(Collectors.toMap(PaymentHistory::getImpUid, history -> history));
+
+		ListCursor<PaymentHistory> cursor = new ListCursor<>(histories);
+		AtomicBoolean recheckedWhileStreaming = new AtomicBoolean();
+		when(paymentReconciliationDao.openStreamingSession()).thenReturn(mock(SqlSession.class));
+		when(paymentReconciliationDao.streamPaymentHistories(any(), any(), any())).thenReturn(cursor);
+		when(paymentReconciliationDao.selectLatestPaymentHistories(anyList())).thenAnswer(invocation -> {
+			if (cursor.isOpen()) {
+				recheckedWhileStreaming.set(true);
+			}
+			List<String> impUids = invocation.getArgument(0);
+			return impUids.stream().filter(latestHistories::containsKey).map(latestHistories::get).toList();
+		});
+		when(paymentWebhookInboxService.receive(any())).thenReturn(true);
+
+		PaymentReconciliationResultDTO result = paymentReconciliationService.reconcilePayments(WINDOW_START, WINDOW_END, true);
+
+		assertThat(result.getPortOneCount()).isEqualTo(4);
+		assertThat(result.getHistoryCount()).isEqualTo(5);
+		assertThat(result.getDiscrepancyCount()).isEqualTo(3);
+		assertThat(result.getRepairedCount()).isEqualTo(1);
+		assertThat(result.getUnverifiedCount()).isEqualTo(1);
+		// 불일치 후보 재확인은 결제 이력 커서를 닫은 뒤 수행
+		assertThat(recheckedWhileStreaming).isFalse();
+
+		Map<String, PaymentReconciliationDiscrepancyDTO> discrepancies = result.getDiscrepancies().stream()
+			.collect(Collectors.toMap(PaymentReconciliationDiscrepancyDTO::getImpUid, discrepancy -> discrepancy));
+		assertThat(discrepancies).containsOnlyKeys("imp_b", "imp_c", "imp_e", "imp_f");
+		assertThat(discrepancies.get("imp_b").getType()).isEqualTo(ReconciliationDiscrepancyType.AMOUNT_MISMATCH);
+		assertThat(discrepancies.get("imp_b").isRepaired()).isFalse();
+		assertThat(discrepancies.get("imp_c").getType()).isEqualTo(ReconciliationDiscrepancyType.MISSING_IN_HISTORY);
+		assertThat(discrepancies.get("imp_c").isRepaired()).isTrue();
+		assertThat(discrepancies.get("imp_e").getType()).isEqualTo(ReconciliationDiscrepancyType.MISSING_IN_PORTONE);
+		// 404 외의 조회 실패는 포트원 누락으로 보고하지 않음
+		assertThat(discrepancies.get("imp_f").getType()).isEqualTo(ReconciliationDiscrepancyType.UNVERIFIED);
+		assertThat(discrepancies.get("imp_f").isRepaired()).isFalse();
+	}
+
+	private static PaymentHistory history(String impUid, String merchantUid, PaymentStatus status, long paidAmount) {
+		PaymentHistory history = new PaymentHistory();
+		history.setImpUid(impUid);
+		history.setMerchantUid(merchantUid);
+		history.setStatus(status);
+		history.setPaidAmount(BigDecimal.valueOf(paidAmount));
+		return history;
+	}
+
+	private static long epochSecond(LocalDateTime dateTime) {
+		return dateTime.atZone(ZoneId.systemDefault()).toEpochSecond();
+	}
+
+	// 목록 기반 MyBatis 커서
+	private static class ListCursor<T> implements Cursor<T> {
+		private final List<T> items;
+		private boolean open = true;
+
+		private ListCursor(List<T> items) {
+			this.items = items;
+		}
+
+		@Override
+		public boolean isOpen() {
+			return open;
+		}
+
+		@Override
+		public boolean isConsumed() {
+			return !open;
+		}
+
+		@Override
+		public int getCurrentIndex() {
+			return -1;
+		}
+
+		@Override
+		public Iterator<T> iterator() {
+			return items.iterator();
+		}
+
+		@Override
+		public void close() {
+			open = false;
+		}
+	}
+}
@@ -0,0 +1,324 @@
+package com.my.gyp_portfolio_shoppingmall.support;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 포트원 V1 API 대역 서버(테스트 전용)
+ *
+ * 토큰 발급(/users/getToken), 결제 단건 조회(/payments/{imp_uid}), 결제 취소(/payments/cancel),
+ * 결제 요청 시각 구간별 목록 조회(/payments/status/all)만 흉내 낸다.
+ * 응답 지연(고정 + 무작위 편차)과 실패 응답(503) 비율은 실행 중에도 바꿀 수 있고, 특정 결제의 단건 조회만 실패시킬 수도 있다.
+ * 결제는 registerPayment로 등록한 건만 조회/취소되며 발급한 토큰이 아니면 401을 반환한다.
+ * 요청은 workerThreads개 스레드에서 처리되므로 동시 호출 수보다 크게 잡아야 지연이 줄을 서지 않는다.
+ */
+public class PortOneStandInServer implements AutoCloseable {
+
+	public static final String TOKEN_PATH = "/users/getToken";
+	public static final String PAYMENT_PATH = "/payments/";
+	public static final String CANCEL_PATH = "/payments/cancel";
+	public static final String PAYMENT_LIST_PATH = "/payments/status/";
+
+	private static final long TOKEN_TTL_SECONDS = 30 * 60L;
+
+	private final HttpServer server;
+	private final ExecutorService executor;
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final Map<String, StandInPayment> payments = new ConcurrentHashMap<>();
+	private final Map<String, Integer> lookupFailures = new ConcurrentHashMap<>();
+	private final Map<String, LongAdder> requestCounts = new ConcurrentHashMap<>();
+	private final LongAdder injectedFailures = new LongAdder();
+
+	private volatile String accessToken;
+	private volatile long tokenExpiresAtSeconds;
+	private volatile long latencyMillis;
+	private volatile long latencyJitterMillis;
+	private volatile double failureRate;
+
+	private PortOneStandInServer(int workerThreads) throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		executor = Executors.newFixedThreadPool(workerThreads);
+		server.setExecutor(executor);
+		server.createContext(TOKEN_PATH, guarded(TOKEN_PATH, "POST", false, this::issueToken));
+		server.createContext(CANCEL_PATH, guarded(CANCEL_PATH, "POST", true, this::cancelPayment));
+		server.createContext(PAYMENT_PATH, guarded(PAYMENT_PATH, "GET", true, this::getPayment));
+		server.createContext(PAYMENT_LIST_PATH, guarded(PAYMENT_LIST_PATH, "GET", true, this::getPayments));
+	}
+
+	public static PortOneStandInServer start(int workerThreads) throws IOException {
+		PortOneStandInServer standIn = new PortOneStandInServer(workerThreads);
+		standIn.server.start();
+		return standIn;
+	}
+
+	public String getBaseUrl() {
+		return "http://127.0.0.1:" + server.getAddress().getPort();
+	}
+
+	// 모든 응답에 적용할 지연(latencyMillis + 0~jitterMillis)
+	public void setLatency(long latencyMillis, long jitterMillis) {
+		this.latencyMillis = latencyMillis;
+		this.latencyJitterMillis = jitterMillis;
+	}
+
+	// 503 응답 비율(0.0 ~ 1.0)
+	public void setFailureRate(double failureRate) {
+		this.failureRate = failureRate;
+	}
+
+	// 결제창에서 결제가 완료된 상태로 등록
+	public void registerPayment(String impUid, String merchantUid, long amount) {
+		long now = System.currentTimeMillis() / 1000;
+		payments.put(impUid, new StandInPayment(impUid, merchantUid, "paid", amount, now, now));
+	}
+
+	// 결제 요청 시각과 상태를 지정해 등록(ready 결제는 결제 완료 시각 없음)
+	public void registerPayment(String impUid, String merchantUid, String status, long amount, long startedAtSeconds) {
+		long paidAt = "ready".equals(status) ? 0 : startedAtSeconds;
+		payments.put(impUid, new StandInPayment(impUid, merchantUid, status, amount, startedAtSeconds, paidAt));
+	}
+
+	// 해당 결제의 단건 조회만 지정한 상태 코드로 실패
+	public void failPaymentLookup(String impUid, int statusCode) {
+		lookupFailures.put(impUid, statusCode);
+	}
+
+	// 토큰 발급 호출 없이 인증 헤더를 구성하는 테스트용 토큰 발급
+	public synchronized String issueAccessToken() {
+		long now = System.currentTimeMillis() / 1000;
+		if (accessToken == null || now >= tokenExpiresAtSeconds) {
+			accessToken = "standin_" + Long.toHexString(ThreadLocalRandom.current().nextLong());
+			tokenExpiresAtSeconds = now + TOKEN_TTL_SECONDS;
+		}
+		return accessToken;
+	}
+
+	public String getPaymentStatus(String impUid) {
+		StandInPayment payment = payments.get(impUid);
+		return payment != null ? payment.status : null;
+	}
+
+	// 경로별 수신 요청 수(실패 주입 포함)
+	public long getRequestCount(String path) {
+		LongAdder count = requestCounts.get(path);
+		return count != null ? count.sum() : 0;
+	}
+
+	public long getInjectedFailureCount() {
+		return injectedFailures.sum();
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	// 요청 수 집계 -> 지연 -> 실패 주입 -> 메서드/토큰 확인 순으로 처리
+	private HttpHandler guarded(String path, String method, boolean authenticated, StandInHandler handler) {
+		return exchange -> {
+			try {
+				requestCounts.computeIfAbsent(path, key -> new LongAdder()).increment();
+				delay();
+
+				if (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+					injectedFailures.increment();
+					respond(exchange, 503, error("stand-in injected failure"));
+					return;
+				}
+				if (!method.equals(exchange.getRequestMethod())) {
+					respond(exchange, 405, error("Method Not Allowed"));
+					return;
+				}
+				if (authenticated && !isAuthorized(exchange)) {
+					respond(exchange, 401, error("Unauthorized"));
+					return;
+				}
+				handler.handle(exchange);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				exchange.close();
+			}
+		};
+	}
+
+	private void delay() throws InterruptedException {
+		long jitter = latencyJitterMillis > 0 ? ThreadLocalRandom.current().nextLong(latencyJitterMillis + 1) : 0;
+		long sleepMillis = latencyMillis + jitter;
+		if (sleepMillis > 0) {
+			TimeUnit.MILLISECONDS.sleep(sleepMillis);
+		}
+	}
+
+	private boolean isAuthorized(HttpExchange exchange) {
+		String token = accessToken;
+		return token != null && token.equals(exchange.getRequestHeaders().getFirst("Authorization"))
+			&& System.currentTimeMillis() / 1000 < tokenExpiresAtSeconds;
+	}
+
+	// 만료 전까지는 같은 토큰 재발급(실제 V1 API와 동일)
+	private synchronized void issueToken(HttpExchange exchange) throws IOException {
+		issueAccessToken();
+
+		Map<String, Object> response = new LinkedHashMap<>();
+		response.put("access_token", accessToken);
+		response.put("now", System.currentTimeMillis() / 1000);
+		response.put("expired_at", tokenExpiresAtSeconds);
+		respond(exchange, 200, success(response));
+	}
+
+	private void getPayment(HttpExchange exchange) throws IOException {
+		String impUid = exchange.getRequestURI().getPath().substring(PAYMENT_PATH.length());
+		Integer failureStatus = lookupFailures.get(impUid);
+		if (failureStatus != null) {
+			respond(exchange, failureStatus, error("stand-in lookup failure"));
+			return;
+		}
+		StandInPayment payment = payments.get(impUid);
+		if (payment == null) {
+			respond(exchange, 404, error("존재하지 않는 결제정보입니다."));
+			return;
+		}
+		respond(exchange, 200, success(payment.toResponse()));
+	}
+
+	// 결제 요청 시각 구간(from ~ to, 양 끝 포함) 전체 상태 목록을 요청 시각 오름차순으로 페이지 조회
+	private void getPayments(HttpExchange exchange) throws IOException {
+		Map<String, String> query = new LinkedHashMap<>();
+		String rawQuery = exchange.getRequestURI().getRawQuery();
+		if (rawQuery != null) {
+			for (String pair : rawQuery.split("&")) {
+				int separator = pair.indexOf('=');
+				if (separator > 0) {
+					query.put(pair.substring(0, separator), pair.substring(separator + 1));
+				}
+			}
+		}
+		long from = Long.parseLong(query.getOrDefault("from", "0"));
+		long to = Long.parseLong(query.getOrDefault("to", String.valueOf(Long.MAX_VALUE)));
+		int page = Integer.parseInt(query.getOrDefault("page", "1"));
+		int limit = Integer.parseInt(query.getOrDefault("limit", "20"));
+
+		List<StandInPayment> matched = payments.values().stream()
+			.filter(payment -> payment.startedAt >= from && payment.startedAt <= to)
+			.sorted(Comparator.comparingLong((StandInPayment payment) -> payment.startedAt).thenComparing(payment -> payment.impUid))
+			.toList();
+		int fromIndex = Math.min((page - 1) * limit, matched.size());
+		int toIndex = Math.min(fromIndex + limit, matched.size());
+
+		Map<String, Object> response = new LinkedHashMap<>();
+		response.put("total", matched.size());
+		response.put("previous", page > 1 ? page - 1 : 0);
+		response.put("next", toIndex < matched.size() ? page + 1 : 0);
+		response.put("list", matched.subList(fromIndex, toIndex).stream().map(StandInPayment::toResponse).toList());
+		respond(exchange, 200, success(response));
+	}
+
+	private void cancelPayment(HttpExchange exchange) throws IOException {
+		JsonNode body;
+		try (InputStream inputStream = exchange.getRequestBody()) {
+			body = objectMapper.readTree(inputStream);
+		}
+		String impUid = body != null ? body.path("imp_uid").asText(null) : null;
+		StandInPayment payment = impUid != null ? payments.get(impUid) : null;
+		if (payment == null) {
+			respond(exchange, 200, error("취소할 결제건이 존재하지 않습니다."));
+			return;
+		}
+
+		synchronized (payment) {
+			if ("cancelled".equals(payment.status)) {
+				respond(exchange, 200, error("이미 전액취소된 주문입니다."));
+				return;
+			}
+			payment.status = "cancelled";
+		}
+		respond(exchange, 200, success(payment.toResponse()));
+	}
+
+	private String success(Object response) throws IOException {
+		Map<String, Object> body = new LinkedHashMap<>();
+		body.put("code", 0);
+		body.put("message", null);
+		body.put("response", response);
+		return objectMapper.writeValueAsString(body);
+	}
+
+	private String error(String message) throws IOException {
+		Map<String, Object> body = new LinkedHashMap<>();
+		body.put("code", -1);
+		body.put("message", message);
+		body.put("response", null);
+		return objectMapper.writeValueAsString(body);
+	}
+
+	private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream outputStream = exchange.getResponseBody()) {
+			outputStream.write(bytes);
+		}
+	}
+
+	@FunctionalInterface
+	private interface StandInHandler {
+		void handle(HttpExchange exchange) throws IOException;
+	}
+
+	// 대역 서버가 보관하는 결제 정보
+	private static class StandInPayment {
+		private final String impUid;
+		private final String merchantUid;
+		private final long amount;
+		private final long startedAt;
+		private final long paidAt;
+		private volatile String status;
+
+		private StandInPayment(String impUid, String merchantUid, String status, long amount, long startedAt, long paidAt) {
+			this.impUid = impUid;
+			this.merchantUid = merchantUid;
+			this.status = status;
+			this.amount = amount;
+			this.startedAt = startedAt;
+			this.paidAt = paidAt;
+		}
+
+		private Map<String, Object> toResponse() {
+			Map<String, Object> response = new LinkedHashMap<>();
+			response.put("imp_uid", impUid);
+			response.put("merchant_uid", merchantUid);
+			response.put("pg_tid", "standin_" + impUid);
+			response.put("name", "부하 테스트 상품");
+			response.put("status", status);
+			response.put("pay_method", "card");
+			response.put("pg_provider", "standin");
+			response.put("paid_amount", "ready".equals(status) ? 0 : amount);
+			response.put("started_at", startedAt);
+			response.put("paid_at", paidAt);
+			response.put("buyer_name", "부하테스트");
+			response.put("buyer_email", "load@example.com");
+			return response;
+		}
+	}
+}
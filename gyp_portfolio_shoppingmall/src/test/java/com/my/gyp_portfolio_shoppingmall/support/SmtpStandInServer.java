@@ -0,0 +1,157 @@
+package com.my.gyp_portfolio_shoppingmall.support;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SMTP 릴레이 대역 서버(테스트 전용)
+ *
+ * EHLO/HELO, AUTH PLAIN/LOGIN(계정은 검사하지 않음), MAIL, RCPT, DATA, RSET, NOOP, QUIT만 흉내 낸다.
+ * 수신 주소에 "reject"가 들어 있으면 RCPT를 550으로 거부하고, 받은 메시지는 본문 없이 건수만 센다.
+ * 연결마다 스레드 하나를 쓰며 새로 맺은 연결 수와 동시 연결 수 최댓값을 기록한다.
+ */
+public class SmtpStandInServer implements AutoCloseable {
+
+	private final ServerSocket serverSocket;
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+	private final LongAdder connectionCount = new LongAdder();
+	private final LongAdder authCount = new LongAdder();
+	private final LongAdder messageCount = new LongAdder();
+	private final AtomicInteger openConnections = new AtomicInteger();
+	private final AtomicInteger maxOpenConnections = new AtomicInteger();
+
+	private SmtpStandInServer() throws IOException {
+		serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+		executor.execute(this::acceptLoop);
+	}
+
+	public static SmtpStandInServer start() throws IOException {
+		return new SmtpStandInServer();
+	}
+
+	public String getHost() {
+		return serverSocket.getInetAddress().getHostAddress();
+	}
+
+	public int getPort() {
+		return serverSocket.getLocalPort();
+	}
+
+	public long getConnectionCount() {
+		return connectionCount.sum();
+	}
+
+	public long getAuthCount() {
+		return authCount.sum();
+	}
+
+	public long getMessageCount() {
+		return messageCount.sum();
+	}
+
+	public int getMaxOpenConnections() {
+		return maxOpenConnections.get();
+	}
+
+	@Override
+	public void close() {
+		try {
+			serverSocket.close();
+		} catch (IOException e) {
+			// 종료 중 오류는 무시
+		}
+		executor.shutdownNow();
+	}
+
+	private void acceptLoop() {
+		while (!serverSocket.isClosed()) {
+			try {
+				Socket socket = serverSocket.accept();
+				connectionCount.increment();
+				maxOpenConnections.accumulateAndGet(openConnections.incrementAndGet(), Math::max);
+				executor.execute(() -> serve(socket));
+			} catch (IOException e) {
+				return;
+			}
+		}
+	}
+
+	private void serve(Socket socket) {
+		try (socket) {
+			BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+			OutputStream out = socket.getOutputStream();
+			reply(out, "220 stand-in ESMTP");
+
+			String line;
+			while ((line = in.readLine()) != null) {
+				String command = line.toUpperCase(Locale.ROOT);
+				if (command.startsWith("EHLO")) {
+					reply(out, "250-stand-in\r\n250-AUTH PLAIN LOGIN\r\n250 8BITMIME");
+				} else if (command.startsWith("HELO")) {
+					reply(out, "250 stand-in");
+				} else if (command.startsWith("AUTH")) {
+					authenticate(line, in, out);
+				} else if (command.startsWith("MAIL FROM")) {
+					reply(out, "250 2.1.0 OK");
+				} else if (command.startsWith("RCPT TO")) {
+					reply(out, command.contains("REJECT") ? "550 5.1.1 mailbox unavailable" : "250 2.1.5 OK");
+				} else if (command.equals("DATA")) {
+					reply(out, "354 end data with <CR><LF>.<CR><LF>");
+					while ((line = in.readLine()) != null && !line.equals(".")) {
+						// 본문은 버림
+					}
+					messageCount.increment();
+					reply(out, "250 2.0.0 queued");
+				} else if (command.equals("RSET") || command.equals("NOOP")) {
+					reply(out, "250 2.0.0 OK");
+				} else if (command.equals("QUIT")) {
+					reply(out, "221 2.0.0 bye");
+					return;
+				} else {
+					reply(out, "502 5.5.2 command not implemented");
+				}
+			}
+		} catch (SocketException e) {
+			// 클라이언트가 QUIT 없이 끊은 경우
+		} catch (IOException e) {
+			throw new IllegalStateException("SMTP 대역 서버 처리 실패", e);
+		} finally {
+			openConnections.decrementAndGet();
+		}
+	}
+
+	// 초기 응답이 없으면 PLAIN은 한 줄, LOGIN은 계정/비밀번호 두 줄을 더 받음
+	private void authenticate(String line, BufferedReader in, OutputStream out) throws IOException {
+		String[] parts = line.trim().split(" ");
+		String mechanism = parts.length > 1 ? parts[1].toUpperCase(Locale.ROOT) : "";
+		int remaining = mechanism.equals("LOGIN") ? 2 : 1;
+		if (parts.length > 2) {
+			remaining--;
+		}
+		for (int i = 0; i < remaining; i++) {
+			reply(out, "334 ");
+			if (in.readLine() == null) {
+				return;
+			}
+		}
+		authCount.increment();
+		reply(out, "235 2.7.0 authentication successful");
+	}
+
+	private static void reply(OutputStream out, String response) throws IOException {
+		out.write((response + "\r\n").getBytes(StandardCharsets.US_ASCII));
+		out.flush();
+	}
+}
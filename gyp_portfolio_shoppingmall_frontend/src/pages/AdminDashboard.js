@@ -197,15 +197,15 @@ const AdminDashboard = () => {
     // 주문 데이터 포맷팅 함수
     const formatOrderData = useCallback((ordersData) => {
         return ordersData.map((order, index) => {
-            const firstProduct = order.orderProductDTOList?.[0] || null;
+            const statuses = order.statusMix ? order.statusMix.split(',') : [];
             
             return {
                 key: index.toString(),
                 merchantUid: order.merchantUid || '없음',
                 userEmail: order.email || '없음', 
                 amount: order.currentTotalPrice || 0,
-                status: firstProduct ? getOrderStatusText(firstProduct.status) : '알 수 없음',
-                orderDate: order.createdAt?.substring(0, 10) || '없음'
+                status: statuses.length > 0 ? statuses.map(getOrderStatusText).join(', ') : '알 수 없음',
+                orderDate: order.orderedAt?.substring(0, 10) || '없음'
             };
         });
     }, []);
@@ -273,36 +273,19 @@ const AdminDashboard = () => {
 
     
     //#region API Functions
-    // 총 회원 수 조회
-    const fetchTotalUsers = useCallback(async () => {
+    // 대시보드 요약 조회(회원/주문/매출/리뷰 집계 카운터)
+    const fetchDashboardSnapshot = useCallback(async () => {
         if (!user) return;
         
         try {
-            const response = await authRequest('get', '/user/count');
-            return response.data ?? 0;
+            const response = await authRequest('get', '/dashboard/snapshotForAdmin');
+            return response.data ?? {};
         } catch (error) {
-            console.error('총 회원 수 조회 에러:', error);
+            console.error('대시보드 요약 조회 에러:', error);
             if (!error.response) {
                 message.warning('네트워크 연결을 확인해주세요.');
             } else {
-                message.error(error.response.data || '예기치 못한 오류로 총 회원 수 조회에 실패했습니다.');
-            }
-        }
-    }, [authRequest, message, user]);
-    
-    // 총 주문 수 조회
-    const fetchTotalOrders = useCallback(async () => {
-        if (!user) return;
-        
-        try {
-            const response = await authRequest('get', '/order/count');
-            return response.data ?? 0;
-        } catch (error) {
-            console.error('총 주문 수 조회 에러:', error);
-            if (!error.response) {
-                message.warning('네트워크 연결을 확인해주세요.');
-            } else {
-                message.error(error.response.data || '예기치 못한 오류로 총 주문 수 조회에 실패했습니다.');
+                message.error(error.response.data || '예기치 못한 오류로 대시보드 요약 조회에 실패했습니다.');
             }
         }
     }, [authRequest, message, user]);
@@ -312,17 +295,10 @@ const AdminDashboard = () => {
         if (!user) return;
         
         try {
-            const response = await authRequest('get', '/order/orderListForAdmin', {
-                merchantUid: '',
-                userEmail: '',
-                startDate: '',
-                endDate: '',
-                page: 1,
-                size: 5,
-                sortField: 'createdAt',
-                sortOrder: 'DESC'
+            const response = await authRequest('get', '/order/orderSummariesForAdmin', {
+                size: 5
             });
-            return response.data;
+            return response.data?.orders || [];
         } catch (error) {
             console.error('최근 주문 목록 조회 에러:', error);
             if (!error.response) {
@@ -333,40 +309,6 @@ const AdminDashboard = () => {
         }
     }, [authRequest, message, user]);
 
-    // 총 매출 조회
-    const fetchTotalRevenue = useCallback(async () => {
-        if (!user) return;
-        
-        try {
-            const response = await authRequest('get', '/payment/totalRevenue');
-            return response.data ?? 0;
-        } catch (error) {
-            console.error('총 매출 조회 에러:', error);
-            if (!error.response) {
-                message.warning('네트워크 연결을 확인해주세요.');
-            } else {
-                message.error(error.response.data || '예기치 못한 오류로 총 매출 조회에 실패했습니다.');
-            }
-        }
-    }, [authRequest, message, user]);
-
-    // 총 리뷰 수 조회
-    const fetchTotalReviews = useCallback(async () => {
-        if (!user) return;
-        
-        try {
-            const response = await authRequest('get', '/review/count');
-            return response.data ?? 0;
-        } catch (error) {
-            console.error('총 리뷰 수 조회 에러:', error);
-            if (!error.response) {
-                message.warning('네트워크 연결을 확인해주세요.');
-            } else {
-                message.error(error.response.data || '예기치 못한 오류로 총 리뷰 수 조회에 실패했습니다.');
-            }
-        }
-    }, [authRequest, message, user]);
-    
     // 대시보드 데이터 로드
     const fetchDashboardData = useCallback(async () => {
         if (!user) return;
@@ -377,17 +319,11 @@ const AdminDashboard = () => {
         try {
             // 데이터 로드
             const [
-                totalUsers,
-                totalOrders,
-                recentOrders,
-                totalRevenue,
-                totalReviews
+                snapshot,
+                recentOrders
             ] = await Promise.all([
-                fetchTotalUsers(),
-                fetchTotalOrders(),
-                fetchRecentOrders(),
-                fetchTotalRevenue(),
-                fetchTotalReviews()
+                fetchDashboardSnapshot(),
+                fetchRecentOrders()
             ]);
                 
             // 주문 데이터 포맷팅
@@ -395,10 +331,10 @@ const AdminDashboard = () => {
 
             // 통계 데이터 설정
             setStats({
-                totalUsers,
-                totalOrders,
-                totalRevenue,
-                totalReviews,
+                totalUsers: snapshot?.userCount ?? 0,
+                totalOrders: snapshot?.orderCount ?? 0,
+                totalRevenue: snapshot?.totalRevenue ?? 0,
+                totalReviews: snapshot?.reviewCount ?? 0,
             });
             
             // 최근 주문 데이터 설정
@@ -410,11 +346,8 @@ const AdminDashboard = () => {
             setLoading(false);
         }
     }, [
-        fetchTotalUsers, 
-        fetchTotalOrders, 
+        fetchDashboardSnapshot, 
         fetchRecentOrders, 
-        fetchTotalRevenue, 
-        fetchTotalReviews, 
         formatOrderData,
         user
     ]);
@@ -20,6 +20,9 @@ import dayjs from 'dayjs';
 
 const { RangePicker } = DatePicker;
 
+// 주문 목록 페이지 크기(서버 키셋 페이징)
+const ORDER_PAGE_SIZE = 50;
+
 
 //#region Styled Components
 // 페이지 컨테이너
@@ -219,6 +222,7 @@ const AdminOrders = () => {
     const [deliveryForm] = Form.useForm();
 
     const [orders, setOrders] = useState([]);
+    const [nextCursor, setNextCursor] = useState(null);
     const [loading, setLoading] = useState(false);
     const [dateRange, setDateRange] = useState(null);
     const [searchKeyword, setSearchKeyword] = useState('');
@@ -446,8 +450,8 @@ const AdminOrders = () => {
     
 
     //#region API Functions
-    // 주문 목록 조회
-    const fetchOrders = useCallback(async (params) => {
+    // 주문 목록 조회(cursor가 있으면 다음 페이지를 이어 붙임)
+    const fetchOrders = useCallback(async (params, cursor = null) => {
         if (!user) return;
 
         try {
@@ -458,7 +462,13 @@ const AdminOrders = () => {
                 userEmail: params.userEmail || '',
                 startDate: params.startDate || '',
                 endDate: params.endDate || '',
+                size: ORDER_PAGE_SIZE,
             };
+
+            if (cursor) {
+                requestParams.cursorCreatedAt = cursor.createdAt;
+                requestParams.cursorOrderId = cursor.orderId;
+            }
             
             if (params.dateRange?.[0]) {
                 requestParams.startDate = params.dateRange[0].startOf('day').format('YYYY-MM-DDTHH:mm:ss');
@@ -473,8 +483,12 @@ const AdminOrders = () => {
                 requestParams
             );
 
-            const orderData = response.data || [];
-            setOrders(orderData);
+            const orderData = response.data?.orders || [];
+            setOrders(prevOrders => cursor ? [...prevOrders, ...orderData] : orderData);
+            setNextCursor(response.data?.hasNext ? {
+                createdAt: response.data.nextCursorCreatedAt,
+                orderId: response.data.nextCursorOrderId
+            } : null);
         } catch (error) {
             console.error('주문 목록 조회 에러:', error);            
             if (!error.response) {
@@ -1100,6 +1114,16 @@ const AdminOrders = () => {
                         position: ['bottomCenter'],
                     }}
                 />
+                {nextCursor && (
+                    <div style={{ textAlign: 'center', marginTop: 16 }}>
+                        <Button
+                            loading={loading}
+                            onClick={() => fetchOrders(searchConditions, nextCursor)}
+                        >
+                            주문 더 불러오기
+                        </Button>
+                    </div>
+                )}
             </TableContainer>
 
             {/* 주문 상세 정보 모달 */}
@@ -11,6 +11,8 @@ import {
 
 const { RangePicker } = DatePicker;
 
+const PAYMENT_PAGE_SIZE = 50;
+
 
 //#region Styled Components
 // 페이지 컨테이너
@@ -182,6 +184,8 @@ const AdminPayments = () => {
 
     const [loading, setLoading] = useState(false);
     const [payments, setPayments] = useState([]);
+    const [nextCursor, setNextCursor] = useState(null);
+    const [searchConditions, setSearchConditions] = useState({});
     const [dateRange, setDateRange] = useState(null);
     const [searchKeyword, setSearchKeyword] = useState('');
     const [searchType, setSearchType] = useState('merchantUid');
@@ -191,8 +195,8 @@ const AdminPayments = () => {
 
     
     //#region API Functions
-    // 결제 목록 조회
-    const fetchPayments = useCallback(async (params) => {
+    // 결제 목록 조회(cursor가 있으면 다음 페이지를 이어 붙임)
+    const fetchPayments = useCallback(async (params, cursor = null) => {
         if (!user) return;
         
         try {
@@ -204,7 +208,16 @@ const AdminPayments = () => {
                 buyerEmail: params.buyerEmail || '',
                 startDate: params.startDate || '',
                 endDate: params.endDate || '',
+                size: PAYMENT_PAGE_SIZE,
             };
+
+            if (cursor) {
+                // 결제 완료 시각이 없는 이력 구간은 결제 이력 ID만으로 이어서 조회
+                if (cursor.paidAt) {
+                    requestParams.cursorPaidAt = cursor.paidAt;
+                }
+                requestParams.cursorPaymentHistoryId = cursor.paymentHistoryId;
+            }
     
             if (params.dateRange?.[0]) {
                 requestParams.startDate = params.dateRange[0].startOf('day').format('YYYY-MM-DDTHH:mm:ss');
@@ -214,8 +227,12 @@ const AdminPayments = () => {
             }
 
             const response = await authRequest('get', '/payment/historyListForAdmin', requestParams);
-            const paymentData = response.data || [];
-            setPayments(paymentData);
+            const paymentData = response.data?.histories || [];
+            setPayments(prevPayments => cursor ? [...prevPayments, ...paymentData] : paymentData);
+            setNextCursor(response.data?.hasNext ? {
+                paidAt: response.data.nextCursorPaidAt,
+                paymentHistoryId: response.data.nextCursorPaymentHistoryId
+            } : null);
         } catch (error) {
             console.error('결제 목록 조회 에러:', error);            
             if (!error.response) {
@@ -245,6 +262,7 @@ const AdminPayments = () => {
             searchConditions[searchType] = searchKeyword;
         }
         
+        setSearchConditions(searchConditions);
         fetchPayments(searchConditions);
     };
 
@@ -589,6 +607,16 @@ const AdminPayments = () => {
                     scroll={{ x: 'max-content' }}
                     size="small"
                 />
+                {nextCursor && (
+                    <div style={{ textAlign: 'center', marginTop: 16 }}>
+                        <Button
+                            loading={loading}
+                            onClick={() => fetchPayments(searchConditions, nextCursor)}
+                        >
+                            결제 더 불러오기
+                        </Button>
+                    </div>
+                )}
             </TableContainer>
 
             {/* 결제 상세 정보 모달 */}
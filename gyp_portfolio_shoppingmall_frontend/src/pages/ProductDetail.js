@@ -219,7 +219,7 @@ const ProductDetail = () => {
         item => item.size === selectedSize && item.color === selectedColor
     );
     
-    const availableStock = selectedItem ? selectedItem.stockQuantity - selectedItem.reservedQuantity : 0;
+    const availableStock = selectedItem ? selectedItem.availableQuantity : 0;
     //#endregion Computed Properties
     
     
@@ -273,7 +273,7 @@ const ProductDetail = () => {
     // 상품 품목 정보 조회
     const fetchProductItems = useCallback(async (productId) => {
         try {
-            const response = await authRequest('get', `/product/getProductItemsByProductId/${productId}`);
+            const response = await authRequest('get', `/product/getProductItemAvailability/${productId}`);
             
             setProductItems(response.data);
         } catch (error) {
@@ -407,7 +407,7 @@ const ProductDetail = () => {
     const getSizeOptionStatus = useCallback((size) => {
         const sizeItems = productItems.filter(item => item.size === size);
         const isAllColorsSoldOut = sizeItems.every(
-            item => (item.stockQuantity - item.reservedQuantity) <= 0
+            item => !item.inStock
         );
         return {
             label: `${size}${isAllColorsSoldOut ? ' (품절)' : ''}`,
@@ -420,7 +420,7 @@ const ProductDetail = () => {
         const item = productItems.find(
             item => item.size === selectedSize && item.color === color
         );
-        const isOutOfStock = !item || (item.stockQuantity - item.reservedQuantity) <= 0;
+        const isOutOfStock = !item || !item.inStock;
         return {
             label: `${color}${isOutOfStock ? ' (품절)' : ''}`,
             disabled: isOutOfStock